@@ -0,0 +1,102 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.metric.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+// 이동 엔진 최적화 전후 비교용 기준 벤치마크
+// 실행: ./gradlew jmh (gc 프로파일러로 할당량도 함께 출력)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameServiceBenchmark {
+
+    // OPEN: 해군이 멀리 있는 상태
+    // BLOCKED: 해군이 해적 경로 일부를 막고 있는 상태
+    // SURROUNDED: 해적이 포위된 상태
+    @Param({"OPEN", "BLOCKED", "SURROUNDED"})
+    public String boardState;
+
+    private final String gameId = "B000";
+    private GameService gameService;
+    private Game game;
+    private int pirateNode;
+    private int marineNode;
+    private int investigateNode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Board board = new Board();
+        gameService = new GameServiceImpl(null, null, null, board, new GameMetrics(new SimpleMeterRegistry()), null);
+
+        game = new Game(gameId);
+        board.getGameMap().put(gameId, game);
+
+        switch (boardState) {
+            case "OPEN" -> game.setCurrentPosition(new int[]{169, 200, 293, 294});
+            case "BLOCKED" -> game.setCurrentPosition(new int[]{51, 256, 257, 243});
+            case "SURROUNDED" -> game.setCurrentPosition(new int[]{52, 257, 267, 268});
+            default -> throw new IllegalArgumentException(boardState);
+        }
+        pirateNode = game.getCurrentPosition()[0];
+        marineNode = game.getCurrentPosition()[1];
+
+        // 한 라운드 분량(15턴)의 해적 이동 경로
+        int[] route = {1, 8, 28, 30, 31, 51, 52, 55, 71, 57, 73, 56, 39, 40, 59};
+        for (int node : route) {
+            game.getPirateRoute().add(node);
+        }
+        investigateNode = route[route.length - 1];
+
+        gameService.findMarineInvestigableNode(gameId, 1);
+        if (game.getInvestigate().getNodes() == null) {
+            game.getInvestigate().setNodes(new HashMap<>());
+        }
+    }
+
+    // 조사 성공 목록, 보물 목록이 반복 호출로 계속 커지지 않도록 초기화
+    @Setup(Level.Iteration)
+    public void resetAccumulatedState() {
+        game.getInvestigateSuccess().clear();
+        game.clearTreasures();
+    }
+
+    @Benchmark
+    public HashMap<Integer, Deque<Integer>> findPirateAvailableNode() {
+        return gameService.findPirateAvailableNode(gameId, pirateNode);
+    }
+
+    @Benchmark
+    public HashMap<Integer, Deque<Integer>> findMarineAvailableNode() {
+        return gameService.findMarineAvailableNode(gameId, marineNode);
+    }
+
+    @Benchmark
+    public int[] findMarineArrestableNode() {
+        return gameService.findMarineArrestableNode(gameId, 1);
+    }
+
+    @Benchmark
+    public boolean investigateHit() {
+        return gameService.investigate(gameId, investigateNode, 1);
+    }
+
+    @Benchmark
+    public boolean investigateMiss() {
+        return gameService.investigate(gameId, 189, 1);
+    }
+
+    @Benchmark
+    public int[] setPirateTreasure() {
+        return gameService.setPirateTreasure(gameId);
+    }
+}
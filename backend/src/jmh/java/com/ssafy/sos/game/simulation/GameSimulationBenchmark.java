@@ -0,0 +1,29 @@
+package com.ssafy.sos.game.simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 타이머, 소켓을 뺀 게임 규칙 전체(턴 진행 ~ 게임 종료)의 처리량 측정
+// 실행: ./gradlew jmh -Pjmh.includes=GameSimulationBenchmark
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameSimulationBenchmark {
+
+    // 한 번의 호출에서 동시에 진행되는 게임 수
+    @Param({"1", "100"})
+    public int games;
+
+    private long seed;
+
+    // 결과(ops/s) x games = 초당 진행 완료된 게임 수
+    @Benchmark
+    public SimulationResult simulate() {
+        // 매 호출마다 seed 를 바꿔 같은 게임만 반복 측정하지 않도록 함
+        return new GameSimulator(SimulationConfig.builder().games(games).seed(seed++).build()).run();
+    }
+}
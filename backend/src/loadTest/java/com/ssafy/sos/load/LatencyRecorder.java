@@ -0,0 +1,84 @@
+package com.ssafy.sos.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 액션 종류별 응답 지연시간(ns) 수집 및 백분위 계산
+public class LatencyRecorder {
+    private final Map<String, Samples> samplesByAction = new ConcurrentHashMap<>();
+
+    public void record(String action, long latencyNanos) {
+        samplesByAction.computeIfAbsent(action, key -> new Samples()).add(latencyNanos);
+    }
+
+    public long totalCount() {
+        long count = 0;
+        for (Samples samples : samplesByAction.values()) {
+            count += samples.size();
+        }
+        return count;
+    }
+
+    public String report(long elapsedNanos) {
+        StringBuilder sb = new StringBuilder();
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        sb.append(String.format("%-22s %8s %9s %9s %9s %9s%n", "action", "count", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+
+        Samples all = new Samples();
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(samplesByAction).entrySet()) {
+            long[] sorted = entry.getValue().sorted();
+            all.addAll(sorted);
+            sb.append(line(entry.getKey(), sorted));
+        }
+        sb.append(line("ALL", all.sorted()));
+        sb.append(String.format("throughput: %.1f actions/s (%d actions in %.1fs)%n",
+                totalCount() / elapsedSeconds, totalCount(), elapsedSeconds));
+        return sb.toString();
+    }
+
+    private static String line(String action, long[] sorted) {
+        return String.format("%-22s %8d %9.2f %9.2f %9.2f %9.2f%n", action, sorted.length,
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 90)),
+                millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        synchronized void addAll(long[] others) {
+            for (long other : others) {
+                add(other);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ssafy.sos.load;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 실행 인자 ex) --url=http://localhost:8080 --games=500 --concurrency=200 --mode=ONE_VS_THREE
+@Getter
+public class LoadTestConfig {
+    private final String url;
+    private final int games;
+    private final int concurrency;
+    private final String gameMode;
+    private final long minThinkMillis;
+    private final long maxThinkMillis;
+    private final double timeoutRate;
+    private final double arrestRate;
+    private final long rampUpMillis;
+    private final long gameTimeoutMinutes;
+    private final long seed;
+
+    private LoadTestConfig(Map<String, String> args) {
+        this.url = args.getOrDefault("url", "http://localhost:8080");
+        this.games = Integer.parseInt(args.getOrDefault("games", "100"));
+        this.concurrency = Integer.parseInt(args.getOrDefault("concurrency", "100"));
+        this.gameMode = args.getOrDefault("mode", "ONE_VS_THREE");
+        this.minThinkMillis = Long.parseLong(args.getOrDefault("min-think", "300"));
+        this.maxThinkMillis = Long.parseLong(args.getOrDefault("max-think", "3000"));
+        this.timeoutRate = Double.parseDouble(args.getOrDefault("timeout-rate", "0.05"));
+        this.arrestRate = Double.parseDouble(args.getOrDefault("arrest-rate", "0.2"));
+        this.rampUpMillis = Long.parseLong(args.getOrDefault("ramp-up", "10000"));
+        this.gameTimeoutMinutes = Long.parseLong(args.getOrDefault("game-timeout", "30"));
+        this.seed = Long.parseLong(args.getOrDefault("seed", "42"));
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> parsed = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            parsed.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(parsed);
+    }
+
+    public int playersPerGame() {
+        return gameMode.equals("ONE_VS_ONE") ? 2 : 4;
+    }
+
+    public String webSocketUrl() {
+        return url.replaceFirst("^http", "ws") + "/sos";
+    }
+}
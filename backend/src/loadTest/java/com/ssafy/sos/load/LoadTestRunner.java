@@ -0,0 +1,139 @@
+package com.ssafy.sos.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 로컬에 띄운 서버를 대상으로 N개의 게임을 동시에 진행시키는 부하 발생기
+// 실행: ./gradlew loadTest -PloadArgs="--games=500 --concurrency=200"
+public class LoadTestRunner {
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final WebSocketStompClient stompClient;
+    private final ScheduledExecutorService thinkScheduler = Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors());
+
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Map<String, AtomicInteger> results = new ConcurrentHashMap<>();
+
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.initialize();
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        this.stompClient.setTaskScheduler(heartbeatScheduler);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestRunner runner = new LoadTestRunner(LoadTestConfig.parse(args));
+        runner.run();
+        System.exit(0);
+    }
+
+    public void run() throws InterruptedException {
+        Semaphore slots = new Semaphore(config.getConcurrency());
+        ExecutorService games = Executors.newCachedThreadPool();
+        long rampUpStep = config.getGames() == 0 ? 0 : config.getRampUpMillis() / config.getGames();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < config.getGames(); i++) {
+            slots.acquire();
+            int gameIndex = i;
+            games.submit(() -> {
+                try {
+                    playGame(gameIndex);
+                } finally {
+                    slots.release();
+                }
+            });
+            Thread.sleep(rampUpStep);
+        }
+        games.shutdown();
+        games.awaitTermination(config.getGameTimeoutMinutes() + 1, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(recorder.report(elapsed));
+        System.out.printf("games: %d finished, %d failed, %.1f games/min%n",
+                finished.get(), failed.get(), finished.get() / (elapsed / 60_000_000_000.0));
+        results.forEach((result, count) -> System.out.printf("  %-45s %d%n", result, count.get()));
+        thinkScheduler.shutdownNow();
+    }
+
+    private void playGame(int gameIndex) {
+        List<SimulatedPlayer> players = new ArrayList<>();
+        try {
+            String prefix = "lt" + gameIndex + "-";
+            String gameId = makeRoom(prefix + 0);
+            for (int i = 1; i < config.playersPerGame(); i++) {
+                enterRoom(prefix + i, gameId);
+            }
+
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < config.playersPerGame(); i++) {
+                SimulatedPlayer player = new SimulatedPlayer(prefix + i, gameId, i == 0, config, recorder,
+                        thinkScheduler, config.getSeed() * 31 + gameIndex * 4L + i);
+                players.add(player);
+                futures.add(player.getResult());
+                stompClient.connectAsync(config.webSocketUrl(), player);
+            }
+
+            // 게임이 끝나면 모든 플레이어가 GAME_OVER 메시지를 받음
+            String result = CompletableFuture.anyOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .get(config.getGameTimeoutMinutes(), TimeUnit.MINUTES)
+                    .toString();
+            results.computeIfAbsent(result, key -> new AtomicInteger()).incrementAndGet();
+            finished.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            System.out.println("game " + gameIndex + " failed: " + e);
+        } finally {
+            players.forEach(SimulatedPlayer::disconnect);
+        }
+    }
+
+    private String makeRoom(String nickname) throws Exception {
+        JsonNode room = post("/room/make", Map.of("nickname", nickname, "gameMode", config.getGameMode()));
+        return room.path("gameId").asText();
+    }
+
+    private void enterRoom(String nickname, String gameId) throws Exception {
+        JsonNode room = post("/room/enter", Map.of("nickname", nickname, "gameId", gameId));
+        if (!room.isObject()) {
+            throw new IllegalStateException("enter room failed: " + room);
+        }
+    }
+
+    private JsonNode post(String path, Map<String, String> body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getUrl() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        String responseBody = response.body();
+        // ROOM_NOT_EXIST 같은 문자열 응답은 JSON이 아님
+        if (!responseBody.startsWith("{")) {
+            return objectMapper.getNodeFactory().textNode(responseBody);
+        }
+        return objectMapper.readTree(responseBody);
+    }
+}
@@ -0,0 +1,235 @@
+package com.ssafy.sos.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// /pub/room, /pub/init, /pub/game 프로토콜로 한 명의 플레이어를 흉내내는 STOMP 클라이언트
+public class SimulatedPlayer extends StompSessionHandlerAdapter {
+    private static final String[] ROLE_NAMES = {"PIRATE", "MARINE_ONE", "MARINE_TWO", "MARINE_THREE"};
+    private static final int[] MARINE_START_LIST = {200, 293, 294, 297, 306, 309};
+
+    private final String nickname;
+    private final String gameId;
+    private final boolean host;
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder;
+    private final ScheduledExecutorService thinkScheduler;
+    private final Random random;
+
+    // 내가 맡은 역할 번호 (1:1 모드에서는 해군 3명을 모두 맡음)
+    private final Set<Integer> myRoles = ConcurrentHashMap.newKeySet();
+    // 보낸 액션 : 전송 시각 (ACTION_ 응답을 받으면 지연시간 기록)
+    private final Map<String, Long> pendingActions = new ConcurrentHashMap<>();
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+
+    private volatile StompSession session;
+    private volatile boolean startClicked;
+    private volatile boolean rendered;
+    private volatile boolean gameStarted;
+
+    public SimulatedPlayer(String nickname, String gameId, boolean host, LoadTestConfig config,
+                           LatencyRecorder recorder, ScheduledExecutorService thinkScheduler, long seed) {
+        this.nickname = nickname;
+        this.gameId = gameId;
+        this.host = host;
+        this.config = config;
+        this.recorder = recorder;
+        this.thinkScheduler = thinkScheduler;
+        this.random = new Random(seed);
+    }
+
+    public CompletableFuture<String> getResult() {
+        return result;
+    }
+
+    public void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        session.subscribe("/sub/" + gameId, this);
+        send("/pub/room", message("ENTER_ROOM"));
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        result.completeExceptionally(exception);
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        result.completeExceptionally(exception);
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return JsonNode.class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        JsonNode frame = (JsonNode) payload;
+        String message = frame.path("message").asText("");
+        JsonNode game = frame.path("game");
+        if (game.has("players")) {
+            updateRoles(game.path("players"));
+        }
+
+        recordAck(message);
+
+        // 대기실 ~ 게임 시작
+        if (message.equals("PREPARE_GAME_START") && host && !startClicked) {
+            startClicked = true;
+            send("/pub/room", message("START_BUTTON_CLICKED"));
+        } else if (message.equals("START_BUTTON_CLICKED") && !rendered) {
+            rendered = true;
+            send("/pub/room", message("RENDERED_COMPLETE"));
+        } else if (message.equals("ALL_RENDERED_COMPLETED") && host && !gameStarted) {
+            gameStarted = true;
+            send("/pub/init", message("START_GAME"));
+        } else if (message.startsWith("ORDER_")) {
+            onOrder(message, frame, game);
+        } else if (message.startsWith("GAME_OVER")) {
+            result.complete(message);
+        }
+    }
+
+    private void onOrder(String message, JsonNode frame, JsonNode game) {
+        String order = message.substring("ORDER_".length());
+        int role = roleOf(order);
+        if (role < 0 || !myRoles.contains(role)) return;
+
+        // 일정 비율은 응답하지 않아 서버의 타임아웃 처리 경로도 부하에 포함
+        if (random.nextDouble() < config.getTimeoutRate()) return;
+
+        Map<String, Object> response;
+        String destination = "/pub/game";
+        if (order.startsWith("INIT_")) {
+            destination = "/pub/init";
+            response = message(order);
+            response.put("node", role == 0 ? pickTreasure(game) : pickMarineStart(game));
+        } else if (order.startsWith("MOVE_")) {
+            response = message(order);
+            response.put("node", pickKey(frame.path("availableNode")));
+        } else if (order.startsWith("SELECT_WORK_")) {
+            response = message(order);
+            response.put("action", random.nextDouble() < config.getArrestRate() ? "ARREST" : "INVESTIGATE");
+        } else if (order.startsWith("INVESTIGATE_")) {
+            response = message(order);
+            response.put("node", pickUninvestigated(game.path("investigate").path("nodes")));
+        } else if (order.startsWith("ARREST_")) {
+            response = message(order);
+            response.put("node", pickElement(frame.path("arrestableNode")));
+        } else {
+            return;
+        }
+
+        String finalDestination = destination;
+        long thinkMillis = config.getMinThinkMillis()
+                + (long) (random.nextDouble() * (config.getMaxThinkMillis() - config.getMinThinkMillis()));
+        thinkScheduler.schedule(() -> {
+            pendingActions.put((String) response.get("message"), System.nanoTime());
+            send(finalDestination, response);
+        }, thinkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ACTION_MOVE_PIRATE, ACTION_INVESTIGATE_MARINE_ONE_SUCCESS 처럼 보낸 액션에 대한 브로드캐스트 수신
+    private void recordAck(String message) {
+        if (pendingActions.isEmpty()) return;
+        for (Map.Entry<String, Long> entry : pendingActions.entrySet()) {
+            String action = entry.getKey();
+            boolean acked = message.startsWith("ACTION_" + action)
+                    || (action.startsWith("ARREST_") && message.startsWith("GAME_OVER"));
+            if (acked && pendingActions.remove(action, entry.getValue())) {
+                String role = ROLE_NAMES[roleOf(action)];
+                recorder.record(action.replace("_" + role, ""), System.nanoTime() - entry.getValue());
+            }
+        }
+    }
+
+    private void updateRoles(JsonNode players) {
+        Iterator<Map.Entry<String, JsonNode>> fields = players.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            if (nickname.equals(entry.getValue().path("nickname").asText())) {
+                myRoles.add(Integer.parseInt(entry.getKey()));
+            }
+        }
+    }
+
+    private int roleOf(String text) {
+        // MARINE_THREE 등이 PIRATE 보다 먼저 매칭되도록 뒤에서부터 검사
+        for (int role = ROLE_NAMES.length - 1; role >= 0; role--) {
+            if (text.contains(ROLE_NAMES[role])) return role;
+        }
+        return -1;
+    }
+
+    private int pickTreasure(JsonNode game) {
+        return pickKey(game.path("treasures"));
+    }
+
+    private int pickMarineStart(JsonNode game) {
+        List<Integer> candidates = new ArrayList<>();
+        JsonNode position = game.path("currentPosition");
+        for (int node : MARINE_START_LIST) {
+            boolean taken = false;
+            for (int role = 1; role < 4; role++) {
+                taken |= position.path(role).asInt() == node;
+            }
+            if (!taken) candidates.add(node);
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private int pickKey(JsonNode object) {
+        List<String> keys = new ArrayList<>();
+        object.fieldNames().forEachRemaining(keys::add);
+        if (keys.isEmpty()) return 0;
+        return Integer.parseInt(keys.get(random.nextInt(keys.size())));
+    }
+
+    private int pickUninvestigated(JsonNode nodes) {
+        List<Integer> candidates = new ArrayList<>();
+        nodes.fields().forEachRemaining(entry -> {
+            if (!entry.getValue().asBoolean()) candidates.add(Integer.parseInt(entry.getKey()));
+        });
+        if (candidates.isEmpty()) return 0;
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private int pickElement(JsonNode array) {
+        if (!array.isArray() || array.isEmpty()) return 0;
+        return array.get(random.nextInt(array.size())).asInt();
+    }
+
+    private Map<String, Object> message(String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("gameId", gameId);
+        body.put("sender", nickname);
+        body.put("message", message);
+        return body;
+    }
+
+    private void send(String destination, Map<String, Object> body) {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.send(destination, body);
+        }
+    }
+}
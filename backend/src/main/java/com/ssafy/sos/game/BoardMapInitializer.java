@@ -0,0 +1,92 @@
+package com.ssafy.sos.game;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.BoardMap;
+import com.ssafy.sos.game.domain.BoardMapLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 외부 디렉터리(sos.board.map-dir)의 *.map 파일을 지도로 등록
+// 서버 시작 시 잘못된 지도가 있으면 시작하지 않고, 이후에는 주기적으로 다시 읽어 추가, 수정된 지도만 반영 (재배포 없이 지도 추가)
+// 같은 id 의 지도를 수정하면 이후 시작하는 게임부터 새 지도가 쓰임 (진행 중인 게임은 시작할 때 고정한 지도 유지)
+@Slf4j
+@Component
+public class BoardMapInitializer {
+    private final Board board;
+    private final Path mapDir;
+    // 파일 : 마지막으로 읽은 수정 시각
+    private final Map<Path, Long> loadedAt = new HashMap<>();
+
+    public BoardMapInitializer(Board board, @Value("${sos.board.map-dir:}") String mapDir) {
+        this.board = board;
+        this.mapDir = mapDir.isBlank() ? null : Path.of(mapDir);
+        if (this.mapDir != null) {
+            scan(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sos.board.map-scan-interval-ms:60000}")
+    public void rescan() {
+        if (mapDir != null) {
+            scan(false);
+        }
+    }
+
+    private synchronized void scan(boolean failFast) {
+        if (!Files.isDirectory(mapDir)) {
+            if (failFast) {
+                throw new IllegalStateException("지도 디렉터리 없음 : " + mapDir);
+            }
+            return;
+        }
+        try (Stream<Path> files = Files.list(mapDir)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".map"))
+                    .sorted()
+                    .forEach(file -> load(file, failFast));
+        } catch (IOException e) {
+            if (failFast) throw new UncheckedIOException(e);
+            log.warn("board map scan failed: {} {}", mapDir, e.getMessage());
+        }
+    }
+
+    private void load(Path file, boolean failFast) {
+        try {
+            long modifiedAt = Files.getLastModifiedTime(file).toMillis();
+            if (loadedAt.getOrDefault(file, -1L) == modifiedAt) return;
+
+            BoardMap map;
+            try (InputStream in = Files.newInputStream(file)) {
+                map = BoardMapLoader.load(file.toString(), in);
+            }
+            if (map.getId().equals(BoardMap.DEFAULT_ID)) {
+                throw new IllegalStateException("기본 지도 id 는 덮어쓸 수 없음 : " + file);
+            }
+            board.registerMap(map);
+            loadedAt.put(file, modifiedAt);
+            log.info("board map loaded: {} ({}, {} nodes)", map.getId(), file, map.getNodeCount());
+        } catch (IOException | RuntimeException e) {
+            // 파일 하나가 잘못되어도 나머지 파일은 계속 읽음 (BoardMapLoader 는 읽기 실패를 UncheckedIOException 으로 던짐)
+            if (failFast) {
+                throw new IllegalStateException("지도 등록 실패 : " + file, e);
+            }
+            // 운영 중에는 기존 지도를 유지하고 같은 파일은 수정될 때까지 다시 읽지 않음
+            log.warn("board map load failed: {} {}", file, e.getMessage());
+            try {
+                loadedAt.put(file, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException ignored) {
+                // 파일이 사라진 경우, 다음 scan 에서 다시 시도
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy.sos.game;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.UUID;
+
+// 소켓 연결마다 principal 지정 (로그인 사용자는 인증 정보, 비회원은 임의의 guest 아이디)
+// principal 이 있어야 브로커가 사용자별로 세션을 색인하고 /user/sub/.. 로 그 사용자에게만 보낼 수 있음
+public class GameHandshakeHandler extends DefaultHandshakeHandler {
+    public static final String GUEST_PREFIX = "guest-";
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Principal principal = super.determineUser(request, wsHandler, attributes);
+        if (principal != null) return principal;
+        return new GuestPrincipal(GUEST_PREFIX + UUID.randomUUID());
+    }
+
+    public record GuestPrincipal(String name) implements Principal {
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.sos.game;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -15,11 +16,16 @@ public class GameSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompHandler stompHandler;
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
 
+    // 클라이언트로 보내는 스레드 수 (기본값은 스프링 기본 설정과 같은 코어 수 * 2)
+    @Value("${sos.outbound.threads:0}")
+    private int outboundThreads;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         //클라이언트가 요청보내는 소켓 연결 주소
         registry.addEndpoint("/sos")
                 .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(new GameHandshakeHandler())
                 .addInterceptors(customHandshakeInterceptor);
     }
 
@@ -32,10 +38,19 @@ public class GameSocketConfig implements WebSocketMessageBrokerConfigurer {
         //sub으로 시작되는 요청을 구독한 모든 사용자들에게 메시지를 broadcast한다.
         //채널링은 추후에 해야함
         registry.enableSimpleBroker("/sub");
+        // 특정 사용자에게만 보내는 메시지는 /user/sub/.. 를 구독 (세션별 목적지로 바뀌므로 다른 사람이 구독할 수 없음)
+        registry.setUserDestinationPrefix("/user");
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
     }
+
+    // 채팅, 관전 메시지가 쌓여도 게임 진행 메시지가 먼저 나가도록 lane 우선순위 큐 사용
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        int threads = outboundThreads > 0 ? outboundThreads : Runtime.getRuntime().availableProcessors() * 2;
+        registration.executor(new OutboundLaneExecutor(threads));
+    }
 }
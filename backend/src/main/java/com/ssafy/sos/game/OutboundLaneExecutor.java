@@ -0,0 +1,69 @@
+package com.ssafy.sos.game;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 서버 -> 클라이언트 전송(clientOutboundChannel) 작업 큐를 우선순위 큐로 바꾼 executor
+// 전송이 밀려 큐에 쌓였을 때 게임 진행 메시지(/sub/{gameId})가 채팅(/sub/{gameId}/chat), 방 목록(/sub/lobby), 관전(/sub/spectate/..) 보다 먼저 나감
+// 같은 lane 안에서는 들어온 순서 유지
+public class OutboundLaneExecutor extends ThreadPoolTaskExecutor {
+    public enum Lane {
+        CONTROL, CHAT, LOBBY, SPECTATE
+    }
+
+    private static final String SPECTATE_PREFIX = "/sub/spectate/";
+    private static final String CHAT_SUFFIX = "/chat";
+    private static final String LOBBY = "/sub/lobby";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public OutboundLaneExecutor(int threads) {
+        setCorePoolSize(threads);
+        setMaxPoolSize(threads);
+    }
+
+    public static Lane laneOf(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) return Lane.CONTROL; // 연결 응답, 하트비트 등
+        if (destination.startsWith(SPECTATE_PREFIX)) return Lane.SPECTATE;
+        if (destination.equals(LOBBY)) return Lane.LOBBY;
+        if (destination.endsWith(CHAT_SUFFIX)) return Lane.CHAT;
+        return Lane.CONTROL;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Lane lane = task instanceof MessageHandlingRunnable runnable ? laneOf(runnable.getMessage()) : Lane.CONTROL;
+        super.execute(new LaneTask(task, lane, sequence.getAndIncrement()));
+    }
+
+    @Override
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        // 우선순위 큐는 크기 제한이 없으므로 queueCapacity 는 사용하지 않음
+        return new PriorityBlockingQueue<>(64, Comparator
+                .comparingInt(OutboundLaneExecutor::laneOrder)
+                .thenComparingLong(OutboundLaneExecutor::sequenceOf));
+    }
+
+    private static int laneOrder(Runnable task) {
+        return task instanceof LaneTask laneTask ? laneTask.lane.ordinal() : Lane.CONTROL.ordinal();
+    }
+
+    private static long sequenceOf(Runnable task) {
+        return task instanceof LaneTask laneTask ? laneTask.sequence : 0;
+    }
+
+    private record LaneTask(Runnable task, Lane lane, long sequence) implements Runnable {
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
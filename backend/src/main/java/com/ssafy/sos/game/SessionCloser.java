@@ -0,0 +1,28 @@
+package com.ssafy.sos.game;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+// 서버 쪽에서 소켓 세션을 끊음 (중복 접속으로 밀려난 이전 세션 정리용)
+// STOMP ERROR 프레임을 보내면 StompSubProtocolHandler 가 프레임을 보낸 뒤 웹소켓을 닫고, 이후 disconnect 이벤트가 발생
+@Component
+public class SessionCloser {
+    private final MessageChannel clientOutboundChannel;
+
+    public SessionCloser(@Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    // reason 은 ERROR 프레임의 message 헤더로 전달
+    public void close(String sessionId, String reason) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setSessionId(sessionId);
+        accessor.setMessage(reason);
+        accessor.setLeaveMutable(true);
+        clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.ssafy.sos.game.bot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BotAction {
+    private final int node;
+    // 행동 선택 응답일 때만 사용 (INVESTIGATE, ARREST)
+    private final String action;
+}
@@ -0,0 +1,29 @@
+package com.ssafy.sos.game.bot;
+
+import com.ssafy.sos.game.domain.BoardMap;
+import com.ssafy.sos.game.util.GameRole;
+import lombok.Builder;
+import lombok.Getter;
+
+// 명령 시점의 게임 상태 복사본 (봇 스레드에서 Game 을 직접 읽지 않도록 함)
+// 해군 봇에게는 해적 위치를 넣지 않아 해군이 볼 수 있는 정보만으로 판단하게 함
+@Getter
+@Builder
+public class BotContext {
+    private final String gameId;
+    // 응답을 보낼 때 함께 돌려주는 명령 번호
+    private final long orderId;
+    // 게임에 고정된 지도
+    private final BoardMap map;
+    private final GameRole role;
+    private final BotOrder order;
+    // 선택 가능한 노드 (시작 위치, 이동, 조사, 체포 후보)
+    private final int[] candidates;
+    // 역할별 현재 위치 (해군 봇이면 해적 위치는 0)
+    private final int[] positions;
+    private final int[] closedTreasures;
+    private final int[] investigateSuccess;
+    // 해군 입장에서 해적이 있을 수 있는 위치 (추적 전이면 빈 배열)
+    private final int[] possiblePirateNodes;
+    private final long seed;
+}
@@ -0,0 +1,6 @@
+package com.ssafy.sos.game.bot;
+
+// 봇이 응답해야 하는 명령 종류
+public enum BotOrder {
+    INIT_START, MOVE, SELECT_WORK, INVESTIGATE, ARREST
+}
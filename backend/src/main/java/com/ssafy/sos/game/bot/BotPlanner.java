@@ -0,0 +1,195 @@
+package com.ssafy.sos.game.bot;
+
+import com.ssafy.sos.game.domain.BoardMap;
+import com.ssafy.sos.game.util.GameRole;
+import com.ssafy.sos.game.util.NodeSet;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// 봇의 다음 행동 결정
+// 후보마다 BFS 거리 기반 점수를 매기고, 시간이 남으면 해적은 이동 후 도망칠 수 있는 칸 수까지 따져 점수를 보정
+// deadline 을 넘기면 그때까지 가장 좋은 후보를 반환 (해군은 거리 계산을 끝내지 못하면 무작위 후보)
+public class BotPlanner {
+    private static final int UNREACHABLE = 1_000;
+
+    private final int[][] graph;
+
+    public BotPlanner(int[][] graph) {
+        this.graph = graph;
+    }
+
+    public BotAction plan(BotContext context, long deadlineNanos) {
+        Random random = new Random(context.getSeed());
+        int[] candidates = context.getCandidates();
+
+        return switch (context.getOrder()) {
+            case INIT_START -> new BotAction(context.getRole() == GameRole.PIRATE
+                    ? pick(candidates, random)
+                    : closestTo(candidates, targets(context), deadlineNanos, random), null);
+            case MOVE -> new BotAction(context.getRole() == GameRole.PIRATE
+                    ? pirateMove(context, deadlineNanos, random)
+                    : closestTo(candidates, targets(context), deadlineNanos, random), null);
+            case SELECT_WORK -> new BotAction(0, shouldArrest(context) ? "ARREST" : "INVESTIGATE");
+            case INVESTIGATE, ARREST -> new BotAction(closestTo(candidates, targets(context), deadlineNanos, random), null);
+        };
+    }
+
+    // 해적: 닫힌 보물에 가까울수록, 해군에게서 멀수록 좋음
+    private int pirateMove(BotContext context, long deadlineNanos, Random random) {
+        int[] candidates = context.getCandidates();
+        if (candidates.length == 0) return 0;
+
+        int[] marines = Arrays.copyOfRange(context.getPositions(), 1, context.getPositions().length);
+        int[] treasureDistance = distances(context.getClosedTreasures());
+        int[] marineDistance = distances(marines);
+        NodeSet marineNodes = new NodeSet();
+        for (int marine : marines) {
+            marineNodes.add(marine);
+        }
+
+        // 1단계: 거리만으로 점수 (항상 수행)
+        int[] scores = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            int node = candidates[i];
+            scores[i] = Math.min(marineDistance[node], 4) * 3 - treasureDistance[node] * 2;
+        }
+
+        // 2단계: 시간이 남는 동안 점수 높은 후보부터 이동 후 선택지 수 반영
+        Integer[] order = new Integer[candidates.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> scores[b] - scores[a]);
+        for (Integer index : order) {
+            if (System.nanoTime() > deadlineNanos) break;
+            scores[index] += Math.min(escapeCount(candidates[index], marineNodes), 20) / 4;
+        }
+        return best(candidates, scores, random);
+    }
+
+    // 해군: 해적이 있을 법한 곳에 가까운 후보
+    // 탐색 중 deadline 을 넘기면 후보 중 무작위로 선택
+    private int closestTo(int[] candidates, int[] targets, long deadlineNanos, Random random) {
+        if (candidates.length == 0) return 0;
+        int[] distance = distances(targets, deadlineNanos);
+        if (distance == null) return pick(candidates, random);
+        int[] scores = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            scores[i] = -distance[candidates[i]];
+        }
+        return best(candidates, scores, random);
+    }
+
+    // 해적 후보 중 절반 이상이 체포 가능 범위 안이면 체포 시도
+    // 추적 정보가 없으면 가장 최근 조사 성공 지점이 체포 가능 범위 안일 때 시도
+    private boolean shouldArrest(BotContext context) {
+        int position = context.getPositions()[context.getRole().getRoleNumber()];
+        int[] possible = context.getPossiblePirateNodes();
+        if (possible.length > 0) {
+            int inRange = 0;
+            for (int node : possible) {
+                for (int next : graph[position]) {
+                    if (next == node) {
+                        inRange++;
+                        break;
+                    }
+                }
+            }
+            return inRange * 2 >= possible.length;
+        }
+
+        int[] success = context.getInvestigateSuccess();
+        if (success.length == 0) return false;
+        int last = success[success.length - 1];
+        for (int next : graph[position]) {
+            if (next == last) return true;
+        }
+        return false;
+    }
+
+    // 해군이 추정하는 해적 위치: 추적 중인 후보, 없으면 조사 성공 지점, 그것도 없으면 닫힌 보물
+    private int[] targets(BotContext context) {
+        if (context.getPossiblePirateNodes().length > 0) {
+            return context.getPossiblePirateNodes();
+        }
+        int[] success = context.getInvestigateSuccess();
+        if (success.length > 0) {
+            return new int[] {success[success.length - 1]};
+        }
+        return context.getClosedTreasures();
+    }
+
+    private int best(int[] candidates, int[] scores, Random random) {
+        int bestScore = Integer.MIN_VALUE;
+        int bestCount = 0;
+        int bestNode = candidates[0];
+        for (int i = 0; i < candidates.length; i++) {
+            if (scores[i] > bestScore) {
+                bestScore = scores[i];
+                bestNode = candidates[i];
+                bestCount = 1;
+            } else if (scores[i] == bestScore && random.nextInt(++bestCount) == 0) {
+                // 동점이면 균등하게 하나 선택
+                bestNode = candidates[i];
+            }
+        }
+        return bestNode;
+    }
+
+    private static int pick(int[] candidates, Random random) {
+        if (candidates.length == 0) return 0;
+        return candidates[random.nextInt(candidates.length)];
+    }
+
+    // 여러 시작점으로부터의 BFS 거리
+    private int[] distances(int[] sources) {
+        return distances(sources, Long.MAX_VALUE);
+    }
+
+    // deadline 을 넘기면 null
+    private int[] distances(int[] sources, long deadlineNanos) {
+        int[] distance = new int[graph.length];
+        Arrays.fill(distance, UNREACHABLE);
+        int[] queue = new int[graph.length];
+        int head = 0, tail = 0;
+        for (int source : sources) {
+            if (source <= 0 || distance[source] == 0) continue;
+            distance[source] = 0;
+            queue[tail++] = source;
+        }
+        while (head < tail) {
+            // 노드마다 시각을 읽지 않도록 64개마다 확인
+            if ((head & 63) == 0 && System.nanoTime() > deadlineNanos) return null;
+            int now = queue[head++];
+            for (int next : graph[now]) {
+                if (distance[next] == UNREACHABLE) {
+                    distance[next] = distance[now] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return distance;
+    }
+
+    // node 에서 해군 노드를 건너 도달할 수 있는 해적 노드 수 (findPirateAvailableNode 와 같은 규칙)
+    private int escapeCount(int node, NodeSet marineNodes) {
+        boolean[] visited = new boolean[graph.length];
+        int[] queue = new int[graph.length];
+        int head = 0, tail = 0, count = 0;
+        queue[tail++] = node;
+        visited[node] = true;
+        while (head < tail) {
+            int now = queue[head++];
+            for (int next : graph[now]) {
+                if (visited[next]) continue;
+                visited[next] = true;
+                if (marineNodes.contains(next)) continue;
+                if (next <= BoardMap.PIRATE_NODE_LIMIT) {
+                    count++;
+                } else {
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return count;
+    }
+}
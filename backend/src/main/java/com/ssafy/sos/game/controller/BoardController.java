@@ -0,0 +1,98 @@
+package com.ssafy.sos.game.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.BoardMap;
+import com.ssafy.sos.game.message.server.BoardDefinition;
+import com.ssafy.sos.game.util.StaticPayload;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 보드 정보 조회
+// GET /board?mapId=    : 지도의 현재 버전, 매번 ETag 로 재검증 (바뀌지 않았으면 304, mapId 없으면 기본 지도)
+// GET /board/{version} : 해당 버전은 내용이 바뀌지 않으므로 1년 캐시
+@Controller
+@RequestMapping("/board")
+public class BoardController {
+    private final Board board;
+    private final ObjectMapper objectMapper;
+    // 지도마다 처음 요청될 때 한 번만 직렬화, 압축 (같은 id 로 지도가 바뀌면 다시 만듦)
+    private final Map<BoardMap, StaticPayload> payloads = new ConcurrentHashMap<>();
+
+    public BoardController(Board board, ObjectMapper objectMapper) {
+        this.board = board;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> board(@RequestParam(required = false) String mapId,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond(payload(board.getMap(mapId)), CacheControl.noCache(), ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping("/{version}")
+    public ResponseEntity<byte[]> boardVersion(@PathVariable String version,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // 지도 수가 적으므로 순회하여 버전 검색
+        for (BoardMap map : board.getMaps().values()) {
+            StaticPayload payload = payload(map);
+            if (payload.getVersion().equals(version)) {
+                return respond(payload, CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable(),
+                        ifNoneMatch, acceptEncoding);
+            }
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    private StaticPayload payload(BoardMap map) {
+        StaticPayload payload = payloads.get(map);
+        if (payload != null) return payload;
+        // 같은 id 로 교체되기 전 지도의 payload 정리
+        payloads.keySet().removeIf(old -> old.getId().equals(map.getId()));
+        return payloads.computeIfAbsent(map, key -> {
+            try {
+                return new StaticPayload(objectMapper.writeValueAsBytes(BoardDefinition.from(key)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private ResponseEntity<byte[]> respond(StaticPayload payload, CacheControl cacheControl,
+                                           String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (payload.matches(ifNoneMatch, gzip)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.getETag(gzip))
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(payload.getETag(gzip))
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header("X-Board-Version", payload.getVersion())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+        }
+        return response.body(payload.getRaw());
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.sos.game.controller;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.PlayerSession;
+import com.ssafy.sos.game.message.client.ClientMessage;
+import com.ssafy.sos.game.message.server.ChatBatchMessage;
+import com.ssafy.sos.game.message.server.ServerMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class ChatController {
+    private final Board board;
+    private final ChatService chatService;
+    private final GameMetrics gameMetrics;
+
+    // 채팅 (전송 한도를 넘으면 보낸 세션에게만 CHAT_RATE_LIMITED)
+    @MessageMapping("/chat/{gameId}")
+    @SendToUser(destinations = "/sub/chat", broadcast = false)
+    public ServerMessage chat(@DestinationVariable String gameId, ClientMessage message,
+                              SimpMessageHeaderAccessor accessor) {
+        long start = System.nanoTime();
+        try {
+            return handleChat(gameId, message, accessor.getSessionId());
+        } finally {
+            // 채팅 내용이 태그에 들어가지 않도록 고정 메시지로 기록
+            gameMetrics.recordHandler("chat", "CHATTING", start);
+        }
+    }
+
+    // 입장, 재접속 시 /pub/chat/{gameId}/history 를 구독하면 최근 채팅을 한 번 받음
+    // 채팅을 보낼 때와 같이 이 게임에 연결된 세션에게만 보여줌 (아니면 아무것도 보내지 않음)
+    @SubscribeMapping("/chat/{gameId}/history")
+    public ChatBatchMessage history(@DestinationVariable String gameId, SimpMessageHeaderAccessor accessor) {
+        if (!isBound(accessor.getSessionId(), gameId)) return null;
+        return ChatBatchMessage.builder()
+                .gameId(gameId)
+                .message("CHATTING_HISTORY")
+                .chats(chatService.getHistory(gameId))
+                .build();
+    }
+
+    private ServerMessage handleChat(String gameId, ClientMessage message, String sessionId) {
+        Game game = board.getGameMap().get(gameId);
+        if (game == null) return null;
+        game.touch();
+
+        // 이 게임에 연결된 세션의 닉네임만 사용 (클라이언트가 보낸 sender 로 다른 사람을 사칭하지 못하도록)
+        if (!isBound(sessionId, gameId)) return null;
+        PlayerSession session = board.getSessions().get(sessionId);
+        String sender = session.getNickname();
+        Integer role = session.getRole() != PlayerSession.NO_ROLE
+                ? Integer.valueOf(session.getRole())
+                : game.getPlayerRoleByNickname(sender);
+        if (role == null) return null;
+
+        if (chatService.send(gameId, sender, role, message.getMessage())) {
+            return null;
+        }
+        return ServerMessage.builder()
+                .gameId(gameId)
+                .message("CHAT_RATE_LIMITED")
+                .sender(sender)
+                .build();
+    }
+
+    private boolean isBound(String sessionId, String gameId) {
+        PlayerSession session = board.getSessions().get(sessionId);
+        return session != null && gameId.equals(session.getGameId());
+    }
+}
@@ -1,30 +1,48 @@
 package com.ssafy.sos.game.controller;
 
+import com.ssafy.sos.game.SessionCloser;
+import com.ssafy.sos.game.bot.BotOrder;
 import com.ssafy.sos.game.domain.*;
+import com.ssafy.sos.game.event.BotActionEvent;
 import com.ssafy.sos.game.event.MatchingEvent;
 import com.ssafy.sos.game.message.client.ClientMessage;
 import com.ssafy.sos.game.message.client.ClientInitMessage;
 import com.ssafy.sos.game.message.client.ClientMoveMessage;
+import com.ssafy.sos.game.message.client.ClientResumeMessage;
 import com.ssafy.sos.game.message.server.ServerArrestMessage;
 import com.ssafy.sos.game.message.server.ServerMessage;
 import com.ssafy.sos.game.message.server.ServerMoveMessage;
+import com.ssafy.sos.game.message.server.ServerResumeMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.service.BotService;
+import com.ssafy.sos.game.service.GameEventLogService;
 import com.ssafy.sos.game.service.GameService;
+import com.ssafy.sos.game.service.GameSnapshotService;
 import com.ssafy.sos.game.service.GameTimerService;
+import com.ssafy.sos.game.service.LobbyService;
+import com.ssafy.sos.game.service.ReconnectService;
+import com.ssafy.sos.game.service.SpectatorService;
+import com.ssafy.sos.game.event.ReconnectTimeoutEvent;
 import com.ssafy.sos.game.event.TimerTimeoutEvent;
+import com.ssafy.sos.game.util.GameEventType;
 import com.ssafy.sos.game.util.GameRole;
 import com.ssafy.sos.game.util.GameStatus;
+import com.ssafy.sos.game.util.PendingTimer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import java.security.Principal;
 import java.util.*;
 
 import static com.ssafy.sos.game.util.GameStatus.IN_GAME;
@@ -39,6 +57,14 @@ public class MessageController {
     private final Board board;
     private final GameService gameService;
     private final GameTimerService gameTimerService;
+    private final GameMetrics gameMetrics;
+    private final GameSnapshotService gameSnapshotService;
+    private final GameEventLogService gameEventLogService;
+    private final SpectatorService spectatorService;
+    private final ReconnectService reconnectService;
+    private final BotService botService;
+    private final LobbyService lobbyService;
+    private final SessionCloser sessionCloser;
 
     // 소켓 연결시 실행
     @EventListener
@@ -49,8 +75,9 @@ public class MessageController {
                 .toString();
 
         System.out.println(sessionId);
-        board.sessionMap.put(sessionId, new ArrayList<>());
-        System.out.println(board.getSessionMap());
+        // principal 은 GameHandshakeHandler 에서 지정 (로그인 사용자 또는 guest 아이디)
+        Principal user = event.getUser();
+        board.getSessions().connect(sessionId, user == null ? null : user.getName());
     }
 
     // 소켓 연결 해제시 실행
@@ -58,74 +85,286 @@ public class MessageController {
     public void handleDisconnectEvent(SessionDisconnectEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = accessor.getSessionId();
-        List<String> sessionMemberGame = board.getSessionMap().getOrDefault(sessionId, null);
+        PlayerSession session = board.getSessions().get(sessionId);
 
-        if (sessionMemberGame == null) return;
+        if (session == null) return;
 
-        // connect 후 방 입장 되기 전에 disconnect 됐을 경우
-        if (!sessionMemberGame.isEmpty()) {
-            String nickname = sessionMemberGame.get(0);
-            String gameId = sessionMemberGame.get(1);
-            Room room = board.getRoomMap().getOrDefault(gameId, null);
-            Game game = board.getGameMap().getOrDefault(gameId, null);
+        // connect 후 방 입장 되기 전에 disconnect 됐을 경우 바로 정리
+        if (!session.isBound()) {
+            board.getSessions().remove(sessionId);
+            return;
+        }
 
-            if (game != null) {
-                if (game.getGameStatus().equals(GameStatus.BEFORE_START)) {
-                    return;
+        String nickname = session.getNickname();
+        String gameId = session.getGameId();
+        Room room = board.getRoomMap().get(gameId);
+        Game game = board.getGameMap().get(gameId);
+
+        // 대기방에서 게임 화면으로 넘어가며 끊긴 세션 (방 퇴장으로 처리하지 않고 세션만 정리)
+        if (game != null && game.getGameStatus() == GameStatus.BEFORE_START) {
+            board.getSessions().remove(sessionId);
+            return;
+        }
+
+        if (room != null) {
+            // 대기실에서 소켓 끊기면 방 퇴장
+            board.getSessions().remove(sessionId);
+            // 방에 혼자 남아있었으면 방 폭파
+            if (room.getInRoomPlayers().size() == 1) {
+                board.getRoomMap().remove(gameId);
+                lobbyService.remove(gameId);
+                gameService.releaseRoom(gameId);
+            } else {
+                // 다음 들어온 사람에게 방장 넘김
+                if (room.getHost().getNickname().equals(nickname)) {
+                    room.setHost(room.getInRoomPlayers().get(1));
                 }
+                room.getInRoomPlayers().removeIf(player -> player.getNickname().equals(nickname));
+                lobbyService.update(room);
             }
 
-            if (room != null) {
-                // 대기실에서 소켓 끊기면 방 퇴장
-                board.getSessionMap().get(sessionId).clear();
-                // 방에 혼자 남아있었으면 방 폭파
-                if (room.getInRoomPlayers().size() == 1) {
-                    board.getRoomMap().remove(gameId);
-                } else {
-                    // 다음 들어온 사람에게 방장 넘김
-                    if (room.getHost().getNickname().equals(nickname)) {
-                        room.setHost(room.getInRoomPlayers().get(1));
-                    }
-                    room.getInRoomPlayers().removeIf(player -> player.getNickname().equals(nickname));
-                }
+            ServerMessage serverMessage = ServerMessage.builder()
+                    .message("PLAYER_LEAVED")
+                    .gameId(gameId)
+                    .room(room)
+                    .build();
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+        }
 
-                ServerMessage serverMessage = ServerMessage.builder()
-                        .message("PLAYER_LEAVED")
-                        .gameId(gameId)
-                        .room(room)
-                        .build();
-                sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+        if (game == null) {
+            board.getSessions().remove(sessionId);
+            return;
+        }
+
+        // 게임 중에 나가진 경우
+        if (game.getGameStatus() == IN_GAME) {
+            // 바로 기권패 처리하지 않고 재접속 유예 시간 동안 대기 (그동안은 타이머가 대신 진행)
+            board.getSessions().remove(sessionId);
+            reconnectService.startGrace(gameId, nickname);
+
+            ServerMessage serverMessage = ServerMessage.builder()
+                    .message("PLAYER_DISCONNECTED")
+                    .gameId(gameId)
+                    .sender(nickname)
+                    .build();
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+        }
+    }
+
+    // 재접속 유예 시간 초과
+    @EventListener
+    public void listenReconnectTimeout(ReconnectTimeoutEvent event) {
+        withGameLock(event.getGameId(), () -> handleReconnectTimeout(event));
+    }
+
+    private void handleReconnectTimeout(ReconnectTimeoutEvent event) {
+        String gameId = event.getGameId();
+        Game game = board.getGameMap().get(gameId);
+        if (game == null || game.getGameStatus() != IN_GAME) return;
+
+        // 남아있는 사람이 있으면 나간 사람의 역할을 봇이 이어서 진행
+        if (replaceWithBot(game, event.getNickname())) {
+            ServerMessage serverMessage = ServerMessage.builder()
+                    .message("PLAYER_REPLACED_BY_BOT")
+                    .gameId(gameId)
+                    .sender(event.getNickname())
+                    .build();
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+            return;
+        }
+
+        // 나간 사람이 해적이라면
+        if (game.getPlayer(0).getNickname().equals(event.getNickname())) {
+            // 해적이 기권패 했음을 모두에게 알림
+            finishGame(gameId, game, "GAME_OVER_PIRATE_LEAVED_MARINE_WIN", false);
+        }
+        // 해군이라면
+        else {
+            // 해군이 기권패 했음을 모두에게 알림
+            finishGame(gameId, game, "GAME_OVER_MARINE_LEAVED_PIRATE_WIN", true);
+        }
+        // 끝난 게임의 스냅샷 삭제
+        gameSnapshotService.markDirty(gameId);
+    }
+
+    private boolean replaceWithBot(Game game, String nickname) {
+        boolean hasOtherHuman = false;
+        for (GameRole role : GameRole.values()) {
+            Player player = game.getPlayer(role.getRoleNumber());
+            if (player != null && !player.isBot() && !player.getNickname().equals(nickname)) {
+                hasOtherHuman = true;
             }
+        }
+        if (!hasOtherHuman) return false;
 
-            if (game == null) return;
+        Player bot = Player.builder()
+                .nickname(nickname)
+                .bot(true)
+                .build();
+        for (GameRole role : GameRole.values()) {
+            Player player = game.getPlayer(role.getRoleNumber());
+            if (player != null && player.getNickname().equals(nickname)) {
+                game.setPlayer(role.getRoleNumber(), bot);
+            }
+        }
+        return true;
+    }
 
-            // 게임 중에 나가진 경우
-            if (game.getGameStatus() == IN_GAME) {
-                // 나간 사람이 해적이라면
-                if (game.getPlayers().get(0).getNickname().equals(nickname)) {
-                    // 해적이 기권패 했음을 모두에게 알림
-                    sendMessageWithGame(gameId, game,"GAME_OVER_PIRATE_LEAVED_MARINE_WIN");
-                    // 해군 승리
-                    gameService.gameOver(gameId, false);
-                }
-                // 해군이라면
-                else {
-                    // 해군이 기권패 했음을 모두에게 알림
-                    sendMessageWithGame(gameId, game,"GAME_OVER_MARINE_LEAVED_PIRATE_WIN");
-                    // 해적 승리
-                    gameService.gameOver(gameId, true);
-                }
+    // 봇의 응답은 클라이언트 메시지와 같은 경로로 처리
+    // 봇 스레드에서 들어오므로 사람 메시지와 같은 게임 lock 을 잡고, 기다리던 명령의 응답만 적용
+    @EventListener
+    public void listenBotAction(BotActionEvent event) {
+        Game game = board.getGameMap().get(event.getGameId());
+        if (game == null) return;
+
+        synchronized (game) {
+            // 시간 초과로 대신 처리됐거나 다음 명령으로 넘어간 뒤 도착한 응답은 버림
+            if (!game.takeBotOrder(event.getOrderId())) return;
+            applyBotAction(event);
+        }
+    }
+
+    private void applyBotAction(BotActionEvent event) {
+        if (event.getMessage().startsWith("INIT_")) {
+            ClientInitMessage initMessage = new ClientInitMessage();
+            initMessage.setGameId(event.getGameId());
+            initMessage.setMessage(event.getMessage());
+            initMessage.setNode(event.getNode());
+            init(initMessage, null);
+        } else {
+            ClientMoveMessage moveMessage = new ClientMoveMessage();
+            moveMessage.setGameId(event.getGameId());
+            moveMessage.setMessage(event.getMessage());
+            moveMessage.setNode(event.getNode());
+            moveMessage.setAction(event.getAction());
+            marine(moveMessage);
+        }
+    }
+
+    // 재접속 (클 -> 서), 클라이언트는 /user/sub/resume 을 구독한 뒤 토큰 전송
+    @MessageMapping("/resume")
+    public void resume(ClientResumeMessage message, StompHeaderAccessor accessor) {
+        long start = System.nanoTime();
+        try {
+            handleResume(message, accessor);
+        } finally {
+            gameMetrics.recordHandler("resume", "RESUME", start);
+        }
+    }
+
+    private void handleResume(ClientResumeMessage message, StompHeaderAccessor accessor) {
+        String sessionId = accessor.getSessionId();
+        ResumeTicket ticket = reconnectService.resume(message.getToken());
+        Game game = ticket == null ? null : board.getGameMap().get(ticket.getGameId());
+
+        if (game == null || game.getGameStatus() != IN_GAME) {
+            ServerResumeMessage failure = ServerResumeMessage.builder()
+                    .message("RESUME_FAILURE")
+                    .build();
+            sendToSession(sessionId, "/sub/resume", failure.getMessage(), failure);
+            return;
+        }
+
+        String gameId = ticket.getGameId();
+        game.touch();
+        // 이전 세션 정리 후 새 세션에 플레이어 연결
+        if (ticket.getSessionId() != null && !ticket.getSessionId().equals(sessionId)) {
+            board.getSessions().remove(ticket.getSessionId());
+        }
+        board.getSessions().bind(sessionId, ticket.getNickname(), gameId);
+        assignRole(game, board.getSessions().get(sessionId));
+
+        // 현재 게임 상태와 진행 중인 타이머를 보내 따라잡을 수 있도록 함
+        PendingTimer pendingTimer = gameTimerService.getPendingTimer(gameId);
+        ServerResumeMessage success = ServerResumeMessage.builder()
+                .gameId(gameId)
+                .message("RESUME_SUCCESS")
+                .nickname(ticket.getNickname())
+                .token(reconnectService.issueToken(gameId, ticket.getNickname(), sessionId))
+                .game(game)
+                .pendingMessage(pendingTimer == null ? null : pendingTimer.getMessage())
+                .remainingMillis(pendingTimer == null ? 0
+                        : Math.max(0, pendingTimer.getFireAt() - System.currentTimeMillis()))
+                .build();
+        sendToSession(sessionId, "/sub/resume", success.getMessage(), success);
+        // 새로 발급한 토큰이 스냅샷에도 반영되도록
+        gameSnapshotService.markDirty(gameId);
+
+        ServerMessage serverMessage = ServerMessage.builder()
+                .message("PLAYER_RECONNECTED")
+                .gameId(gameId)
+                .sender(ticket.getNickname())
+                .build();
+        send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+    }
+
+    private void assignRole(Game game, PlayerSession session) {
+        Integer role = game.getPlayerRoleByNickname(session.getNickname());
+        if (role != null) {
+            board.getSessions().assignRole(session.getSessionId(), role);
+        }
+    }
+
+    // 닉네임을 세션에 연결, 다른 세션이 쓰고 있던 닉네임이면 그 세션을 내보냄
+    // 클라이언트가 보낸 닉네임만으로 다른 사람을 내보내지 못하도록 같은 로그인 사용자일 때만 허용
+    private boolean bindPlayer(String sessionId, String nickname, String gameId) {
+        SessionRegistry sessions = board.getSessions();
+        PlayerSession duplicate;
+        // 확인과 연결 사이에 다른 세션이 끼어들지 않도록 레지스트리 lock 을 함께 잡음
+        synchronized (sessions) {
+            if (!sessions.canBind(sessionId, nickname)) {
+                log.warn("duplicate login rejected: {} {}", nickname, sessionId);
+                return false;
             }
+            duplicate = sessions.bind(sessionId, nickname, gameId);
         }
+        if (duplicate != null) {
+            kickDuplicate(duplicate);
+        }
+        return true;
+    }
+
+    // 같은 닉네임으로 새로 접속해 밀려난 이전 세션에 알리고 소켓 연결을 끊음
+    // (연결이 남아 있으면 /sub/{gameId} 방송을 계속 받으므로)
+    private void kickDuplicate(PlayerSession duplicate) {
+        ServerMessage serverMessage = ServerMessage.builder()
+                .message("DUPLICATE_LOGIN")
+                .gameId(duplicate.getGameId())
+                .sender(duplicate.getNickname())
+                .build();
+        sendToSession(duplicate.getSessionId(), "/sub/session", serverMessage.getMessage(), serverMessage);
+        sessionCloser.close(duplicate.getSessionId(), serverMessage.getMessage());
+    }
+
+    // 게임에 참가한 세션마다 재접속 토큰 발급
+    private void issueResumeTokens(String gameId) {
+        for (PlayerSession session : board.getSessions().sessionsOf(gameId)) {
+            String sessionId = session.getSessionId();
+            ServerResumeMessage tokenMessage = ServerResumeMessage.builder()
+                    .gameId(gameId)
+                    .message("RESUME_TOKEN")
+                    .nickname(session.getNickname())
+                    .token(reconnectService.issueToken(gameId, session.getNickname(), sessionId))
+                    .build();
+            sendToSession(sessionId, "/sub/resume", tokenMessage.getMessage(), tokenMessage);
+        }
+        gameSnapshotService.markDirty(gameId);
     }
 
     @MessageMapping("/matching")
-    public void matching(ClientMessage message) {
+    public void matching(ClientMessage message, StompHeaderAccessor accessor) {
         String sender = message.getSender();
         String gameId = message.getGameId();
-        Room room = board.getRoomMap().get(gameId);
         ServerMessage serverMessage;
 
+        // 매칭 대기 시작 (클 -> 서), 매칭 결과를 받을 세션을 닉네임과 연결
+        if (message.getMessage().equals("WAIT_MATCHING")) {
+            bindPlayer(accessor.getSessionId(), sender, null);
+            return;
+        }
+
+        Room room = gameId == null ? null : board.getRoomMap().get(gameId);
+
         // 방 입장 (클 -> 서)
         if (message.getMessage().equals("ENTER_MATCHING_ROOM")) {
 
@@ -135,7 +374,7 @@ public class MessageController {
                     serverMessage = ServerMessage.builder()
                             .message("PREPARE_GAME_START")
                             .build();
-                    sendingOperations.convertAndSend("/sub/" + sender, serverMessage);
+                    sendToPlayer(sender, "/sub/matching", serverMessage.getMessage(), serverMessage);
                 }
             }
 
@@ -144,13 +383,22 @@ public class MessageController {
 
     @MessageMapping("/room")
     public synchronized void manageRoom(ClientMessage message, StompHeaderAccessor accessor) {
+        long start = System.nanoTime();
+        try {
+            board.touch(message.getGameId());
+            handleRoom(message, accessor);
+        } finally {
+            gameMetrics.recordHandler("room", message.getMessage(), start);
+        }
+    }
+
+    private void handleRoom(ClientMessage message, StompHeaderAccessor accessor) {
         String sender = message.getSender();
         String sessionId = accessor.getSessionId();
 
         ServerMessage serverMessage = null;
         String gameId = message.getGameId();
-        Room room = board.getRoomMap().get(gameId);
-        List<String> sessionInfo = board.getSessionMap().get(sessionId);
+        Room room = gameId == null ? null : board.getRoomMap().get(gameId);
 
         // 존재하지 않는 방이라면
         if (room == null) return;
@@ -159,8 +407,8 @@ public class MessageController {
         if (message.getMessage().equals("ENTER_ROOM")) {
             for (Player player : room.getInRoomPlayers()) {
                 if (player.getNickname().equals(sender)) {
-                    sessionInfo.add(sender);
-                    sessionInfo.add(gameId);
+                    // 같은 닉네임으로 이미 접속한 세션이 있으면 그 세션을 내보냄 (다른 사용자의 세션이면 입장 거절)
+                    if (!bindPlayer(sessionId, sender, gameId)) return;
 
                     serverMessage = ServerMessage.builder()
                             .message("ENTER_SUCCESS")
@@ -179,7 +427,7 @@ public class MessageController {
                         .build();
             }
 
-            sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
 
             // 정원이 다 찼을 경우 시작버튼 활성화 broadcast
             if (room.getInRoomPlayers().size() == room.getGameMode().playerLimit()) {
@@ -193,7 +441,7 @@ public class MessageController {
                 serverMessage = ServerMessage.builder()
                         .message("ONLY_HOST_CAN_START")
                         .build();
-                sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+                send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
                 return;
             }
 
@@ -201,7 +449,7 @@ public class MessageController {
             serverMessage = ServerMessage.builder()
                     .message("START_BUTTON_CLICKED")
                     .build();
-            sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
         }
 
         // 렌더 완료시 상태 전송 (클 -> 서)
@@ -221,32 +469,70 @@ public class MessageController {
                     .room(room)
                     .game(game)
                     .build();
-            sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
 
-            // 방에 있는 모두의 렌더가 완료되면 알림 (서 -> 클)
-            if (room.getIsRendered() == room.getGameMode().playerLimit()) {
+            // 방에 있는 모두의 렌더가 완료되면 알림 (서 -> 클), 봇은 렌더하지 않으므로 사람 수 기준
+            if (room.getIsRendered() == room.countHumanPlayers()) {
                 serverMessage = ServerMessage.builder()
                         .message("ALL_RENDERED_COMPLETED")
                         .sender(sender)
                         .game(game)
                         .room(room)
                         .build();
-                sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+                send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
             }
         }
 
+        // 빈 자리를 봇으로 채우기 (클 -> 서)
+        if (message.getMessage().equals("FILL_WITH_BOTS")) {
+            if (!room.getHost().getNickname().equals(sender)) {
+                serverMessage = ServerMessage.builder()
+                        .message("ONLY_HOST_CAN_FILL_WITH_BOTS")
+                        .build();
+                send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+                return;
+            }
+
+            int botNumber = 0;
+            while (room.getInRoomPlayers().size() < room.getGameMode().playerLimit()) {
+                String nickname = "BOT-" + (++botNumber);
+                if (room.getInRoomPlayers().stream().anyMatch(player -> player.getNickname().equals(nickname))) {
+                    continue;
+                }
+                room.getInRoomPlayers().add(Player.builder()
+                        .nickname(nickname)
+                        .bot(true)
+                        .build());
+            }
+
+            lobbyService.update(room);
+
+            serverMessage = ServerMessage.builder()
+                    .message("BOTS_FILLED")
+                    .gameId(gameId)
+                    .room(room)
+                    .build();
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+
+            // 정원이 다 찼으므로 시작버튼 활성화
+            gameTimerService.beforePrepareGameStart(gameId, "READY_PREPARE_GAME_START");
+        }
+
         // 사용자가 방에서 나간다면 (클 -> 서)
         if (message.getMessage().equals("LEAVE_ROOM")) {
-            board.getSessionMap().get(sessionId).clear();
+            board.getSessions().unbind(sessionId);
             // 방에 혼자 남아있었으면 방 폭파
             if (room.getInRoomPlayers().size() == 1) {
                 board.getRoomMap().remove(gameId);
+                lobbyService.remove(gameId);
+                gameService.releaseRoom(gameId);
             } else {
                 // 다음 들어온 사람에게 방장 넘김
                 if (room.getHost().getNickname().equals(sender)) {
                     room.setHost(room.getInRoomPlayers().get(1));
                 }
                 room.getInRoomPlayers().removeIf(player -> player.getNickname().equals(sender));
+                lobbyService.update(room);
             }
 
             serverMessage = ServerMessage.builder()
@@ -254,10 +540,64 @@ public class MessageController {
                     .room(room)
                     .message("PLAYER_LEAVED")
                     .build();
-            sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+        }
+    }
+
+    // 전송 시간을 기록하며 메시지를 보내는 메서드
+    private void send(String destination, String message, Object payload) {
+        long start = System.nanoTime();
+        try {
+            sendingOperations.convertAndSend(destination, payload);
+        } finally {
+            gameMetrics.recordSend(message, start);
+        }
+    }
+
+    // 특정 세션에게만 보내는 메서드 (/user/sub/... 구독자 중 해당 세션)
+    private void sendToSession(String sessionId, String destination, String message, Object payload) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setLeaveMutable(true);
+        long start = System.nanoTime();
+        try {
+            sendingOperations.convertAndSendToUser(sessionId, destination, payload, headerAccessor.getMessageHeaders());
+        } finally {
+            gameMetrics.recordSend(message, start);
+        }
+    }
+
+    // 닉네임으로 연결된 사용자에게만 보내는 메서드 (/user/sub/... 구독)
+    // principal 이 있으면 그 사용자의 모든 세션, 없으면 연결된 세션 하나
+    private void sendToPlayer(String nickname, String destination, String message, Object payload) {
+        PlayerSession session = board.getSessions().findByNickname(nickname);
+        if (session == null) return;
+        if (session.getUser() == null) {
+            sendToSession(session.getSessionId(), destination, message, payload);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            sendingOperations.convertAndSendToUser(session.getUser(), destination, payload);
+        } finally {
+            gameMetrics.recordSend(message, start);
         }
     }
 
+    // 게임 로그 기록
+    private void logEvent(Game game, GameEventType type, GameRole role, int node) {
+        gameEventLogService.append(game, type, role.getRoleNumber(), node);
+    }
+
+    // 게임 종료 알림 후 로그를 닫고 전적 저장
+    private void finishGame(String gameId, Game game, String message, boolean pirateWin) {
+        sendMessageWithGame(gameId, game, message);
+        gameEventLogService.append(game, GameEventType.GAME_OVER, pirateWin ? 0 : 1, 0);
+        gameEventLogService.close(gameId);
+        reconnectService.clear(gameId);
+        gameService.gameOver(gameId, pirateWin);
+    }
+
     // 게임과 함께 메시지를 보내는 메서드
     private void sendMessageWithGame(String gameId, Game game, String message) {
         ServerMessage serverMessage;
@@ -266,7 +606,8 @@ public class MessageController {
                 .message(message)
                 .game(game)
                 .build();
-        sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+        send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
+        spectatorService.publish(gameId, message, game);
     }
 
     // 이동시 필요한 정보(이동가능한 노드 조회)와 함께 메시지를 보내는 메서드
@@ -278,7 +619,8 @@ public class MessageController {
                 .availableNode(availableNode)
                 .game(game)
                 .build();
-        sendingOperations.convertAndSend("/sub/" + gameId, serverMoveMessage);
+        send("/sub/" + gameId, serverMoveMessage.getMessage(), serverMoveMessage);
+        spectatorService.publish(gameId, message, game);
     }
 
     // 체포시 필요한 정보(체포가능한 노드 조회)와 함께 메시지를 보내는 메서드
@@ -290,7 +632,8 @@ public class MessageController {
                 .arrestableNode(arrestableNode)
                 .game(game)
                 .build();
-        sendingOperations.convertAndSend("/sub/" + gameId, serverArrestMessage);
+        send("/sub/" + gameId, serverArrestMessage.getMessage(), serverArrestMessage);
+        spectatorService.publish(gameId, message, game);
     }
 
     private void sendMessageWithArrestTriedNode(String gameId, Game game, String message, int triedNode) {
@@ -301,7 +644,8 @@ public class MessageController {
                 .arrestTriedNode(triedNode)
                 .game(game)
                 .build();
-        sendingOperations.convertAndSend("/sub/" + gameId, serverArrestMessage);
+        send("/sub/" + gameId, serverArrestMessage.getMessage(), serverArrestMessage);
+        spectatorService.publish(gameId, message, game);
     }
 
     // 시작 위치 지정 제한 시간 초과
@@ -310,6 +654,7 @@ public class MessageController {
         game.setLockRespond(true);
         // 응답이 오지 않았음을 클라이언트에 알리기 (서 -> 클)
         sendMessageWithGame(gameId, game, "INIT_"+role+"_START_TIME_OUT");
+        logEvent(game, GameEventType.TIME_OUT, role, 0);
         // 시작위치 랜덤 지정
         if (role == GameRole.PIRATE) {
             gameService.initPirateRandomStart(gameId);
@@ -317,10 +662,14 @@ public class MessageController {
         else {
             gameService.initMarineStartRandom(gameId, role.getRoleNumber());
         }
+        logEvent(game, GameEventType.INIT_START, role, game.getCurrentPosition()[role.getRoleNumber()]);
         // 해적 시작위치 지정완료 브로드캐스트 (서 -> 클)
         if (role == GameRole.MARINE_THREE) {
             // 해적 시작위치 보물상자 열어주기
-            game.getTreasures().put(game.getCurrentPosition()[0], true);
+            game.openTreasure(game.getCurrentPosition()[0]);
+            logEvent(game, GameEventType.TREASURE_OPENED, GameRole.PIRATE, game.getCurrentPosition()[0]);
+            // 열린 보물로 해적 시작 위치가 공개되므로 여기서부터 추적
+            game.getPirateBelief().reset(game.getCurrentPosition()[0], true);
         }
         sendMessageWithGame(gameId, game, "ACTION_INIT_"+role+"_START");
         // 2초 타이머 시작
@@ -340,6 +689,18 @@ public class MessageController {
         game.setLockRespond(false);
         // 15초 타이머 시작
         gameTimerService.startResponseWaitingTimer(gameId, "INIT_"+role+"_START_TIME_OUT");
+        botService.onOrder(gameId, game, role, BotOrder.INIT_START, initCandidates(game, role));
+    }
+
+    // 시작 위치 후보 (해적은 보물 위치, 해군은 다른 해군이 고르지 않은 시작 위치)
+    private int[] initCandidates(Game game, GameRole role) {
+        if (role == GameRole.PIRATE) {
+            return game.getTreasureNodes();
+        }
+        int[] currentPosition = game.getCurrentPosition();
+        return Arrays.stream(board.mapOf(game).getMarineStartList())
+                .filter(node -> node != currentPosition[1] && node != currentPosition[2] && node != currentPosition[3])
+                .toArray();
     }
 
     // 이동 응답 제한시간 초과
@@ -348,18 +709,21 @@ public class MessageController {
         game.setLockRespond(true);
         // 응답이 오지 않았음을 클라이언트에 알리기 (서 -> 클)
         sendMessageWithGame(gameId, game, "MOVE_"+role+"_TIME_OUT");
+        logEvent(game, GameEventType.TIME_OUT, role, 0);
         HashMap<Integer, Deque<Integer>> findAvailableNode;
-        // 랜덤 위치 이동
-        if (role == GameRole.PIRATE) {
-            findAvailableNode = gameService.findPirateAvailableNode(gameId, game.getCurrentPosition()[0]);
-        } else {
-            findAvailableNode = gameService.findMarineAvailableNode(gameId, game.getCurrentPosition()[role.getRoleNumber()]);
-        }
-        List<Integer> availableNodes = new ArrayList<>(findAvailableNode.keySet());
-        Collections.shuffle(availableNodes);
-        Integer nextNode = availableNodes.get(0);
+        int nextNode;
+        // 이동 명령 때 계산해 둔 이동 가능 노드 중 랜덤 위치로 이동 (없으면 다시 계산)
+        FallbackMove fallbackMove = takeFallbackMove(game, role);
+        findAvailableNode = fallbackMove != null
+                ? fallbackMove.getAvailableNode()
+                : findAvailableNode(gameId, game, role);
+        nextNode = gameService.selectRandomNode(findAvailableNode.keySet());
         // 입력받은 노드 저장
         gameService.move(gameId, nextNode, role.getRoleNumber());
+        logEvent(game, GameEventType.MOVE, role, game.getCurrentPosition()[role.getRoleNumber()]);
+        if (role == GameRole.PIRATE) {
+            game.getPirateBelief().onPirateMove(board.mapOf(game).getGraph(), game.getMarineNodes());
+        }
         // 이동 완료 브로드캐스트
         sendMessageWithAvailableNode(gameId, game,"ACTION_MOVE_"+role, findAvailableNode);
         // 2초 타이머 시작
@@ -370,6 +734,21 @@ public class MessageController {
         }
     }
 
+    // 이동 명령 때 저장해 둔 정보 꺼내기 (다른 역할의 것이면 버림)
+    private FallbackMove takeFallbackMove(Game game, GameRole role) {
+        FallbackMove fallbackMove = game.getFallbackMove();
+        game.setFallbackMove(null);
+        if (fallbackMove == null || fallbackMove.getRole() != role) return null;
+        return fallbackMove;
+    }
+
+    private HashMap<Integer, Deque<Integer>> findAvailableNode(String gameId, Game game, GameRole role) {
+        if (role == GameRole.PIRATE) {
+            return gameService.findPirateAvailableNode(gameId, game.getCurrentPosition()[0]);
+        }
+        return gameService.findMarineAvailableNode(gameId, game.getCurrentPosition()[role.getRoleNumber()]);
+    }
+
     // 이동 렌더 타이머 종료
     private void moveRenderTimeOut(String gameId, Game game, GameRole role) {
         HashMap<Integer, Deque<Integer>> availableNode;
@@ -378,33 +757,37 @@ public class MessageController {
             availableNode = gameService.findPirateAvailableNode(gameId, game.getCurrentPosition()[role.getRoleNumber()]);
             // 해적이 포위되어서 더 이상 갈 곳이 없다면, 해적 패배 해군 승리
             if (availableNode.isEmpty()) {
-                sendMessageWithGame(gameId, game, "GAME_OVER_PIRATE_SURROUNDED_MARINE_WIN");
-                gameService.gameOver(gameId, false);
+                finishGame(gameId, game, "GAME_OVER_PIRATE_SURROUNDED_MARINE_WIN", false);
                 return;
             }
         } else {
             // 해군 이동가능 위치 계산
             availableNode = gameService.findMarineAvailableNode(gameId, game.getCurrentPosition()[role.getRoleNumber()]);
         }
+        // 응답이나 시간 초과 때 BFS 를 다시 하지 않도록 이동 가능 노드 보관
+        game.setFallbackMove(new FallbackMove(role, availableNode));
         // 이동 명령 (서 -> 클)
         sendMessageWithAvailableNode(gameId, game, "ORDER_MOVE_"+role, availableNode);
         // 응답 허용
         game.setLockRespond(false);
         // 15초 타이머 시작
         gameTimerService.startResponseWaitingTimer(gameId, "MOVE_"+role+"_TIME_OUT");
+        botService.onOrder(gameId, game, role, BotOrder.MOVE,
+                availableNode.keySet().stream().mapToInt(Integer::intValue).sorted().toArray());
     }
 
     // 해군 조사 로직
     private void marineInvestigate(String gameId, Game game, GameRole role, int node) {
         // 입력받은 노드 조사
         boolean investigateResult = gameService.investigate(gameId, node, role.getRoleNumber());
+        logEvent(game, investigateResult ? GameEventType.INVESTIGATE_SUCCESS : GameEventType.INVESTIGATE_FAIL, role, node);
+        game.getPirateBelief().onInvestigate(board.mapOf(game).getGraph(), node, investigateResult);
         // 조사 성공
         if (investigateResult) {
             // 해군 조사 성공 브로드캐스트 (서 -> 클)
             sendMessageWithGame(gameId, game, "ACTION_INVESTIGATE_"+role+"_SUCCESS");
             // investigate 초기화
-            game.getInvestigate().setNodes(null);
-            game.getInvestigate().setSuccess(false);
+            game.getInvestigate().reset();
             // 2초 타이머 시작
             if (role == GameRole.MARINE_THREE) {
                 gameTimerService.startRenderWaitingTimer(gameId, "READY_TURN_OVER");
@@ -416,7 +799,7 @@ public class MessageController {
         // 조사 실패
         else {
             // 아직 더 조사할 노드가 남았으면
-            if (game.getInvestigate().getNodes().containsValue(false)) {
+            if (game.getInvestigate().hasRemaining()) {
                 // 해군 조사 실패 브로드캐스트 (서 -> 클)
                 sendMessageWithGame(gameId, game, "ACTION_INVESTIGATE_"+role+"_FAIL");
                 // 0.1초 타이머 시작
@@ -427,8 +810,7 @@ public class MessageController {
                 // 해군 조사 실패 브로드캐스트 (서 -> 클)
                 sendMessageWithGame(gameId, game, "ACTION_INVESTIGATE_"+role+"_ALL_FAILED");
                 // investigate 초기화
-                game.getInvestigate().setNodes(null);
-                game.getInvestigate().setSuccess(false);
+                game.getInvestigate().reset();
 
                 // 2초 타이머 시작
                 if (role == GameRole.MARINE_THREE) {
@@ -449,6 +831,7 @@ public class MessageController {
         game.setLockRespond(false);
         // 15초 타이머 시작
         gameTimerService.startResponseWaitingTimer(gameId, "SELECT_WORK_"+role+"_TIME_OUT");
+        botService.onOrder(gameId, game, role, BotOrder.SELECT_WORK, new int[0]);
     }
 
     // 행동선택 응답 제한시간 초과
@@ -457,6 +840,8 @@ public class MessageController {
         game.setLockRespond(true);
         // 응답이 오지 않았음을 클라이언트에 알리기 (서 -> 클)
         sendMessageWithGame(gameId, game, "SELECT_WORK_"+role+"_TIME_OUT");
+        logEvent(game, GameEventType.TIME_OUT, role, 0);
+        logEvent(game, GameEventType.SELECT_INVESTIGATE, role, 0);
         // 응답이 없을 경우 행동은 항상 조사, 해군 행동 선택완료 브로드캐스트 (서 -> 클)
         sendMessageWithGame(gameId, game,"ACTION_SELECT_WORK_"+role+"_INVESTIGATE");
         // 0.1초 타이머 시작
@@ -473,6 +858,7 @@ public class MessageController {
         game.setLockRespond(false);
         // 15초 타이머 시작
         gameTimerService.startResponseWaitingTimer(gameId, "INVESTIGATE_"+role+"_TIME_OUT");
+        botService.onOrder(gameId, game, role, BotOrder.INVESTIGATE, game.getInvestigate().remainingNodes());
     }
 
     // 조사 응답 제한 시간 초과
@@ -481,21 +867,15 @@ public class MessageController {
         game.setLockRespond(true);
         // 응답이 오지 않았음을 클라이언트에 알리기 (서 -> 클)
         sendMessageWithGame(gameId, game, "INVESTIGATE_"+role+"_TIME_OUT");
-        // 선택 가능한 노드 들 중 하나 랜덤 선택
-        Integer nextNode = null;
-        for (Integer node : game.getInvestigate().getNodes().keySet()) {
-            if (!game.getInvestigate().getNodes().get(node)) {
-                nextNode = node;
-                break;
-            }
-        }
+        logEvent(game, GameEventType.TIME_OUT, role, 0);
+        // 아직 조사하지 않은 노드 중 하나 선택
+        Integer nextNode = game.getInvestigate().nextRemaining();
         // 더 이상 조사할 노드가 없으면
         if (nextNode == null) {
             // 해군 조사 실패 브로드캐스트 (서 -> 클)
             sendMessageWithGame(gameId, game, "ACTION_INVESTIGATE_"+role+"_ALL_FAILED");
             // investigate 초기화
-            game.getInvestigate().setNodes(null);
-            game.getInvestigate().setSuccess(false);
+            game.getInvestigate().reset();
             // 2초 타이머 시작
             if (role == GameRole.MARINE_THREE) {
                 gameTimerService.startRenderWaitingTimer(gameId, "READY_TURN_OVER");
@@ -516,6 +896,7 @@ public class MessageController {
         game.setLockRespond(false);
         // 15초 타이머 시작
         gameTimerService.startResponseWaitingTimer(gameId, "ARREST_"+role+"_TIME_OUT");
+        botService.onOrder(gameId, game, role, BotOrder.ARREST, arrestableNode);
     }
 
     // 체포 응답 제한 시간 초과
@@ -524,15 +905,19 @@ public class MessageController {
         game.setLockRespond(true);
         // 응답이 오지 않았음을 클라이언트에 알리기 (서 -> 클)
         sendMessageWithGame(gameId, game, "ARREST_"+role+"_TIME_OUT");
+        logEvent(game, GameEventType.TIME_OUT, role, 0);
         // 랜덤 위치 지정하여 체포 조사하기 (서 -> 클)
         int[] arrestableNode = gameService.findMarineArrestableNode(gameId, role.getRoleNumber());
         // 체포 성공여부 확인
         boolean isArrestSuccess = gameService.arrest(gameId, arrestableNode[0]);
+        logEvent(game, isArrestSuccess ? GameEventType.ARREST_SUCCESS : GameEventType.ARREST_FAIL, role, arrestableNode[0]);
+        if (!isArrestSuccess) {
+            game.getPirateBelief().exclude(arrestableNode[0]);
+        }
         // 체포 성공 시 게임 종료
         if (isArrestSuccess) {
             // 게임종료 (해군 승리) 브로드캐스트 (서 -> 클)
-            sendMessageWithGame(gameId, game,"GAME_OVER_"+role+"_ARREST_SUCCESS");
-            gameService.gameOver(gameId, false);
+            finishGame(gameId, game, "GAME_OVER_"+role+"_ARREST_SUCCESS", false);
         }
         // 체포 실패 시 게임 진행
         else {
@@ -550,9 +935,23 @@ public class MessageController {
     // 타이머가 끝남을 감지
     @EventListener
     public void listenTimeout(TimerTimeoutEvent event) {
+        long start = System.nanoTime();
+        try {
+            withGameLock(event.getGameId(), () -> handleTimeout(event));
+        } finally {
+            gameMetrics.recordHandler("timeout", event.getMessage(), start);
+            gameSnapshotService.markDirty(event.getGameId());
+        }
+    }
+
+    private void handleTimeout(TimerTimeoutEvent event) {
         String gameId = event.getGameId();
         String message = event.getMessage();
         Game game = board.getGameMap().get(gameId);
+        // 응답 시간 초과는 대신 처리하므로 그 뒤에 도착한 봇 응답은 버림
+        if (game != null && message.endsWith("_TIME_OUT")) {
+            game.clearBotOrder();
+        }
 
         // 매칭 성공 메시지 전송 준비
         if (message.equals("READY_MATCHING_SUCCESS")) {
@@ -569,7 +968,7 @@ public class MessageController {
             // 게임에 속한 플레이어들에게 메시지 전송
             for (int i=0; i<room.getGameMode().playerLimit(); i++) {
                 String nickname = room.getInRoomPlayers().get(i).getNickname();
-                sendingOperations.convertAndSend("/sub/"+ nickname, serverMessage);
+                sendToPlayer(nickname, "/sub/matching", serverMessage.getMessage(), serverMessage);
             }
         }
 
@@ -579,7 +978,7 @@ public class MessageController {
             serverMessage = ServerMessage.builder()
                     .message("PREPARE_GAME_START")
                     .build();
-            sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+            send("/sub/" + gameId, serverMessage.getMessage(), serverMessage);
         }
 
         // 해적 시작위치 지정 응답 제한시간 초과
@@ -769,18 +1168,21 @@ public class MessageController {
         if (message.equals("READY_TURN_OVER")) {
             // 해적이 보물상자에 도착했는가?
             // 도착했다면
-            if (game.getTreasures().containsKey(game.getCurrentPosition()[0]) && !game.getTreasures().get(game.getCurrentPosition()[0])) {
+            if (game.isClosedTreasure(game.getCurrentPosition()[0])) {
                 // 해당 보물상자 열어주기
-                game.getTreasures().put(game.getCurrentPosition()[0], true);
+                game.openTreasure(game.getCurrentPosition()[0]);
+                logEvent(game, GameEventType.TREASURE_OPENED, GameRole.PIRATE, game.getCurrentPosition()[0]);
+                // 새 라운드는 열린 보물 위치에서 시작 (경로가 비워지므로 시작 위치는 경로에 없음)
+                game.getPirateBelief().reset(game.getCurrentPosition()[0], false);
                 // 라운드 + 1
                 game.increaseRound();
                 if (game.getRound() > 4) {
                     // 4라운드 종료, 해적 승리, 게임 종료 알림
-                    sendMessageWithGame(gameId, game, "GAME_OVER_PIRATE_WIN");
-                    gameService.gameOver(gameId, true);
+                    finishGame(gameId, game, "GAME_OVER_PIRATE_WIN", true);
                 } else {
                     // 라운드 종료 알림
                     sendMessageWithGame(gameId, game, "ROUND_OVER");
+                    logEvent(game, GameEventType.ROUND_OVER, GameRole.PIRATE, game.getRound());
                     // 턴 초기화
                     game.setTurn(1);
                     // 맵 초기화
@@ -792,15 +1194,19 @@ public class MessageController {
                 }
             // 해적이 보물상자에 도착하지 않았다면
             else {
+                // 닫힌 보물 위에는 없음
+                game.getTreasures().forEach((node, opened) -> {
+                    if (!opened) game.getPirateBelief().exclude(node);
+                });
                 // 턴 + 1
                 game.increaseTurn();
                 // 15턴을 넘어간다면 (보물상자에 도착하지 못했으므로 해군 승리)
                 if (game.getTurn() > 15) {
-                    sendMessageWithGame(gameId, game, "GAME_OVER_FIFTEEN_TURN_OVER_MARINE_WIN");
-                    gameService.gameOver(gameId, false);
+                    finishGame(gameId, game, "GAME_OVER_FIFTEEN_TURN_OVER_MARINE_WIN", false);
                 } else {
                     // 턴 종료 알림
                     sendMessageWithGame(gameId, game, "TURN_OVER");
+                    logEvent(game, GameEventType.TURN_OVER, GameRole.PIRATE, game.getTurn());
                     // 해적 이동으로 보내기 (2초 타이머 실행)
                     gameTimerService.startRenderWaitingTimer(gameId, "READY_MOVE_PIRATE");
                 }
@@ -823,10 +1229,14 @@ public class MessageController {
             gameTimerService.startResponseWaitingTimer(gameId, "INIT_"+role+"_START_TIME_OUT");
             return;
         }
+        logEvent(game, GameEventType.INIT_START, role, node);
         // 올바르게 선택했다면 해군 시작위치 지정완료 브로드캐스트 (서 -> 클)
         if (role == GameRole.MARINE_THREE) {
             // 해적 시작위치 보물상자 열어주기
-            game.getTreasures().put(game.getCurrentPosition()[0], true);
+            game.openTreasure(game.getCurrentPosition()[0]);
+            logEvent(game, GameEventType.TREASURE_OPENED, GameRole.PIRATE, game.getCurrentPosition()[0]);
+            // 열린 보물로 해적 시작 위치가 공개되므로 여기서부터 추적
+            game.getPirateBelief().reset(game.getCurrentPosition()[0], true);
         }
         sendMessageWithGame(gameId, game, "ACTION_INIT_"+role+"_START");
         // 2초 타이머 시작
@@ -841,6 +1251,17 @@ public class MessageController {
     // 게임 시작시 (게임 시작 ~ 해군3 시작위치 지정)
     @MessageMapping("/init")
     public void init(ClientInitMessage message, StompHeaderAccessor accessor) {
+        long start = System.nanoTime();
+        try {
+            board.touch(message.getGameId());
+            withGameLock(message.getGameId(), () -> handleInit(message, accessor));
+        } finally {
+            gameMetrics.recordHandler("init", message.getMessage(), start);
+            gameSnapshotService.markDirty(message.getGameId());
+        }
+    }
+
+    private void handleInit(ClientInitMessage message, StompHeaderAccessor accessor) {
         String gameId = message.getGameId();
         Game game = board.getGameMap().get(gameId);
         System.out.println(game.getGameStatus());
@@ -851,27 +1272,44 @@ public class MessageController {
                 game.getGameStatus().equals(GameStatus.BEFORE_START)) {
             game.setGameStatus(IN_GAME);
 
-            List<String> sessionInfo = board.getSessionMap().getOrDefault(accessor.getSessionId(), null);
-            System.out.println("sessionInfo: " + sessionInfo);
-            sessionInfo.add(message.getSender());
-            sessionInfo.add(gameId);
+            // 방에서 연결되지 않은 세션이면 게임 시작한 사람으로 연결
+            PlayerSession session = board.getSessions().get(accessor.getSessionId());
+            if (session == null || !session.isBound()) {
+                bindPlayer(accessor.getSessionId(), message.getSender(), gameId);
+            }
+            for (PlayerSession player : board.getSessions().sessionsOf(gameId)) {
+                assignRole(game, player);
+            }
 
             // 게임 시작하면 방 폭파
             board.getRoomMap().remove(gameId);
+            lobbyService.remove(gameId);
+            // 연결이 끊겼을 때 돌아올 수 있도록 재접속 토큰 발급
+            issueResumeTokens(gameId);
+            // 이벤트 로그 시작 (보물 위치부터 기록)
+            gameEventLogService.open(game);
+            for (int treasureNode : game.getTreasureNodes()) {
+                logEvent(game, GameEventType.TREASURE_PLACED, GameRole.PIRATE, treasureNode);
+            }
             // 해적 시작위치 지정 (서 -> 클)
             sendMessageWithGame(gameId, game, "ORDER_INIT_PIRATE_START");
             // 응답 허용
             game.setLockRespond(false);
             // 15초 타이머 시작
             gameTimerService.startResponseWaitingTimer(gameId, "INIT_PIRATE_START_TIME_OUT");
+            botService.onOrder(gameId, game, GameRole.PIRATE, BotOrder.INIT_START, initCandidates(game, GameRole.PIRATE));
         }
 
         // 해적 시작 지점 지정완료 (클 -> 서)
         if (message.getMessage().equals("INIT_PIRATE_START") && !lockRespond) {
             // 제한시간 내로 선택을 한 것이므로 타이머 취소
             gameTimerService.cancelTimer(gameId);
-            // 입력받은 노드 저장
-            gameService.initPirateStart(gameId, message.getNode());
+            // 입력받은 노드 저장 (지도에 없는 노드면 랜덤 지정)
+            int startNode = gameService.initPirateStart(gameId, message.getNode());
+            if (startNode < 0) {
+                startNode = gameService.initPirateRandomStart(gameId);
+            }
+            logEvent(game, GameEventType.INIT_START, GameRole.PIRATE, startNode);
             // 해적 시작위치 지정완료 브로드캐스트 (서 -> 클)
             sendMessageWithGame(gameId, game, "ACTION_INIT_PIRATE_START");
             // 2초 타이머 시작
@@ -898,15 +1336,17 @@ public class MessageController {
     private void afterMove(String gameId, Game game, GameRole role, int node) {
         // 제한시간 내로 선택을 한 것이므로 타이머 취소
         gameTimerService.cancelTimer(gameId);
-        HashMap<Integer, Deque<Integer>> availableNode;
-        // 이동 경로 재예상
-        if (role == GameRole.PIRATE) {
-            availableNode = gameService.findPirateAvailableNode(gameId, game.getCurrentPosition()[role.getRoleNumber()]);
-        } else {
-            availableNode = gameService.findMarineAvailableNode(gameId, game.getCurrentPosition()[role.getRoleNumber()]);
-        }
+        // 이동 명령 때 계산해 둔 이동 가능 노드 재사용
+        FallbackMove fallbackMove = takeFallbackMove(game, role);
+        HashMap<Integer, Deque<Integer>> availableNode = fallbackMove != null
+                ? fallbackMove.getAvailableNode()
+                : findAvailableNode(gameId, game, role);
         // 입력받은 노드 저장
         gameService.move(gameId, node, role.getRoleNumber());
+        logEvent(game, GameEventType.MOVE, role, game.getCurrentPosition()[role.getRoleNumber()]);
+        if (role == GameRole.PIRATE) {
+            game.getPirateBelief().onPirateMove(board.mapOf(game).getGraph(), game.getMarineNodes());
+        }
         // 이동 완료 브로드캐스트 (서 -> 클)
         sendMessageWithAvailableNode(gameId, game,"ACTION_MOVE_"+role, availableNode);
         // 2초 타이머 시작
@@ -925,6 +1365,7 @@ public class MessageController {
         if (action.equals("INVESTIGATE")) {
             // 해군 행동 선택완료 브로드캐스트 (서 -> 클)
             sendMessageWithGame(gameId, game,"ACTION_SELECT_WORK_"+role+"_INVESTIGATE");
+            logEvent(game, GameEventType.SELECT_INVESTIGATE, role, 0);
             // 0.1초 타이머 시작
             gameTimerService.afterSelectTimer(gameId, "READY_INVESTIGATE_"+role);
         }
@@ -932,6 +1373,7 @@ public class MessageController {
         else if (action.equals("ARREST")) {
             // 해군 행동 선택완료 브로드캐스트 (서 -> 클)
             sendMessageWithGame(gameId, game,"ACTION_SELECT_WORK_"+role+"_ARREST");
+            logEvent(game, GameEventType.SELECT_ARREST, role, 0);
             // 0.1초 타이머 시작
             gameTimerService.afterSelectTimer(gameId, "READY_ARREST_"+role);
         }
@@ -943,11 +1385,14 @@ public class MessageController {
         gameTimerService.cancelTimer(gameId);
         // 체포 성공여부 확인
         boolean isArrestSuccess = gameService.arrest(gameId, node);
+        logEvent(game, isArrestSuccess ? GameEventType.ARREST_SUCCESS : GameEventType.ARREST_FAIL, role, node);
+        if (!isArrestSuccess) {
+            game.getPirateBelief().exclude(node);
+        }
         // 체포 성공 시 게임 종료
         if (isArrestSuccess) {
             // 게임종료 (해군 승리) 브로드캐스트 (서 -> 클)
-            sendMessageWithGame(gameId, game,"GAME_OVER_"+role+"_ARREST_SUCCESS");
-            gameService.gameOver(gameId, false);
+            finishGame(gameId, game, "GAME_OVER_"+role+"_ARREST_SUCCESS", false);
         }
         // 체포 실패 시 게임 진행
         else {
@@ -965,6 +1410,17 @@ public class MessageController {
     // 게임 로직
     @MessageMapping("/game")
     public void marine(ClientMoveMessage message) {
+        long start = System.nanoTime();
+        try {
+            board.touch(message.getGameId());
+            withGameLock(message.getGameId(), () -> handleGame(message));
+        } finally {
+            gameMetrics.recordHandler("game", message.getMessage(), start);
+            gameSnapshotService.markDirty(message.getGameId());
+        }
+    }
+
+    private void handleGame(ClientMoveMessage message) {
         String gameId = message.getGameId();
         Game game = board.getGameMap().get(gameId);
         boolean lockRespond = game.isLockRespond();
@@ -1044,27 +1500,21 @@ public class MessageController {
         }
     }
 
+    // 같은 게임의 처리는 한 번에 하나씩 (사람 메시지, 봇 응답, 타이머가 서로 다른 스레드에서 들어옴)
+    private void withGameLock(String gameId, Runnable handler) {
+        Game game = gameId == null ? null : board.getGameMap().get(gameId);
+        if (game == null) {
+            handler.run();
+            return;
+        }
+        synchronized (game) {
+            handler.run();
+        }
+    }
+
     // 매칭
     @EventListener
     public void listenMatching(MatchingEvent event) {
         gameTimerService.afterMatchingTimer(event.getGameId(), "READY_MATCHING_SUCCESS");
     }
-
-    // 채팅
-    @MessageMapping("/chat/{gameId}")
-    public void chat(@DestinationVariable String gameId, ClientMessage message) {
-
-        Game game = board.getGameMap().get(gameId);
-        int role = game.getPlayerRoleByNickname(message.getSender());
-
-        Chat chat = Chat.builder()
-                .gameId(gameId)
-                .sender(message.getSender())
-                .role(role)
-                .message("CHATTING")
-                .chatMessage(message.getMessage())
-                .build();
-
-        sendingOperations.convertAndSend("/sub/"+ gameId, chat);
-    }
 }
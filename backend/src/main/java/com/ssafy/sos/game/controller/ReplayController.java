@@ -0,0 +1,63 @@
+package com.ssafy.sos.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.sos.game.domain.log.GameEvent;
+import com.ssafy.sos.game.service.GameEventLogService;
+import com.ssafy.sos.game.util.GameRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Controller
+@RequestMapping("/replay")
+@RequiredArgsConstructor
+public class ReplayController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final GameEventLogService gameEventLogService;
+    private final ObjectMapper objectMapper;
+
+    // 게임 로그를 한 줄에 이벤트 하나씩(NDJSON) 스트리밍
+    // 게임 전체를 메모리에 올리지 않고 파일에서 읽는 대로 전송
+    // 끝난 게임만 제공 (진행 중인 게임은 exists 가 false 라 해적 위치가 새지 않음)
+    @GetMapping("/{logId}")
+    public ResponseEntity<StreamingResponseBody> replay(@PathVariable String logId) {
+        if (!gameEventLogService.exists(logId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody body = out -> gameEventLogService.read(logId, event -> {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("seq", event.getSeq());
+            line.put("type", event.getType());
+            line.put("role", roleName(event));
+            line.put("node", event.getNode());
+            line.put("offsetMillis", event.getOffsetMillis());
+            try {
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private static String roleName(GameEvent event) {
+        return switch (event.getType()) {
+            case TREASURE_PLACED, TREASURE_OPENED, TURN_OVER, ROUND_OVER -> null;
+            case GAME_OVER -> event.getRole() == 0 ? "PIRATE" : "MARINE";
+            default -> GameRole.fromRoleNumber(event.getRole()).name();
+        };
+    }
+}
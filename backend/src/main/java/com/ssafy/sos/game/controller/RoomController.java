@@ -4,8 +4,11 @@ import com.ssafy.sos.game.domain.Board;
 import com.ssafy.sos.game.domain.Player;
 import com.ssafy.sos.game.domain.RoomRequest;
 import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.message.server.RoomPage;
 import com.ssafy.sos.game.service.GameService;
+import com.ssafy.sos.game.service.LobbyService;
 import com.ssafy.sos.game.service.MatchingService;
+import com.ssafy.sos.game.util.GameMode;
 import com.ssafy.sos.user.domain.CustomOAuth2User;
 import com.ssafy.sos.user.domain.UserEntity;
 import com.ssafy.sos.user.service.UserService;
@@ -13,10 +16,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequestMapping("/room")
@@ -26,6 +31,9 @@ public class RoomController {
     private final MatchingService matchingService;
     private final UserService userService;
     private final Board board;
+    private final LobbyService lobbyService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @PostMapping("/make")
     public ResponseEntity<Room> makeRoom(@RequestBody RoomRequest roomRequest,
@@ -45,6 +53,12 @@ public class RoomController {
                 .build();
 
         Room room = gameService.makeRoom(player, roomRequest.getGameMode());
+        // 등록된 지도일 때만 반영 (없거나 모르는 id 면 기본 지도)
+        if (board.hasMap(roomRequest.getMapId())) {
+            room.setMapId(roomRequest.getMapId());
+        }
+        room.setListed(!roomRequest.isPrivateRoom());
+        lobbyService.update(room);
         return ResponseEntity.ok(room);
 
     }
@@ -66,7 +80,7 @@ public class RoomController {
 
         String roomCode = roomRequest.getGameId();
         // 존재하지 않는 입장코드라면
-        if (!board.getRoomMap().containsKey(roomCode)) {
+        if (roomCode == null || !board.getRoomMap().containsKey(roomCode)) {
             return ResponseEntity.ok("ROOM_NOT_EXIST");
         }
 
@@ -84,9 +98,18 @@ public class RoomController {
         }
 
         room = gameService.enterRoom(roomCode, newPlayer);
+        lobbyService.update(room);
         return ResponseEntity.ok(room);
     }
 
+    // 입장 가능한 방 목록 (cursor 는 이전 페이지의 nextCursor)
+    @GetMapping("/list")
+    public ResponseEntity<RoomPage> listRooms(@RequestParam(required = false) GameMode gameMode,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(lobbyService.list(gameMode, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
     @PostMapping("/matching")
     public ResponseEntity<?> tryMatching(@RequestBody RoomRequest roomRequest,
                                          Authentication authentication) {
@@ -0,0 +1,78 @@
+package com.ssafy.sos.game.domain;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// 데이터 파일(maps/*.map)에서 읽어 들인 지도 한 장 (만든 뒤에는 바뀌지 않음)
+// 인접 리스트는 CSR 형태로 보관 : node 의 인접 노드는 adjacency[offsets[node]] ~ adjacency[offsets[node + 1] - 1]
+// 노드 번호 규칙은 기존 보드와 같음 (0 사용 안 함, 1 ~ 199 해적 노드, 200 ~ 해군 노드)
+// 배열 getter 는 복사 없이 내부 배열을 그대로 돌려주므로 호출하는 쪽에서 수정하면 안 됨
+@Getter
+public class BoardMap {
+    public static final String DEFAULT_ID = "default";
+    public static final int PIRATE_NODE_LIMIT = 199;
+    public static final int MARINE_NODE_START = 200;
+    public static final int TREASURE_REGION_COUNT = 4;
+
+    private final String id;
+    private final String name;
+    private final int nodeCount;
+    private final int[] offsets;
+    private final int[] adjacency;
+    // 보물 후보 노드 (구역 1 ~ 4 순서)
+    private final int[][] treasureRegions;
+    private final int[] marineStartList;
+    // 인접 노드가 있는 가장 큰 해적 노드 번호 (해적 이동 유효성 검사용)
+    private final int maxPirateNode;
+    // 노드별 인접 배열, 해적 노드만 걸러낸 인접 배열 (기존 int[][] 사용처, JSON 전송용)
+    private final int[][] graph;
+    private final int[][] pirateNeighbors;
+
+    BoardMap(String id, String name, int nodeCount, int[] offsets, int[] adjacency,
+             int[][] treasureRegions, int[] marineStartList) {
+        this.id = id;
+        this.name = name;
+        this.nodeCount = nodeCount;
+        this.offsets = offsets;
+        this.adjacency = adjacency;
+        this.treasureRegions = treasureRegions;
+        this.marineStartList = marineStartList;
+
+        this.graph = new int[nodeCount][];
+        this.pirateNeighbors = new int[nodeCount][];
+        int maxPirate = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            graph[node] = Arrays.copyOfRange(adjacency, offsets[node], offsets[node + 1]);
+            pirateNeighbors[node] = Arrays.stream(graph[node])
+                    .filter(BoardMap::isPirateRange)
+                    .toArray();
+            if (isPirateRange(node) && degree(node) > 0) {
+                maxPirate = node;
+            }
+        }
+        this.maxPirateNode = maxPirate;
+    }
+
+    public int degree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    public int[] getTreasureRegion(int region) {
+        return treasureRegions[region - 1];
+    }
+
+    // 해적이 설 수 있는 노드 번호인지
+    public boolean isPirateNode(int node) {
+        return node >= 1 && node <= maxPirateNode;
+    }
+
+    // 해군이 설 수 있는 노드 번호인지
+    public boolean isMarineNode(int node) {
+        return node >= MARINE_NODE_START && node < nodeCount;
+    }
+
+    static boolean isPirateRange(int node) {
+        return node >= 1 && node <= PIRATE_NODE_LIMIT;
+    }
+}
@@ -0,0 +1,189 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.util.NodeSet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 지도 데이터 파일 파싱 및 검증
+// 형식 (# 뒤는 주석, 빈 줄 무시)
+//   id <아이디>, name <이름>, nodes <노드 수>
+//   treasure <구역 1 ~ 4> <노드...>
+//   marine-start <노드...>
+//   <노드> <인접 노드...>
+// 잘못된 지도로 게임이 시작되지 않도록 읽는 시점에 전부 검사하고, 문제가 있으면 IllegalStateException
+public class BoardMapLoader {
+    private static final int MARINE_COUNT = 3;
+
+    private final String source;
+    private String id;
+    private String name;
+    private int nodeCount;
+    private final int[][] treasureRegions = new int[BoardMap.TREASURE_REGION_COUNT][];
+    private int[] marineStartList;
+    private final Map<Integer, int[]> adjacencyLines = new HashMap<>();
+    private int lineNumber;
+
+    private BoardMapLoader(String source) {
+        this.source = source;
+    }
+
+    public static BoardMap load(String source, InputStream in) {
+        BoardMapLoader loader = new BoardMapLoader(source);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                loader.lineNumber++;
+                loader.parseLine(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(source + " 읽기 실패", e);
+        }
+        loader.lineNumber = 0;
+        return loader.build();
+    }
+
+    private void parseLine(String line) {
+        int comment = line.indexOf('#');
+        String trimmed = (comment >= 0 ? line.substring(0, comment) : line).trim();
+        if (trimmed.isEmpty()) return;
+
+        String[] tokens = trimmed.split("\\s+");
+        switch (tokens[0]) {
+            case "id" -> id = requireValue(tokens, trimmed);
+            case "name" -> name = trimmed.substring("name".length()).trim();
+            case "nodes" -> nodeCount = parseInt(requireValue(tokens, trimmed));
+            case "treasure" -> {
+                if (tokens.length < 3) {
+                    throw error("보물 구역 번호와 노드가 필요함 : " + trimmed);
+                }
+                int region = parseInt(tokens[1]);
+                if (region < 1 || region > BoardMap.TREASURE_REGION_COUNT) {
+                    throw error("보물 구역은 1 ~ " + BoardMap.TREASURE_REGION_COUNT + " : " + region);
+                }
+                if (treasureRegions[region - 1] != null) {
+                    throw error("보물 구역 " + region + " 중복");
+                }
+                treasureRegions[region - 1] = parseNodes(tokens, 2);
+            }
+            case "marine-start" -> marineStartList = parseNodes(tokens, 1);
+            default -> {
+                int node = parseInt(tokens[0]);
+                if (adjacencyLines.put(node, parseNodes(tokens, 1)) != null) {
+                    throw error("노드 " + node + " 의 인접 리스트 중복");
+                }
+            }
+        }
+    }
+
+    private BoardMap build() {
+        if (id == null || !id.matches("[a-z0-9-]+")) {
+            throw error("id 는 영문 소문자, 숫자, - 만 사용 : " + id);
+        }
+        if (nodeCount <= BoardMap.MARINE_NODE_START || nodeCount > NodeSet.NODE_COUNT) {
+            throw error("nodes 는 " + (BoardMap.MARINE_NODE_START + 1) + " ~ " + NodeSet.NODE_COUNT + " : " + nodeCount);
+        }
+
+        // CSR 구성
+        int[] offsets = new int[nodeCount + 1];
+        for (Map.Entry<Integer, int[]> entry : adjacencyLines.entrySet()) {
+            checkNode(entry.getKey(), "인접 리스트");
+            offsets[entry.getKey() + 1] = entry.getValue().length;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        int[] adjacency = new int[offsets[nodeCount]];
+        for (Map.Entry<Integer, int[]> entry : adjacencyLines.entrySet()) {
+            System.arraycopy(entry.getValue(), 0, adjacency, offsets[entry.getKey()], entry.getValue().length);
+        }
+
+        // 인접 노드 번호 범위, 자기 자신, 중복, 양방향 검사
+        for (int node = 1; node < nodeCount; node++) {
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                int next = adjacency[i];
+                checkNode(next, node + " 의 인접 노드");
+                if (next == node) {
+                    throw error("노드 " + node + " 가 자기 자신과 연결됨");
+                }
+                if (count(adjacency, offsets, node, next) > 1) {
+                    throw error("노드 " + node + " 의 인접 노드 " + next + " 중복");
+                }
+                if (count(adjacency, offsets, next, node) == 0) {
+                    throw error(node + " -> " + next + " 연결만 있고 반대 방향이 없음");
+                }
+            }
+        }
+
+        BoardMap map = new BoardMap(id, name == null ? id : name, nodeCount, offsets, adjacency,
+                treasureRegions, marineStartList);
+
+        for (int region = 1; region <= BoardMap.TREASURE_REGION_COUNT; region++) {
+            int[] nodes = treasureRegions[region - 1];
+            if (nodes == null || nodes.length == 0) {
+                throw error("보물 구역 " + region + " 없음");
+            }
+            for (int node : nodes) {
+                if (!map.isPirateNode(node) || map.degree(node) == 0) {
+                    throw error("보물 구역 " + region + " 의 " + node + " 는 해적 노드가 아님");
+                }
+            }
+        }
+        if (marineStartList == null || marineStartList.length < MARINE_COUNT) {
+            throw error("marine-start 는 " + MARINE_COUNT + "개 이상 필요");
+        }
+        for (int node : marineStartList) {
+            if (!map.isMarineNode(node) || map.degree(node) == 0) {
+                throw error("marine-start 의 " + node + " 는 해군 노드가 아님");
+            }
+        }
+        return map;
+    }
+
+    private static int count(int[] adjacency, int[] offsets, int node, int target) {
+        int count = 0;
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+            if (adjacency[i] == target) count++;
+        }
+        return count;
+    }
+
+    private void checkNode(int node, String what) {
+        if (node < 1 || node >= nodeCount) {
+            throw error(what + " 노드 번호 범위 초과 : " + node);
+        }
+    }
+
+    private int[] parseNodes(String[] tokens, int from) {
+        return Arrays.stream(tokens, from, tokens.length)
+                .mapToInt(this::parseInt)
+                .toArray();
+    }
+
+    private String requireValue(String[] tokens, String line) {
+        if (tokens.length != 2) {
+            throw error("값이 하나여야 함 : " + line);
+        }
+        return tokens[1];
+    }
+
+    private int parseInt(String token) {
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw error("숫자가 아님 : " + token);
+        }
+    }
+
+    private IllegalStateException error(String message) {
+        String location = lineNumber > 0 ? source + ":" + lineNumber : source;
+        return new IllegalStateException("지도 파일 오류 (" + location + ") " + message);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.sos.game.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 방마다 최근 채팅 capacity 개만 보관하는 원형 버퍼 (늦게 들어온 플레이어용)
+public class ChatHistory {
+    private final Chat[] buffer;
+    private int next;
+    private int size;
+
+    public ChatHistory(int capacity) {
+        this.buffer = new Chat[capacity];
+    }
+
+    public synchronized void add(Chat chat) {
+        buffer[next] = chat;
+        next = (next + 1) % buffer.length;
+        if (size < buffer.length) size++;
+    }
+
+    // 오래된 순서
+    public synchronized List<Chat> toList() {
+        List<Chat> chats = new ArrayList<>(size);
+        int first = (next - size + buffer.length) % buffer.length;
+        for (int i = 0; i < size; i++) {
+            chats.add(buffer[(first + i) % buffer.length]);
+        }
+        return chats;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.util.GameRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Deque;
+import java.util.HashMap;
+
+// 이동 명령을 보낼 때 계산한 이동 가능 노드 (응답, 시간 초과 처리에서 BFS 를 다시 하지 않도록 보관)
+// 명령 ~ 응답 사이에는 다른 역할이 움직이지 않으므로 명령 시점의 결과를 그대로 재사용할 수 있음
+// 시간 초과 시 이동할 노드는 실제로 시간 초과가 났을 때만 고름
+@Getter
+@AllArgsConstructor
+public class FallbackMove {
+    private final GameRole role;
+    private final HashMap<Integer, Deque<Integer>> availableNode;
+}
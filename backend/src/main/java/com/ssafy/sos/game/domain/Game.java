@@ -1,55 +1,129 @@
 package com.ssafy.sos.game.domain;
 
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.ssafy.sos.game.message.server.GameView;
 import com.ssafy.sos.game.util.GameMode;
+import com.ssafy.sos.game.util.GameRole;
 import com.ssafy.sos.game.util.GameStatus;
-import lombok.Data;
+import com.ssafy.sos.game.util.NodeSet;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-@Data
+// 메모리에 오래 머무르는 게임 상태이므로 역할별 고정 배열, int 경로, 비트마스크 보물로 보관
+// 클라이언트로 보낼 때는 GameView 로 변환하여 기존 JSON 형태 유지
+@Getter
 public class Game {
-    private String gameId;
+    private static final int TREASURE_COUNT = 4;
+    private static final int ROLE_COUNT = GameRole.values().length;
+
+    private final String gameId;
     // 0: 해적, 1: 해군1, 2: 해군2, 3: 해군3
+    @Setter
     private int[] currentPosition; // players의 현재 위치
-    private HashMap<Integer, Player> players; // 역할 : player 객체 정보
-    private HashMap<Integer, Boolean> treasures; // 해적이 가야할 보물 위치
-    private List<Integer> totalPirateRoute;  // 전적용 전체 해적 이동 경로
-    private List<Integer> pirateRoute; // 해적 이동 경로
-    private List<Integer> marineOneRoute; // 해군1 이동 경로
-    private List<Integer> marineTwoRoute; // 해군2 이동 경로
-    private List<Integer> marineThreeRoute; // 해군3 이동 경로
+    @Getter(AccessLevel.NONE)
+    private final Player[] players = new Player[ROLE_COUNT]; // 역할 번호 : player 객체 정보
+    // 닉네임 : 가장 작은 역할 번호 (1:1 모드에서는 한 명이 해군 셋을 맡음), setPlayer 때 갱신
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> roleByNickname = new HashMap<>();
+    // 해적이 가야할 보물 위치, i 번째 비트가 1이면 treasureNodes[i] 가 열린 상태
+    @Getter(AccessLevel.NONE)
+    private final int[] treasureNodes = new int[TREASURE_COUNT];
+    @Getter(AccessLevel.NONE)
+    private int treasureCount;
+    @Getter(AccessLevel.NONE)
+    private byte openedTreasureMask;
+    @Getter(AccessLevel.NONE)
+    private final Route[] routes = new Route[ROLE_COUNT]; // 역할별 이동 경로 (해적은 현재 라운드)
+    @Setter
     private int turn; // 현재 턴
+    @Setter
     private int round; // 현재 라운드
+    @Setter
     private Investigate investigate; // 조사 진행 상태 및 성공 여부
+    @Setter
     private GameStatus gameStatus; // 현재 게임 진행 상태 (시작 전, 진행 중, 게임 종료)
-    private List<Integer> investigateSuccess; // 해군이 조사 성공한 노드 리스트
+    private final Route investigateSuccess = new Route(); // 해군이 조사 성공한 노드 리스트
+    @Setter
     private GameMode gameMode; // 1:1 모드, 1:3 모드
-    private LocalDateTime startTime;
-    private LocalDateTime endTime;
+    @Setter
+    private long startTime; // epoch millis, 0 이면 시작 전
+    @Setter
+    private long endTime;
+    @Setter
     private boolean lockRespond;
+    @Setter
+    private String logId; // 이벤트 로그 아이디 (gameId-무작위 값)
+    @Setter
+    private String mapId = BoardMap.DEFAULT_ID; // 방에서 고른 지도
+    // 시작할 때 고정한 지도 (같은 id 의 파일이 다시 읽혀도 진행 중인 게임은 이 지도로 계속 진행)
+    private BoardMap map;
+    // 해군이 서있는 노드 (탐색 시작 시 currentPosition 기준으로 갱신)
+    @Getter(AccessLevel.NONE)
+    private final NodeSet marineNodes = new NodeSet();
+    // 이동 명령 시 계산한 이동 가능 노드 (응답, 시간 초과 때 재사용, 없으면 다시 계산)
+    @Setter
+    private FallbackMove fallbackMove;
+    // 해군 입장에서 해적이 있을 수 있는 위치 (봇, 관전 화면용)
+    private final PirateBelief pirateBelief = new PirateBelief();
+    // 응답을 기다리는 봇 명령 번호 (0 이면 없음), 늦게 도착한 봇 응답을 버리기 위함
+    // 게임 lock 안에서만 읽고 씀
+    @Getter(AccessLevel.NONE)
+    private long botOrderId;
+    @Getter(AccessLevel.NONE)
+    private long lastBotOrderId;
+    // 마지막으로 클라이언트 메시지를 받은 시각 (epoch millis, 오래 방치된 게임 정리용)
+    private volatile long lastActivity = System.currentTimeMillis();
 
     public Game(String gameId) {
         this.gameId = gameId;
         this.currentPosition = new int[] {0, 0, 0, 0};
-        this.treasures = new HashMap<>();
-        this.pirateRoute = new ArrayList<>();
-        this.marineOneRoute = new ArrayList<>();
-        this.marineTwoRoute = new ArrayList<>();
-        this.marineThreeRoute = new ArrayList<>();
+        for (int role = 0; role < ROLE_COUNT; role++) {
+            routes[role] = new Route();
+        }
         this.turn = 1;
         this.round = 1;
-        this.players = new HashMap<>();
         this.investigate = new Investigate();
         this.gameStatus = GameStatus.BEFORE_START;
-        this.investigateSuccess = new ArrayList<>();
         this.gameMode = GameMode.ONE_VS_THREE;
         this.lockRespond = false;
     }
 
+    public void setMap(BoardMap map) {
+        this.map = map;
+        this.mapId = map.getId();
+    }
+
+    @JsonValue
+    public GameView toView() {
+        return GameView.from(this);
+    }
+
+    // 새 명령 번호 발급 (이전 명령에 대한 봇 응답은 무효)
+    public long issueBotOrder() {
+        botOrderId = ++lastBotOrderId;
+        return botOrderId;
+    }
+
+    // 기다리던 명령에 대한 응답이면 true, 한 번만 받음
+    public boolean takeBotOrder(long orderId) {
+        if (orderId == 0 || orderId != botOrderId) return false;
+        botOrderId = 0;
+        return true;
+    }
+
+    public void clearBotOrder() {
+        botOrderId = 0;
+    }
+
+    public void touch() {
+        this.lastActivity = System.currentTimeMillis();
+    }
+
     public void increaseTurn() {
         this.turn++;
     }
@@ -58,12 +132,117 @@ public class Game {
         this.round++;
     }
 
-    public Integer getPlayerRoleByNickname(String nickname) {
-        for (Map.Entry<Integer, Player> entry : players.entrySet()) {
-            if (entry.getValue().getNickname().equals(nickname)) {
-                return entry.getKey();
+    public Player getPlayer(int role) {
+        return players[role];
+    }
+
+    public void setPlayer(int role, Player player) {
+        players[role] = player;
+        roleByNickname.clear();
+        for (int i = 0; i < ROLE_COUNT; i++) {
+            if (players[i] != null) {
+                roleByNickname.putIfAbsent(players[i].getNickname(), i);
             }
         }
-        return null; // 해당 닉네임을 가진 Player가 없는 경우
+    }
+
+    public Route getRoute(int role) {
+        if (role < 0 || role >= ROLE_COUNT) {
+            throw new IllegalArgumentException("유효하지 않은 role 번호: " + role);
+        }
+        return routes[role];
+    }
+
+    public Route getPirateRoute() {
+        return routes[GameRole.PIRATE.getRoleNumber()];
+    }
+
+    public Route getMarineOneRoute() {
+        return routes[GameRole.MARINE_ONE.getRoleNumber()];
+    }
+
+    public Route getMarineTwoRoute() {
+        return routes[GameRole.MARINE_TWO.getRoleNumber()];
+    }
+
+    public Route getMarineThreeRoute() {
+        return routes[GameRole.MARINE_THREE.getRoleNumber()];
+    }
+
+    // 보물 위치 지정 (기존 보물은 모두 교체)
+    public void setTreasureNodes(int[] nodes) {
+        clearTreasures();
+        for (int node : nodes) {
+            treasureNodes[treasureCount++] = node;
+        }
+    }
+
+    public void openTreasure(int node) {
+        int index = treasureIndex(node);
+        if (index >= 0) {
+            openedTreasureMask |= (byte) (1 << index);
+        }
+    }
+
+    // 아직 열리지 않은 보물 위치인지
+    public boolean isClosedTreasure(int node) {
+        int index = treasureIndex(node);
+        return index >= 0 && (openedTreasureMask & (1 << index)) == 0;
+    }
+
+    public int[] getTreasureNodes() {
+        return Arrays.copyOf(treasureNodes, treasureCount);
+    }
+
+    public int getOpenedTreasureMask() {
+        return openedTreasureMask;
+    }
+
+    // 스냅샷 복구용
+    public void restoreTreasures(int[] nodes, int openedMask) {
+        setTreasureNodes(nodes);
+        openedTreasureMask = (byte) openedMask;
+    }
+
+    public void restoreRoute(int role, int[] nodes) {
+        Route route = getRoute(role);
+        route.clear();
+        for (int node : nodes) {
+            route.addNode(node);
+        }
+    }
+
+    public void clearTreasures() {
+        treasureCount = 0;
+        openedTreasureMask = 0;
+    }
+
+    // 보물 위치 : 열렸는지 여부 (조회, 전송용으로 매번 새로 만듦)
+    public Map<Integer, Boolean> getTreasures() {
+        Map<Integer, Boolean> treasures = new HashMap<>();
+        for (int i = 0; i < treasureCount; i++) {
+            treasures.put(treasureNodes[i], (openedTreasureMask & (1 << i)) != 0);
+        }
+        return treasures;
+    }
+
+    private int treasureIndex(int node) {
+        for (int i = 0; i < treasureCount; i++) {
+            if (treasureNodes[i] == node) return i;
+        }
+        return -1;
+    }
+
+    // 현재 해군 위치로 갱신한 점유 비트셋
+    public NodeSet getMarineNodes() {
+        marineNodes.clear();
+        for (int role = 1; role < ROLE_COUNT; role++) {
+            marineNodes.add(currentPosition[role]);
+        }
+        return marineNodes;
+    }
+
+    public Integer getPlayerRoleByNickname(String nickname) {
+        return roleByNickname.get(nickname); // 해당 닉네임을 가진 Player가 없으면 null
     }
 }
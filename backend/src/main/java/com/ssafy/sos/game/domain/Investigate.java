@@ -1,12 +1,102 @@
 package com.ssafy.sos.game.domain;
 
-import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ssafy.sos.game.util.NodeSet;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 
-@Data
 public class Investigate {
     // 조사 선택 노드 성공, 실패 여부
+    @Getter
+    @Setter
     private boolean success;
-    // 조사 가능 노드 번호 : 조사 했는지 여부
-    private HashMap<Integer, Boolean> nodes;
+    // 조사 가능 노드 (null 이면 아직 조회 전)
+    private int[] candidates;
+    // 조사를 마친 노드
+    private final NodeSet investigated = new NodeSet();
+
+    // 조사 가능 노드 번호 : 조사 했는지 여부 (클라이언트 전송용)
+    public HashMap<Integer, Boolean> getNodes() {
+        if (candidates == null) return null;
+        HashMap<Integer, Boolean> nodes = new HashMap<>();
+        for (int node : candidates) {
+            nodes.put(node, investigated.contains(node));
+        }
+        for (int node = investigated.nextNode(0); node >= 0; node = investigated.nextNode(node + 1)) {
+            nodes.put(node, true);
+        }
+        return nodes;
+    }
+
+    public void setNodes(Map<Integer, Boolean> nodes) {
+        investigated.clear();
+        if (nodes == null) {
+            candidates = null;
+            return;
+        }
+        candidates = nodes.keySet().stream().mapToInt(Integer::intValue).toArray();
+        nodes.forEach((node, done) -> {
+            if (done) investigated.add(node);
+        });
+    }
+
+    @JsonIgnore
+    public boolean isOpened() {
+        return candidates != null;
+    }
+
+    public void open(int[] candidates) {
+        this.candidates = candidates;
+        investigated.clear();
+    }
+
+    public void markInvestigated(int node) {
+        investigated.add(node);
+    }
+
+    // 스냅샷 저장용 (getter 로 만들면 클라이언트 JSON 에 포함되므로 이름을 다르게 둠)
+    public int[] candidateNodes() {
+        return candidates == null ? null : candidates.clone();
+    }
+
+    public int[] investigatedNodes() {
+        int[] nodes = new int[investigated.size()];
+        int index = 0;
+        for (int node = investigated.nextNode(0); node >= 0; node = investigated.nextNode(node + 1)) {
+            nodes[index++] = node;
+        }
+        return nodes;
+    }
+
+    // 아직 조사하지 않은 첫 번째 노드, 없으면 null
+    public Integer nextRemaining() {
+        if (candidates == null) return null;
+        for (int node : candidates) {
+            if (!investigated.contains(node)) return node;
+        }
+        return null;
+    }
+
+    // 아직 조사하지 않은 노드 전체
+    public int[] remainingNodes() {
+        if (candidates == null) return new int[0];
+        return Arrays.stream(candidates)
+                .filter(node -> !investigated.contains(node))
+                .toArray();
+    }
+
+    public boolean hasRemaining() {
+        return nextRemaining() != null;
+    }
+
+    // 조사 종료 후 초기화
+    public void reset() {
+        candidates = null;
+        investigated.clear();
+        success = false;
+    }
 }
@@ -0,0 +1,162 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.util.NodeSet;
+
+// 해군이 알 수 있는 정보만으로 계산한 "해적이 있을 수 있는 위치" 집합
+// 라운드가 시작된 뒤 해적이 이동할 때마다의 후보 집합과 그때의 해군 위치를 보관해 두고
+// 조사 결과가 나오면 라운드 처음부터 다시 걸러냄 (모두 비트셋 연산이라 턴당 수 마이크로초)
+public class PirateBelief {
+    // 한 라운드는 최대 15턴이므로 시작 위치 포함 16단계면 충분
+    private static final int MAX_STEPS = 16;
+
+    // steps[i] : i 번째 이동 후 해적이 있을 수 있는 노드
+    private final NodeSet[] steps = new NodeSet[MAX_STEPS];
+    // marineSteps[i] : i 번째 이동 당시 해군이 서있던 노드 (해적은 이 노드를 지나갈 수 없음)
+    private final NodeSet[] marineSteps = new NodeSet[MAX_STEPS];
+    private int stepCount;
+    // 시작 위치가 해적 경로에 포함되는지 (1라운드만 포함, 이후 라운드는 경로가 비워진 뒤 이동부터 기록)
+    private boolean startInRoute;
+
+    // 작업 공간 (게임 스레드에서만 갱신)
+    private final NodeSet visitedBefore = new NodeSet();
+    private final NodeSet next = new NodeSet();
+    private final NodeSet visited = new NodeSet();
+    private final int[] queue = new int[NodeSet.NODE_COUNT];
+
+    public PirateBelief() {
+        for (int i = 0; i < MAX_STEPS; i++) {
+            steps[i] = new NodeSet();
+            marineSteps[i] = new NodeSet();
+        }
+    }
+
+    // 해적 위치가 공개된 경우 (시작 보물, 라운드 종료 시 열린 보물)
+    public void reset(int node, boolean startInRoute) {
+        steps[0].clear();
+        steps[0].add(node);
+        stepCount = 1;
+        this.startInRoute = startInRoute;
+    }
+
+    // 아직 추적을 시작하지 않은 경우
+    public boolean isKnown() {
+        return stepCount > 0;
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public boolean isStartInRoute() {
+        return startInRoute;
+    }
+
+    // 스냅샷 저장용 : 단계마다 후보 집합, 해군 위치 순서로 비트셋 word 를 이어붙임
+    public long[] toWords() {
+        long[] words = new long[stepCount * 2 * NodeSet.WORD_COUNT];
+        for (int i = 0; i < stepCount; i++) {
+            steps[i].writeTo(words, i * 2 * NodeSet.WORD_COUNT);
+            marineSteps[i].writeTo(words, (i * 2 + 1) * NodeSet.WORD_COUNT);
+        }
+        return words;
+    }
+
+    // 스냅샷 복구 (word 수가 맞지 않으면 추적하지 않은 상태로 둠)
+    public void restore(int stepCount, boolean startInRoute, long[] words) {
+        this.stepCount = 0;
+        if (stepCount <= 0 || stepCount > MAX_STEPS || words.length != stepCount * 2 * NodeSet.WORD_COUNT) return;
+        for (int i = 0; i < stepCount; i++) {
+            steps[i].readFrom(words, i * 2 * NodeSet.WORD_COUNT);
+            marineSteps[i].readFrom(words, (i * 2 + 1) * NodeSet.WORD_COUNT);
+        }
+        this.stepCount = stepCount;
+        this.startInRoute = startInRoute;
+    }
+
+    // 해적 이동 후 호출 (해군 위치는 이동 시점 기준)
+    public void onPirateMove(int[][] graph, NodeSet marineNodes) {
+        if (stepCount == 0) return;
+        if (stepCount == MAX_STEPS) {
+            // 기록할 자리가 없으면 과거를 버리고 현재 집합부터 다시 시작
+            steps[0].copyFrom(steps[stepCount - 1]);
+            stepCount = 1;
+            startInRoute = false;
+        }
+        marineSteps[stepCount].copyFrom(marineNodes);
+        reach(graph, steps[stepCount - 1], marineSteps[stepCount], steps[stepCount]);
+        stepCount++;
+    }
+
+    // 조사 결과 반영 (해적 경로는 이번 라운드 이동만 기록되므로 라운드 처음부터 다시 걸러냄)
+    public void onInvestigate(int[][] graph, int node, boolean success) {
+        if (stepCount == 0) return;
+
+        if (success) {
+            // visitedBefore : i 단계까지 node 를 한 번이라도 지나간 경우의 위치
+            // 이전 단계는 이후에 지나갈 수도 있으므로 그대로 두고 현재 단계만 좁힘
+            visitedBefore.clear();
+            if (startInRoute && steps[0].contains(node)) visitedBefore.add(node);
+            for (int i = 1; i < stepCount; i++) {
+                reach(graph, visitedBefore, marineSteps[i], next);
+                if (steps[i].contains(node)) next.add(node);
+                next.retainAll(steps[i]);
+                visitedBefore.copyFrom(next);
+            }
+            // 기록이 잘린 경우 등 모순이면 기존 집합 유지
+            if (!visitedBefore.isEmpty()) {
+                steps[stepCount - 1].copyFrom(visitedBefore);
+            }
+        } else {
+            // 어느 단계에서도 node 에 있지 않았음
+            if (startInRoute) steps[0].remove(node);
+            for (int i = 1; i < stepCount; i++) {
+                reach(graph, steps[i - 1], marineSteps[i], next);
+                next.retainAll(steps[i]);
+                next.remove(node);
+                steps[i].copyFrom(next);
+            }
+        }
+    }
+
+    // 현재 위치가 아님이 밝혀진 경우 (체포 실패, 턴 종료 시 닫힌 보물 위에 없음)
+    public void exclude(int node) {
+        if (stepCount == 0) return;
+        steps[stepCount - 1].remove(node);
+    }
+
+    public boolean contains(int node) {
+        return stepCount > 0 && steps[stepCount - 1].contains(node);
+    }
+
+    public int size() {
+        return stepCount == 0 ? 0 : steps[stepCount - 1].size();
+    }
+
+    public int[] possibleNodes() {
+        return stepCount == 0 ? new int[0] : steps[stepCount - 1].toArray();
+    }
+
+    // from 의 노드에서 해군이 없는 검은 점을 지나 도착할 수 있는 흰 점 (findPirateAvailableNode 와 같은 규칙)
+    // 여러 시작점을 한 번에 탐색하므로 시작점끼리 서로 도달하는 경우를 포함한 상위 집합
+    private void reach(int[][] graph, NodeSet from, NodeSet marineNodes, NodeSet result) {
+        result.clear();
+        visited.clear();
+        int head = 0, tail = 0;
+        for (int node = from.nextNode(0); node >= 0; node = from.nextNode(node + 1)) {
+            queue[tail++] = node;
+        }
+        // 시작점(흰 점)의 이웃부터 검은 점만 계속 탐색, 흰 점에 닿으면 거기서 멈춤
+        while (head < tail) {
+            int now = queue[head++];
+            for (int adjacent : graph[now]) {
+                if (marineNodes.contains(adjacent)) continue;
+                if (adjacent <= BoardMap.PIRATE_NODE_LIMIT) {
+                    result.add(adjacent);
+                } else if (!visited.contains(adjacent)) {
+                    visited.add(adjacent);
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+    }
+}
@@ -9,4 +9,5 @@ import lombok.Data;
 public class Player {
     private String nickname; // 닉네임
     private UserEntity userInfo;
+    private boolean bot; // 서버가 대신 플레이하는 봇인지
 }
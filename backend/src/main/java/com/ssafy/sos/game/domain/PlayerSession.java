@@ -0,0 +1,27 @@
+package com.ssafy.sos.game.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 소켓 세션에 연결된 플레이어 정보 (매칭 대기 중에는 gameId 가, 그 전에는 nickname 도 null)
+@Getter
+@AllArgsConstructor
+public class PlayerSession {
+    public static final int NO_ROLE = -1;
+
+    private final String sessionId;
+    // 소켓 연결 때 정해진 principal 이름 (로그인 사용자 또는 guest 아이디)
+    private final String user;
+    private final String nickname;
+    private final String gameId;
+    // 게임 시작 후 맡은 역할 번호 (1:1 모드의 해군은 가장 작은 번호), 시작 전이면 NO_ROLE
+    private final int role;
+
+    public static PlayerSession unbound(String sessionId, String user) {
+        return new PlayerSession(sessionId, user, null, null, NO_ROLE);
+    }
+
+    public boolean isBound() {
+        return gameId != null;
+    }
+}
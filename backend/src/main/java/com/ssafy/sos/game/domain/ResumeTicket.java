@@ -0,0 +1,14 @@
+package com.ssafy.sos.game.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 재접속 토큰으로 찾을 수 있는 플레이어 정보
+@Getter
+@AllArgsConstructor
+public class ResumeTicket {
+    private final String gameId;
+    private final String nickname;
+    // 토큰을 발급받은 (이전) 세션, 스냅샷에서 복구한 토큰이면 null
+    private final String sessionId;
+}
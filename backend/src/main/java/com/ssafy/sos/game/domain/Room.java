@@ -1,5 +1,6 @@
 package com.ssafy.sos.game.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ssafy.sos.game.util.GameMode;
 import lombok.Data;
 
@@ -13,13 +14,26 @@ public class Room {
     private List<Player> inRoomPlayers;
     private GameMode gameMode;
     private int isRendered = 0;
+    private String mapId = BoardMap.DEFAULT_ID;
+    private boolean listed; // 방 목록에 공개할지 (코드로만 입장하는 방, 매칭 방은 false)
+    @JsonIgnore
+    private volatile long lastActivity = System.currentTimeMillis(); // 마지막으로 클라이언트 메시지를 받은 시각 (epoch millis)
 
     public Room(String gameId) {
         this.gameId = gameId;
         this.inRoomPlayers = new ArrayList<>();
     }
 
+    // 렌더 완료를 보내는 사람 플레이어 수 (봇 제외)
+    public int countHumanPlayers() {
+        return (int) inRoomPlayers.stream().filter(player -> !player.isBot()).count();
+    }
+
     public void increaseIsRendered() {
         this.isRendered += 1;
     }
+
+    public void touch() {
+        this.lastActivity = System.currentTimeMillis();
+    }
 }
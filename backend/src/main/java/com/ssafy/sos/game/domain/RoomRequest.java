@@ -8,4 +8,6 @@ public class RoomRequest {
     private String nickname;
     private String gameId;
     private GameMode gameMode;
+    private String mapId; // 선택, 없으면 기본 지도
+    private boolean privateRoom; // true 면 방 목록에 공개하지 않음
 }
@@ -0,0 +1,67 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.util.NodeSet;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+// 이동 경로 (int 배열 + 방문 노드 비트셋)
+// List 로 그대로 직렬화되고, contains 는 선형 탐색 대신 비트셋으로 확인
+public class Route extends AbstractList<Integer> {
+    private int[] nodes = new int[16];
+    private int size;
+    private final NodeSet visited = new NodeSet();
+
+    @Override
+    public Integer get(int index) {
+        return getNode(index);
+    }
+
+    public int getNode(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return nodes[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Integer node) {
+        addNode(node);
+        return true;
+    }
+
+    public void addNode(int node) {
+        // 범위 밖 노드면 경로를 바꾸기 전에 예외
+        visited.add(node);
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+        }
+        nodes[size++] = node;
+        modCount++;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(nodes, size);
+    }
+
+    @Override
+    public boolean contains(Object node) {
+        return node instanceof Integer && visited.contains((Integer) node);
+    }
+
+    public boolean containsNode(int node) {
+        return visited.contains(node);
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        visited.clear();
+        modCount++;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.GameHandshakeHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 세션 <-> 플레이어 <-> 방/게임 색인
+// 연결 해제, 중복 접속 확인, 특정 플레이어에게 보내기 모두 전체 세션을 훑지 않고 O(1)
+// 인바운드 채널 스레드, 타이머, 정리 작업이 함께 쓰므로 모든 메서드를 동기화
+public class SessionRegistry {
+    // sessionId : 세션 정보
+    private final Map<String, PlayerSession> sessions = new HashMap<>();
+    // nickname : sessionId
+    private final Map<String, String> sessionByNickname = new HashMap<>();
+    // gameId : sessionId 목록 (들어온 순서)
+    private final Map<String, Set<String>> sessionsByGame = new HashMap<>();
+
+    public synchronized void connect(String sessionId, String user) {
+        sessions.putIfAbsent(sessionId, PlayerSession.unbound(sessionId, user));
+    }
+
+    public synchronized PlayerSession get(String sessionId) {
+        return sessionId == null ? null : sessions.get(sessionId);
+    }
+
+    public synchronized PlayerSession findByNickname(String nickname) {
+        String sessionId = nickname == null ? null : sessionByNickname.get(nickname);
+        return sessionId == null ? null : sessions.get(sessionId);
+    }
+
+    // 닉네임이 다른 세션에 연결되어 있으면 같은 로그인 사용자(principal)의 세션일 때만 넘겨받을 수 있음
+    // guest 아이디는 연결마다 새로 만들어지므로 guest 는 재접속 토큰(/pub/resume)으로만 돌아올 수 있음
+    public synchronized boolean canBind(String sessionId, String nickname) {
+        String other = nickname == null ? null : sessionByNickname.get(nickname);
+        if (other == null || other.equals(sessionId)) return true;
+        PlayerSession session = sessions.get(sessionId);
+        String user = session == null ? null : session.getUser();
+        return user != null && !user.startsWith(GameHandshakeHandler.GUEST_PREFIX)
+                && user.equals(sessions.get(other).getUser());
+    }
+
+    // 같은 닉네임이 다른 세션에 연결되어 있었다면 그 세션의 연결을 끊고 끊기 전 정보를 반환 (중복 접속)
+    // 매칭 대기처럼 아직 방이 없으면 gameId 는 null
+    public synchronized PlayerSession bind(String sessionId, String nickname, String gameId) {
+        PlayerSession duplicate = null;
+        String other = sessionByNickname.get(nickname);
+        if (other != null && !other.equals(sessionId)) {
+            duplicate = unbind(other);
+        }
+
+        PlayerSession previous = sessions.get(sessionId);
+        unindex(previous);
+        String user = previous == null ? null : previous.getUser();
+        sessions.put(sessionId, new PlayerSession(sessionId, user, nickname, gameId, PlayerSession.NO_ROLE));
+        sessionByNickname.put(nickname, sessionId);
+        if (gameId != null) {
+            sessionsByGame.computeIfAbsent(gameId, key -> new LinkedHashSet<>()).add(sessionId);
+        }
+        return duplicate;
+    }
+
+    public synchronized void assignRole(String sessionId, int role) {
+        PlayerSession session = sessions.get(sessionId);
+        if (session == null || !session.isBound()) return;
+        sessions.put(sessionId, new PlayerSession(sessionId, session.getUser(), session.getNickname(), session.getGameId(), role));
+    }
+
+    // 소켓 연결은 유지하고 방/게임 연결만 해제, 이전 정보 반환
+    public synchronized PlayerSession unbind(String sessionId) {
+        PlayerSession session = sessions.get(sessionId);
+        if (session == null) return null;
+        unindex(session);
+        sessions.put(sessionId, PlayerSession.unbound(sessionId, session.getUser()));
+        return session;
+    }
+
+    public synchronized PlayerSession remove(String sessionId) {
+        PlayerSession session = sessions.remove(sessionId);
+        unindex(session);
+        return session;
+    }
+
+    public synchronized List<PlayerSession> sessionsOf(String gameId) {
+        Set<String> sessionIds = sessionsByGame.get(gameId);
+        if (sessionIds == null) return List.of();
+        List<PlayerSession> result = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            result.add(sessions.get(sessionId));
+        }
+        return result;
+    }
+
+    // 방/게임이 없어졌을 때 남아있는 세션 연결 해제, 해제한 수 반환
+    public synchronized int unbindGame(String gameId) {
+        Set<String> sessionIds = sessionsByGame.remove(gameId);
+        if (sessionIds == null) return 0;
+        for (String sessionId : sessionIds) {
+            PlayerSession session = sessions.get(sessionId);
+            sessionByNickname.remove(session.getNickname(), sessionId);
+            sessions.put(sessionId, PlayerSession.unbound(sessionId, session.getUser()));
+        }
+        return sessionIds.size();
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    private void unindex(PlayerSession session) {
+        if (session == null || session.getNickname() == null) return;
+        sessionByNickname.remove(session.getNickname(), session.getSessionId());
+        if (!session.isBound()) return;
+        Set<String> sessionIds = sessionsByGame.get(session.getGameId());
+        if (sessionIds != null) {
+            sessionIds.remove(session.getSessionId());
+            if (sessionIds.isEmpty()) sessionsByGame.remove(session.getGameId());
+        }
+    }
+}
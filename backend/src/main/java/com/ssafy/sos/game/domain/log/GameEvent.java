@@ -0,0 +1,17 @@
+package com.ssafy.sos.game.domain.log;
+
+import com.ssafy.sos.game.util.GameEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게임 로그의 레코드 하나 (파일에는 8바이트로 저장)
+@Getter
+@AllArgsConstructor
+public class GameEvent {
+    private final int seq;
+    private final GameEventType type;
+    private final int role;
+    private final int node;
+    // 게임 시작 시각 기준 경과 시간
+    private final long offsetMillis;
+}
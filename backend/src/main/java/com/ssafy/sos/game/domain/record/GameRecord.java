@@ -18,4 +18,6 @@ public class GameRecord {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private int point;
+    // 이벤트 로그 아이디 (다시보기 조회용)
+    private String logId;
 }
@@ -0,0 +1,240 @@
+package com.ssafy.sos.game.domain.snapshot;
+
+import com.ssafy.sos.game.domain.FallbackMove;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.util.GameMode;
+import com.ssafy.sos.game.util.GameRole;
+import com.ssafy.sos.game.util.GameStatus;
+import com.ssafy.sos.game.util.PendingTimer;
+import com.ssafy.sos.user.domain.UserEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+// 서버 재시작 시 진행 중인 게임을 복구하기 위한 게임 상태 스냅샷
+// 빈 리스트는 redis 에 저장되지 않아 null 로 읽히므로 복구 시 null 을 빈 배열로 처리
+@Getter
+@Setter
+@NoArgsConstructor
+@RedisHash(value = "game_snapshot")
+public class GameSnapshot {
+    private static final int ROLE_COUNT = 4;
+
+    @Id
+    private String gameId;
+    private GameMode gameMode;
+    private GameStatus gameStatus;
+    private List<Integer> currentPosition;
+    // 역할 번호 순서의 닉네임, 회원 번호 (비회원은 0)
+    private List<String> nicknames;
+    private List<Long> userIds;
+    // i 번째 비트가 1이면 i 번 역할은 봇
+    private int botRoleMask;
+    private List<Integer> treasureNodes;
+    private int openedTreasureMask;
+    private List<Integer> pirateRoute;
+    private List<Integer> marineOneRoute;
+    private List<Integer> marineTwoRoute;
+    private List<Integer> marineThreeRoute;
+    private int turn;
+    private int round;
+    private boolean investigateOpened;
+    private List<Integer> investigateCandidates;
+    private List<Integer> investigatedNodes;
+    private boolean investigateResult;
+    private List<Integer> investigateSuccess;
+    private long startTime;
+    private boolean lockRespond;
+    private String logId;
+    // 저장 시점의 이벤트 로그 길이 (복구 시 여기까지 자르고 이어서 기록, 없으면 -1)
+    private long logLength = -1;
+    private String mapId;
+    // 해적 위치 추적 상태 (PirateBelief 단계 수, 단계별 비트셋 word)
+    private int beliefStepCount;
+    private boolean beliefStartInRoute;
+    private List<Long> beliefWords;
+    // 이동 명령 때 계산해 둔 이동 가능 노드 (역할 번호, 없으면 null)
+    // [노드, 경로 길이, 경로 ...] 를 노드마다 이어붙임
+    private Integer fallbackRole;
+    private List<Integer> fallbackAvailableNode;
+    // 역할 번호 순서의 재접속 토큰 (없으면 ""), 복구 후 플레이어가 같은 토큰으로 다시 참가
+    private List<String> resumeTokens;
+    // 저장 시점에 예약되어 있던 타이머
+    private String timerMessage;
+    private long timerFireAt;
+    private long savedAt;
+
+    @TimeToLive
+    private long ttl;
+
+    public static GameSnapshot of(Game game, PendingTimer pendingTimer, long logLength, long ttlSeconds) {
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.gameId = game.getGameId();
+        snapshot.gameMode = game.getGameMode();
+        snapshot.gameStatus = game.getGameStatus();
+        snapshot.currentPosition = toList(game.getCurrentPosition());
+        snapshot.nicknames = new ArrayList<>();
+        snapshot.userIds = new ArrayList<>();
+        for (int role = 0; role < ROLE_COUNT; role++) {
+            Player player = game.getPlayer(role);
+            snapshot.nicknames.add(player == null ? "" : player.getNickname());
+            UserEntity userInfo = player == null ? null : player.getUserInfo();
+            snapshot.userIds.add(userInfo == null ? 0L : userInfo.getId());
+            if (player != null && player.isBot()) {
+                snapshot.botRoleMask |= 1 << role;
+            }
+        }
+        snapshot.treasureNodes = toList(game.getTreasureNodes());
+        snapshot.openedTreasureMask = game.getOpenedTreasureMask();
+        snapshot.pirateRoute = toList(game.getPirateRoute().toIntArray());
+        snapshot.marineOneRoute = toList(game.getMarineOneRoute().toIntArray());
+        snapshot.marineTwoRoute = toList(game.getMarineTwoRoute().toIntArray());
+        snapshot.marineThreeRoute = toList(game.getMarineThreeRoute().toIntArray());
+        snapshot.turn = game.getTurn();
+        snapshot.round = game.getRound();
+        snapshot.investigateOpened = game.getInvestigate().isOpened();
+        snapshot.investigateCandidates = toList(game.getInvestigate().candidateNodes());
+        snapshot.investigatedNodes = toList(game.getInvestigate().investigatedNodes());
+        snapshot.investigateResult = game.getInvestigate().isSuccess();
+        snapshot.investigateSuccess = toList(game.getInvestigateSuccess().toIntArray());
+        snapshot.startTime = game.getStartTime();
+        snapshot.lockRespond = game.isLockRespond();
+        snapshot.logId = game.getLogId();
+        snapshot.logLength = logLength;
+        snapshot.mapId = game.getMapId();
+        snapshot.beliefStepCount = game.getPirateBelief().getStepCount();
+        snapshot.beliefStartInRoute = game.getPirateBelief().isStartInRoute();
+        snapshot.beliefWords = new ArrayList<>();
+        for (long word : game.getPirateBelief().toWords()) {
+            snapshot.beliefWords.add(word);
+        }
+        FallbackMove fallbackMove = game.getFallbackMove();
+        if (fallbackMove != null) {
+            snapshot.fallbackRole = fallbackMove.getRole().getRoleNumber();
+            snapshot.fallbackAvailableNode = new ArrayList<>();
+            for (Map.Entry<Integer, Deque<Integer>> entry : fallbackMove.getAvailableNode().entrySet()) {
+                snapshot.fallbackAvailableNode.add(entry.getKey());
+                snapshot.fallbackAvailableNode.add(entry.getValue().size());
+                snapshot.fallbackAvailableNode.addAll(entry.getValue());
+            }
+        }
+        if (pendingTimer != null) {
+            snapshot.timerMessage = pendingTimer.getMessage();
+            snapshot.timerFireAt = pendingTimer.getFireAt();
+        }
+        snapshot.savedAt = System.currentTimeMillis();
+        snapshot.ttl = ttlSeconds;
+        return snapshot;
+    }
+
+    // tokens : 닉네임 : 재접속 토큰
+    public void putResumeTokens(Map<String, String> tokens) {
+        resumeTokens = new ArrayList<>();
+        for (String nickname : nicknames) {
+            resumeTokens.add(tokens.getOrDefault(nickname, ""));
+        }
+    }
+
+    // 저장된 토큰이 없으면 null
+    public String resumeTokenOf(int role) {
+        if (resumeTokens == null || role >= resumeTokens.size() || resumeTokens.get(role).isEmpty()) {
+            return null;
+        }
+        return resumeTokens.get(role);
+    }
+
+    // userLoader : 회원 번호로 회원 정보 조회 (없으면 null)
+    public Game toGame(LongFunction<UserEntity> userLoader) {
+        Game game = new Game(gameId);
+        game.setGameMode(gameMode);
+        game.setGameStatus(gameStatus);
+        game.setCurrentPosition(toArray(currentPosition, ROLE_COUNT));
+        for (int role = 0; role < ROLE_COUNT && nicknames != null && role < nicknames.size(); role++) {
+            if (nicknames.get(role).isEmpty()) continue;
+            long userId = userIds == null || userIds.size() <= role ? 0 : userIds.get(role);
+            game.setPlayer(role, Player.builder()
+                    .nickname(nicknames.get(role))
+                    .userInfo(userId == 0 ? null : userLoader.apply(userId))
+                    .bot((botRoleMask & (1 << role)) != 0)
+                    .build());
+        }
+        game.restoreTreasures(toArray(treasureNodes, 0), openedTreasureMask);
+        game.restoreRoute(0, toArray(pirateRoute, 0));
+        game.restoreRoute(1, toArray(marineOneRoute, 0));
+        game.restoreRoute(2, toArray(marineTwoRoute, 0));
+        game.restoreRoute(3, toArray(marineThreeRoute, 0));
+        game.setTurn(turn);
+        game.setRound(round);
+        if (investigateOpened) {
+            game.getInvestigate().open(toArray(investigateCandidates, 0));
+            for (int node : toArray(investigatedNodes, 0)) {
+                game.getInvestigate().markInvestigated(node);
+            }
+        }
+        game.getInvestigate().setSuccess(investigateResult);
+        for (int node : toArray(investigateSuccess, 0)) {
+            game.getInvestigateSuccess().addNode(node);
+        }
+        game.setStartTime(startTime);
+        game.setLockRespond(lockRespond);
+        game.setLogId(logId);
+        // 지도를 고르기 전에 저장된 스냅샷은 mapId 가 없으므로 기본 지도
+        if (mapId != null) {
+            game.setMapId(mapId);
+        }
+        long[] words = new long[beliefWords == null ? 0 : beliefWords.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = beliefWords.get(i);
+        }
+        game.getPirateBelief().restore(beliefStepCount, beliefStartInRoute, words);
+        if (fallbackRole != null) {
+            game.setFallbackMove(new FallbackMove(GameRole.fromRoleNumber(fallbackRole), toAvailableNode(fallbackAvailableNode)));
+        }
+        return game;
+    }
+
+    private static HashMap<Integer, Deque<Integer>> toAvailableNode(List<Integer> encoded) {
+        HashMap<Integer, Deque<Integer>> availableNode = new HashMap<>();
+        int index = 0;
+        while (encoded != null && index + 1 < encoded.size()) {
+            int node = encoded.get(index++);
+            int length = encoded.get(index++);
+            Deque<Integer> path = new ArrayDeque<>();
+            for (int i = 0; i < length && index < encoded.size(); i++) {
+                path.add(encoded.get(index++));
+            }
+            availableNode.put(node, path);
+        }
+        return availableNode;
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>();
+        if (values == null) return list;
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static int[] toArray(List<Integer> values, int minLength) {
+        int size = values == null ? 0 : values.size();
+        int[] array = new int[Math.max(size, minLength)];
+        for (int i = 0; i < size; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
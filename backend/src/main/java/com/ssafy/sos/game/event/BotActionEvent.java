@@ -0,0 +1,25 @@
+package com.ssafy.sos.game.event;
+
+import lombok.*;
+import org.springframework.context.ApplicationEvent;
+
+// 봇이 결정한 응답 (클라이언트 메시지와 같은 형태로 처리)
+@Getter
+@Setter
+public class BotActionEvent extends ApplicationEvent {
+    private String gameId;
+    // 응답한 명령 번호 (게임이 기다리는 번호와 다르면 버림)
+    private long orderId;
+    private String message;
+    private int node;
+    private String action;
+
+    public BotActionEvent(Object source, String gameId, long orderId, String message, int node, String action) {
+        super(source);
+        this.gameId = gameId;
+        this.orderId = orderId;
+        this.message = message;
+        this.node = node;
+        this.action = action;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.sos.game.event;
+
+import lombok.*;
+import org.springframework.context.ApplicationEvent;
+
+// 연결이 끊긴 플레이어가 유예 시간 안에 돌아오지 않았을 때 발생
+@Getter
+@Setter
+public class ReconnectTimeoutEvent extends ApplicationEvent {
+    private String gameId;
+    private String nickname;
+
+    public ReconnectTimeoutEvent(Object source, String gameId, String nickname) {
+        super(source);
+        this.gameId = gameId;
+        this.nickname = nickname;
+    }
+}
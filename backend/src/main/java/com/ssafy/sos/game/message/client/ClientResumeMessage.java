@@ -0,0 +1,8 @@
+package com.ssafy.sos.game.message.client;
+
+import lombok.Data;
+
+@Data
+public class ClientResumeMessage {
+    private String token;
+}
@@ -0,0 +1,32 @@
+package com.ssafy.sos.game.message.server;
+
+import com.ssafy.sos.game.domain.BoardMap;
+import lombok.Builder;
+import lombok.Getter;
+
+// 클라이언트 렌더링용 보드 정보 (게임 중 바뀌지 않음)
+@Getter
+@Builder
+public class BoardDefinition {
+    private String mapId;
+    private String name;
+    private int[][] graph;
+    private int[] one;
+    private int[] two;
+    private int[] three;
+    private int[] four;
+    private int[] marineStartList;
+
+    public static BoardDefinition from(BoardMap map) {
+        return BoardDefinition.builder()
+                .mapId(map.getId())
+                .name(map.getName())
+                .graph(map.getGraph())
+                .one(map.getTreasureRegion(1))
+                .two(map.getTreasureRegion(2))
+                .three(map.getTreasureRegion(3))
+                .four(map.getTreasureRegion(4))
+                .marineStartList(map.getMarineStartList())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.sos.game.message.server;
+
+import com.ssafy.sos.game.domain.Chat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 짧은 시간 동안 모인 채팅을 한 프레임으로 전송 (CHATTING_BATCH, 입장 시 기록은 CHATTING_HISTORY)
+@Getter
+@Builder
+public class ChatBatchMessage {
+    private String gameId;
+    private String message;
+    private List<Chat> chats;
+}
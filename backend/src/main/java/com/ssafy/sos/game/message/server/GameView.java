@@ -0,0 +1,88 @@
+package com.ssafy.sos.game.message.server;
+
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Investigate;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.util.GameMode;
+import com.ssafy.sos.game.util.GameRole;
+import com.ssafy.sos.game.util.GameStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Game 의 클라이언트 전송용 형태 (내부 표현이 바뀌어도 기존 JSON 필드 구조 유지)
+@Getter
+@Builder(toBuilder = true)
+public class GameView {
+    private String gameId;
+    private int[] currentPosition;
+    private Map<Integer, Player> players; // 역할 : player 객체 정보
+    private Map<Integer, Boolean> treasures;
+    private List<Integer> pirateRoute;
+    private List<Integer> marineOneRoute;
+    private List<Integer> marineTwoRoute;
+    private List<Integer> marineThreeRoute;
+    private int turn;
+    private int round;
+    private Investigate investigate;
+    private GameStatus gameStatus;
+    private List<Integer> investigateSuccess;
+    private GameMode gameMode;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private boolean lockRespond;
+    private String mapId;
+
+    public static GameView from(Game game) {
+        Map<Integer, Player> players = new HashMap<>();
+        for (GameRole role : GameRole.values()) {
+            Player player = game.getPlayer(role.getRoleNumber());
+            if (player != null) {
+                players.put(role.getRoleNumber(), player);
+            }
+        }
+
+        return GameView.builder()
+                .gameId(game.getGameId())
+                .currentPosition(game.getCurrentPosition())
+                .players(players)
+                .treasures(game.getTreasures())
+                .pirateRoute(game.getPirateRoute())
+                .marineOneRoute(game.getMarineOneRoute())
+                .marineTwoRoute(game.getMarineTwoRoute())
+                .marineThreeRoute(game.getMarineThreeRoute())
+                .turn(game.getTurn())
+                .round(game.getRound())
+                .investigate(game.getInvestigate())
+                .gameStatus(game.getGameStatus())
+                .investigateSuccess(game.getInvestigateSuccess())
+                .gameMode(game.getGameMode())
+                .startTime(toLocalDateTime(game.getStartTime()))
+                .endTime(toLocalDateTime(game.getEndTime()))
+                .lockRespond(game.isLockRespond())
+                .mapId(game.getMapId())
+                .build();
+    }
+
+    // 관전자용 (해군이 알 수 있는 정보만 남기고 해적 위치, 경로는 숨김)
+    public static GameView marineSafeFrom(Game game) {
+        GameView view = from(game);
+        int[] currentPosition = view.getCurrentPosition().clone();
+        currentPosition[GameRole.PIRATE.getRoleNumber()] = 0;
+        return view.toBuilder()
+                .currentPosition(currentPosition)
+                .pirateRoute(List.of())
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        if (epochMillis == 0) return null;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
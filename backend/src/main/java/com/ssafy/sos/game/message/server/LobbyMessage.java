@@ -0,0 +1,14 @@
+package com.ssafy.sos.game.message.server;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// /sub/lobby 방 목록 변경 알림 (ROOM_OPENED, ROOM_UPDATED, ROOM_CLOSED)
+@Getter
+@Builder
+public class LobbyMessage {
+    private String message;
+    private long version;
+    private String gameId;
+    private RoomSummary room; // ROOM_CLOSED 면 null
+}
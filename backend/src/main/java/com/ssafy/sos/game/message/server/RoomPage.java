@@ -0,0 +1,17 @@
+package com.ssafy.sos.game.message.server;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 방 목록 한 페이지
+// nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회 (마지막 페이지면 null)
+// version 보다 작거나 같은 /sub/lobby 변경 알림은 이미 반영된 상태
+@Getter
+@Builder
+public class RoomPage {
+    private List<RoomSummary> rooms;
+    private String nextCursor;
+    private long version;
+}
@@ -0,0 +1,29 @@
+package com.ssafy.sos.game.message.server;
+
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.util.GameMode;
+import lombok.Builder;
+import lombok.Getter;
+
+// 방 목록에 보여줄 방 정보 (변경 시점에 만든 복사본)
+@Getter
+@Builder
+public class RoomSummary {
+    private String gameId;
+    private GameMode gameMode;
+    private String host;
+    private int playerCount;
+    private int playerLimit;
+    private String mapId;
+
+    public static RoomSummary from(Room room) {
+        return RoomSummary.builder()
+                .gameId(room.getGameId())
+                .gameMode(room.getGameMode())
+                .host(room.getHost() == null ? null : room.getHost().getNickname())
+                .playerCount(room.getInRoomPlayers().size())
+                .playerLimit(room.getGameMode().playerLimit())
+                .mapId(room.getMapId())
+                .build();
+    }
+}
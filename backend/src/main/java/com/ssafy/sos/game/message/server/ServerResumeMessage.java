@@ -0,0 +1,19 @@
+package com.ssafy.sos.game.message.server;
+
+import com.ssafy.sos.game.domain.Game;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ServerResumeMessage {
+    private String gameId;
+    private String message;
+    private String nickname;
+    // 다음 재접속에 사용할 토큰 (토큰은 한 번 쓰면 교체됨)
+    private String token;
+    private Game game;
+    // 현재 진행 중인 타이머 (클라이언트가 남은 시간을 그릴 수 있도록)
+    private String pendingMessage;
+    private long remainingMillis;
+}
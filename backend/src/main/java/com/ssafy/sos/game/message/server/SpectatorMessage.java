@@ -0,0 +1,15 @@
+package com.ssafy.sos.game.message.server;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SpectatorMessage {
+    private String gameId;
+    private String message;
+    private GameView game;
+    private int spectatorCount;
+    // 해군이 추정할 수 있는 해적 위치 (해설용)
+    private int[] possiblePirateNodes;
+}
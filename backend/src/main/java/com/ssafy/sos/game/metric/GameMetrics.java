@@ -0,0 +1,128 @@
+package com.ssafy.sos.game.metric;
+
+import com.ssafy.sos.game.util.GameRole;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class GameMetrics {
+    // 메시지 핸들러(/room, /init, /game, /chat, timeout) 처리 시간
+    public static final String HANDLER = "sos.game.handler";
+    // 게임 로직 계산(BFS, 조사, 체포 등) 시간
+    public static final String COMPUTE = "sos.game.compute";
+    // convertAndSend 소요 시간
+    public static final String SEND = "sos.game.send";
+    // 타이머 예약 시각과 실제 실행 시각의 차이
+    public static final String TIMER_LAG = "sos.game.timer.lag";
+    // 정리 작업이 회수한 방, 게임, 세션, 타이머 수
+    public static final String REAPED = "sos.game.reaped";
+
+    private static final String NONE = "NONE";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final Pattern MESSAGE_PATTERN = Pattern.compile("[A-Z_]+");
+    // role 이름이 다른 role 이름을 포함하지 않도록 긴 이름부터 검사
+    private static final GameRole[] ROLE_MATCH_ORDER = {
+            GameRole.MARINE_THREE, GameRole.MARINE_TWO, GameRole.MARINE_ONE, GameRole.PIRATE
+    };
+
+    private final MeterRegistry meterRegistry;
+    // 태그 조합별 Timer (기록할 때마다 registry 조회와 태그 생성을 하지 않도록)
+    private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public void recordHandler(String handler, String message, long startNanos) {
+        timer(HANDLER, "handler", handler, message).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSend(String message, long startNanos) {
+        timer(SEND, "destination", "sub", message).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTimerLag(String message, long lagNanos) {
+        timer(TIMER_LAG, "timer", "game", message).record(Math.max(lagNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    public void recordReaped(String kind, int count) {
+        if (count <= 0) return;
+        Counter.builder(REAPED)
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public <T> T recordCompute(String operation, int role, Supplier<T> computation) {
+        long start = System.nanoTime();
+        try {
+            return computation.get();
+        } finally {
+            String roleTag = roleTag(role);
+            timers.computeIfAbsent(new TimerKey(COMPUTE, operation, roleTag), key -> Timer.builder(COMPUTE)
+                            .tag("operation", operation)
+                            .tag("role", roleTag)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String sourceKey, String source, String message) {
+        String normalized = normalize(message);
+        return timers.computeIfAbsent(new TimerKey(name, source, normalized), key -> Timer.builder(name)
+                .tag(sourceKey, source)
+                .tag("phase", phaseOf(normalized))
+                .tag("role", roleOf(normalized))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // name 마다 source 태그 이름이 정해져 있으므로 name, source 값, 메시지(또는 role)로 구분
+    private record TimerKey(String name, String source, String tag) {
+    }
+
+    // 클라이언트가 보낸 메시지가 그대로 태그가 되지 않도록 형식 제한
+    private static String normalize(String message) {
+        if (message == null || message.length() > 64 || !MESSAGE_PATTERN.matcher(message).matches()) {
+            return UNKNOWN;
+        }
+        return message;
+    }
+
+    // ex) MOVE_MARINE_ONE_TIME_OUT -> MOVE_TIME_OUT
+    public static String phaseOf(String message) {
+        for (GameRole role : ROLE_MATCH_ORDER) {
+            String name = role.name();
+            if (message.startsWith(name + "_")) {
+                return message.substring(name.length() + 1);
+            }
+            if (message.contains("_" + name)) {
+                return message.replace("_" + name, "");
+            }
+        }
+        return message;
+    }
+
+    // ex) MOVE_MARINE_ONE_TIME_OUT -> MARINE_ONE
+    public static String roleOf(String message) {
+        for (GameRole role : ROLE_MATCH_ORDER) {
+            if (message.contains(role.name())) {
+                return role.name();
+            }
+        }
+        return NONE;
+    }
+
+    private static String roleTag(int role) {
+        if (role < 0 || role >= GameRole.values().length) {
+            return NONE;
+        }
+        return GameRole.fromRoleNumber(role).name();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.sos.game.repository;
+
+import com.ssafy.sos.game.domain.snapshot.GameSnapshot;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameSnapshotRepository extends CrudRepository<GameSnapshot, String> {
+}
@@ -0,0 +1,11 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.bot.BotOrder;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.util.GameRole;
+
+public interface BotService {
+    // 봇이 맡은 역할에 명령이 내려지면 공용 워커 풀에서 행동을 계산해 BotActionEvent 로 응답
+    // 사람이 맡은 역할이면 명령 번호만 갱신 (이전 봇 명령의 응답 무효화)
+    void onOrder(String gameId, Game game, GameRole role, BotOrder order, int[] candidates);
+}
@@ -0,0 +1,124 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.bot.BotAction;
+import com.ssafy.sos.game.bot.BotContext;
+import com.ssafy.sos.game.bot.BotOrder;
+import com.ssafy.sos.game.bot.BotPlanner;
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.BoardMap;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.event.BotActionEvent;
+import com.ssafy.sos.game.util.DaemonScheduler;
+import com.ssafy.sos.game.util.GameRole;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 모든 게임의 봇이 스레드 수가 고정된 풀 하나를 공유
+// 사람의 메시지는 인바운드 채널 스레드에서 처리되므로 봇이 많아져도 사람 게임의 처리를 막지 않음
+// 응답은 명령 번호와 함께 보내고, 적용은 사람 메시지와 같은 게임 lock 안에서 진행
+// 계산은 이동 한 번당 move-budget 안에서 끝나고, 풀이 밀려 응답이 늦으면 기존 시간 초과 처리가 대신 진행
+@Slf4j
+@Service
+public class BotServiceImpl implements BotService {
+    private final ApplicationEventPublisher eventPublisher;
+    private final Board board;
+    // 지도 : 해당 지도용 planner (같은 id 의 지도가 다시 읽히면 새 지도용 planner 를 따로 만듦)
+    // 다시 읽혀 더 이상 쓰이지 않는 지도의 planner 는 GC 때 함께 정리
+    private final Map<BoardMap, BotPlanner> botPlanners = Collections.synchronizedMap(new WeakHashMap<>());
+    private final ScheduledExecutorService workers;
+    private final long thinkDelayMillis;
+    private final long moveBudgetNanos;
+    private final AtomicLong seed = new AtomicLong(System.nanoTime());
+
+    public BotServiceImpl(ApplicationEventPublisher eventPublisher,
+                          Board board,
+                          @Value("${sos.bot.threads:2}") int threads,
+                          @Value("${sos.bot.think-delay-ms:1500}") long thinkDelayMillis,
+                          @Value("${sos.bot.move-budget-ms:20}") long moveBudgetMillis) {
+        this.eventPublisher = eventPublisher;
+        this.board = board;
+        this.workers = DaemonScheduler.create("sos-bot-", threads);
+        this.thinkDelayMillis = thinkDelayMillis;
+        this.moveBudgetNanos = TimeUnit.MILLISECONDS.toNanos(moveBudgetMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    public void onOrder(String gameId, Game game, GameRole role, BotOrder order, int[] candidates) {
+        // 사람에게 내린 명령이어도 번호를 바꿔 이전 봇 명령의 늦은 응답을 무효화
+        long orderId = game.issueBotOrder();
+        Player player = game.getPlayer(role.getRoleNumber());
+        if (player == null || !player.isBot()) return;
+
+        BotContext context = BotContext.builder()
+                .gameId(gameId)
+                .orderId(orderId)
+                .map(board.mapOf(game))
+                .role(role)
+                .order(order)
+                .candidates(candidates)
+                .positions(visiblePositions(game, role))
+                .closedTreasures(closedTreasures(game))
+                .investigateSuccess(game.getInvestigateSuccess().toIntArray())
+                .possiblePirateNodes(game.getPirateBelief().possibleNodes())
+                .seed(seed.incrementAndGet())
+                .build();
+
+        // 사람처럼 잠시 생각한 뒤 응답
+        workers.schedule(() -> respond(context), thinkDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void respond(BotContext context) {
+        try {
+            BotPlanner botPlanner = botPlanners.computeIfAbsent(context.getMap(),
+                    map -> new BotPlanner(map.getGraph()));
+            BotAction action = botPlanner.plan(context, System.nanoTime() + moveBudgetNanos);
+            eventPublisher.publishEvent(new BotActionEvent(this, context.getGameId(), context.getOrderId(),
+                    responseMessage(context), action.getNode(), action.getAction()));
+        } catch (RuntimeException e) {
+            // 응답하지 못하면 시간 초과 처리로 넘어감
+            log.warn("bot action failed: {} {} {}", context.getGameId(), context.getRole(), e.toString());
+        }
+    }
+
+    private static String responseMessage(BotContext context) {
+        GameRole role = context.getRole();
+        return switch (context.getOrder()) {
+            case INIT_START -> "INIT_" + role + "_START";
+            case MOVE -> "MOVE_" + role;
+            case SELECT_WORK -> "SELECT_WORK_" + role;
+            case INVESTIGATE -> "INVESTIGATE_" + role;
+            case ARREST -> "ARREST_" + role;
+        };
+    }
+
+    // 해군 봇은 해적 위치를 모름
+    private static int[] visiblePositions(Game game, GameRole role) {
+        int[] positions = game.getCurrentPosition().clone();
+        if (role != GameRole.PIRATE) {
+            positions[GameRole.PIRATE.getRoleNumber()] = 0;
+        }
+        return positions;
+    }
+
+    private static int[] closedTreasures(Game game) {
+        return game.getTreasures().entrySet().stream()
+                .filter(treasure -> !treasure.getValue())
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Chat;
+
+import java.util.List;
+
+public interface ChatService {
+    // 보낸 사람별 전송 한도를 넘으면 false (전송하지 않음)
+    boolean send(String gameId, String sender, int role, String chatMessage);
+    // 최근 채팅 (오래된 순서)
+    List<Chat> getHistory(String gameId);
+}
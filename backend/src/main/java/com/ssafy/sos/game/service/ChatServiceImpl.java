@@ -0,0 +1,135 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Chat;
+import com.ssafy.sos.game.domain.ChatHistory;
+import com.ssafy.sos.game.message.server.ChatBatchMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.util.DaemonScheduler;
+import com.ssafy.sos.game.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+// 채팅은 게임 진행 메시지(/sub/{gameId})와 분리된 /sub/{gameId}/chat 으로 보내고, 바로 브로드캐스트하지 않고
+// 1. 보낸 사람별 토큰 버킷으로 도배를 막고
+// 2. batch-window 동안 모인 채팅을 한 프레임으로 묶어 보내 게임 메시지 사이에 끼는 프레임 수를 줄이고
+// 3. 방마다 최근 history-size 개를 원형 버퍼에 남겨 늦게 들어온 플레이어에게 보여줌
+@Service
+public class ChatServiceImpl implements ChatService {
+    private final SimpMessageSendingOperations sendingOperations;
+    private final Board board;
+    private final GameMetrics gameMetrics;
+    private final int burst;
+    private final double ratePerSecond;
+    private final long batchWindowMillis;
+    private final int historySize;
+    private final ScheduledExecutorService scheduler = DaemonScheduler.create("sos-chat-", 1);
+
+    // 게임 아이디 : 채팅방 상태
+    private final ConcurrentHashMap<String, ChatRoom> rooms = new ConcurrentHashMap<>();
+
+    public ChatServiceImpl(SimpMessageSendingOperations sendingOperations,
+                           Board board,
+                           GameMetrics gameMetrics,
+                           @Value("${sos.chat.burst:5}") int burst,
+                           @Value("${sos.chat.rate-per-second:1}") double ratePerSecond,
+                           @Value("${sos.chat.batch-window-ms:100}") long batchWindowMillis,
+                           @Value("${sos.chat.history-size:50}") int historySize) {
+        this.sendingOperations = sendingOperations;
+        this.board = board;
+        this.gameMetrics = gameMetrics;
+        this.burst = burst;
+        this.ratePerSecond = ratePerSecond;
+        this.batchWindowMillis = batchWindowMillis;
+        this.historySize = historySize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean send(String gameId, String sender, int role, String chatMessage) {
+        ChatRoom room = rooms.computeIfAbsent(gameId, key -> new ChatRoom(historySize));
+        long now = System.nanoTime();
+        if (!room.buckets.computeIfAbsent(sender, key -> new TokenBucket(burst, ratePerSecond, now)).tryAcquire(now)) {
+            return false;
+        }
+
+        Chat chat = Chat.builder()
+                .gameId(gameId)
+                .sender(sender)
+                .role(role)
+                .message("CHATTING")
+                .chatMessage(chatMessage)
+                .build();
+        room.history.add(chat);
+        // 창의 첫 채팅일 때만 전송 예약
+        if (room.enqueue(chat)) {
+            scheduler.schedule(() -> flush(gameId, room), batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public List<Chat> getHistory(String gameId) {
+        ChatRoom room = rooms.get(gameId);
+        return room == null ? List.of() : room.history.toList();
+    }
+
+    // 끝난 게임의 채팅방 정리
+    @Scheduled(fixedDelayString = "${sos.chat.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        rooms.keySet().removeIf(gameId ->
+                !board.getGameMap().containsKey(gameId) && !board.getRoomMap().containsKey(gameId));
+    }
+
+    private void flush(String gameId, ChatRoom room) {
+        List<Chat> chats = room.drain();
+        if (chats.isEmpty()) return;
+
+        ChatBatchMessage batch = ChatBatchMessage.builder()
+                .gameId(gameId)
+                .message("CHATTING_BATCH")
+                .chats(chats)
+                .build();
+        long start = System.nanoTime();
+        try {
+            sendingOperations.convertAndSend("/sub/" + gameId + "/chat", batch);
+        } finally {
+            gameMetrics.recordSend(batch.getMessage(), start);
+        }
+    }
+
+    private static class ChatRoom {
+        private final ChatHistory history;
+        // 보낸 사람 : 토큰 버킷
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private List<Chat> pending = new ArrayList<>();
+
+        private ChatRoom(int historySize) {
+            this.history = new ChatHistory(historySize);
+        }
+
+        // 대기 중인 채팅이 없던 상태였으면 true
+        private synchronized boolean enqueue(Chat chat) {
+            pending.add(chat);
+            return pending.size() == 1;
+        }
+
+        private synchronized List<Chat> drain() {
+            List<Chat> chats = pending;
+            pending = new ArrayList<>();
+            return chats;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.log.GameEvent;
+import com.ssafy.sos.game.util.GameEventType;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+public interface GameEventLogService {
+    // 게임 시작 시 로그 생성 (game.logId 지정)
+    void open(Game game);
+    void append(Game game, GameEventType type, int role, int node);
+    void close(String gameId);
+    // 지금까지 기록한 이벤트를 디스크에 내리고 파일 길이(바이트) 반환, 로그가 없으면 -1 (스냅샷 저장용)
+    long checkpoint(Game game);
+    // 스냅샷으로 복구한 게임의 로그를 length 까지 자르고 이어서 기록 (length < 0 이면 마지막 완전한 레코드까지)
+    void resume(Game game, long length);
+    // 끝난 게임의 로그만 있다고 답함 (진행 중인 게임 로그는 공개하지 않음)
+    boolean exists(String logId);
+    // 저장된 로그를 기록 순서대로 읽음
+    void read(String logId, Consumer<GameEvent> consumer) throws IOException;
+}
@@ -0,0 +1,227 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.log.GameEvent;
+import com.ssafy.sos.game.util.GameEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// 게임별 바이너리 이벤트 로그
+// 헤더: magic(4) version(1) startTime(8) gameId(UTF)
+// 레코드(8바이트): type(1) role(1) node(2) 시작 후 경과 ms(4)
+// 진행 중인 게임은 .part 에 기록하고 close 때 .log 로 바꿈 (해적 이동이 담겨 있으므로 끝난 게임만 공개)
+// logId 는 gameId-무작위 값이라 게임 정보로 추측할 수 없음
+@Slf4j
+@Service
+public class GameEventLogServiceImpl implements GameEventLogService {
+    private static final int MAGIC = 0x534F534C; // "SOSL"
+    private static final byte VERSION = 1;
+    private static final String EXTENSION = ".log";
+    private static final String PARTIAL_EXTENSION = ".part";
+    private static final int RECORD_SIZE = 8;
+    // 경로 조작 방지 (gameId-16자리 hex 형식만 허용)
+    private static final Pattern LOG_ID_PATTERN = Pattern.compile("[A-Za-z0-9]{1,16}-[0-9a-f]{16}");
+
+    private final Path directory;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, LogWriter> writers = new ConcurrentHashMap<>();
+
+    public GameEventLogServiceImpl(@Value("${sos.game-log.dir:game-logs}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @Override
+    public void open(Game game) {
+        if (game.getStartTime() == 0) {
+            game.setStartTime(System.currentTimeMillis());
+        }
+        String logId = game.getGameId() + "-" + String.format("%016x", random.nextLong());
+        game.setLogId(logId);
+        try {
+            Files.createDirectories(directory);
+            LogWriter writer = new LogWriter(game.getStartTime(), partialPathOf(logId), pathOf(logId), false);
+            writer.writeHeader(game.getGameId());
+            LogWriter previous = writers.put(game.getGameId(), writer);
+            if (previous != null) previous.close();
+        } catch (IOException e) {
+            // 로그 기록 실패가 게임 진행을 막지 않도록 함
+            log.warn("game log open failed: {} {}", logId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void append(Game game, GameEventType type, int role, int node) {
+        LogWriter writer = writers.get(game.getGameId());
+        // resume 없이 기록이 들어온 경우에도 기존 파일에 이어서 기록
+        if (writer == null && game.getLogId() != null) {
+            writer = writers.computeIfAbsent(game.getGameId(), gameId -> reopen(game, -1));
+        }
+        if (writer == null) return;
+
+        try {
+            writer.write(type, role, node);
+            // 턴 단위로 디스크에 내려씀
+            if (type == GameEventType.TURN_OVER || type == GameEventType.ROUND_OVER) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.warn("game log append failed: {} {}", game.getLogId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void close(String gameId) {
+        LogWriter writer = writers.remove(gameId);
+        if (writer != null) {
+            writer.close();
+            try {
+                Files.move(writer.partialPath, writer.closedPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("game log close failed: {} {}", writer.closedPath, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public long checkpoint(Game game) {
+        if (game.getLogId() == null) return -1;
+        try {
+            LogWriter writer = writers.get(game.getGameId());
+            if (writer != null) {
+                writer.flush();
+            }
+            Path path = partialPathOf(game.getLogId());
+            return Files.isRegularFile(path) ? Files.size(path) : -1;
+        } catch (IOException e) {
+            log.warn("game log checkpoint failed: {} {}", game.getLogId(), e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public void resume(Game game, long length) {
+        if (game.getLogId() == null) return;
+        LogWriter writer = reopen(game, length);
+        if (writer == null) return;
+        LogWriter previous = writers.put(game.getGameId(), writer);
+        if (previous != null) previous.close();
+    }
+
+    @Override
+    public boolean exists(String logId) {
+        return LOG_ID_PATTERN.matcher(logId).matches() && Files.isRegularFile(pathOf(logId));
+    }
+
+    @Override
+    public void read(String logId, Consumer<GameEvent> consumer) throws IOException {
+        if (!LOG_ID_PATTERN.matcher(logId).matches()) {
+            throw new FileNotFoundException(logId);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(pathOf(logId))))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("invalid game log: " + logId);
+            }
+            in.readLong();
+            in.readUTF();
+
+            int seq = 0;
+            byte[] record = new byte[RECORD_SIZE];
+            // 기록 도중 종료되어 잘린 마지막 레코드는 무시
+            while (in.readNBytes(record, 0, RECORD_SIZE) == RECORD_SIZE) {
+                int code = record[0];
+                int role = record[1];
+                int node = ((record[2] & 0xFF) << 8) | (record[3] & 0xFF);
+                long offset = ((record[4] & 0xFFL) << 24) | ((record[5] & 0xFFL) << 16)
+                        | ((record[6] & 0xFFL) << 8) | (record[7] & 0xFFL);
+                consumer.accept(new GameEvent(seq++, GameEventType.fromCode(code), role, node, offset));
+            }
+        }
+    }
+
+    // 스냅샷 이후에 기록된 이벤트는 복구한 게임에서 다시 일어나므로 스냅샷 시점 길이로 자름
+    // 길이를 모르면 종료 중 잘린 레코드만 잘라 레코드 경계를 맞춤
+    private LogWriter reopen(Game game, long length) {
+        Path path = partialPathOf(game.getLogId());
+        try {
+            if (Files.isRegularFile(path)) {
+                long header = headerLength(game.getGameId());
+                long size = Files.size(path);
+                long target = length >= header && length <= size ? length : size;
+                target = header + Math.max(target - header, 0) / RECORD_SIZE * RECORD_SIZE;
+                if (target < size) {
+                    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                        file.setLength(target);
+                    }
+                }
+            }
+            return new LogWriter(game.getStartTime(), path, pathOf(game.getLogId()), true);
+        } catch (IOException e) {
+            log.warn("game log reopen failed: {} {}", game.getLogId(), e.getMessage());
+            return null;
+        }
+    }
+
+    // magic(4) version(1) startTime(8) + writeUTF(2 + 바이트 수)
+    private static long headerLength(String gameId) {
+        return 4 + 1 + 8 + 2 + gameId.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private Path pathOf(String logId) {
+        return directory.resolve(logId + EXTENSION);
+    }
+
+    private Path partialPathOf(String logId) {
+        return directory.resolve(logId + PARTIAL_EXTENSION);
+    }
+
+    private static class LogWriter {
+        private final long startTime;
+        private final Path partialPath;
+        private final Path closedPath;
+        private final DataOutputStream out;
+
+        LogWriter(long startTime, Path partialPath, Path closedPath, boolean append) throws IOException {
+            this.startTime = startTime;
+            this.partialPath = partialPath;
+            this.closedPath = closedPath;
+            this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(partialPath.toFile(), append)));
+        }
+
+        synchronized void writeHeader(String gameId) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(startTime);
+            out.writeUTF(gameId);
+        }
+
+        synchronized void write(GameEventType type, int role, int node) throws IOException {
+            out.writeByte(type.ordinal());
+            out.writeByte(role);
+            out.writeShort(node);
+            out.writeInt((int) Math.min(System.currentTimeMillis() - startTime, Integer.MAX_VALUE));
+        }
+
+        synchronized void flush() throws IOException {
+            out.flush();
+        }
+
+        synchronized void close() {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 닫는 중 실패는 무시
+            }
+        }
+    }
+}
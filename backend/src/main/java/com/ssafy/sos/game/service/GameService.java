@@ -4,6 +4,7 @@ import com.ssafy.sos.game.domain.Player;
 import com.ssafy.sos.game.domain.Room;
 import com.ssafy.sos.game.util.GameMode;
 
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 
@@ -16,6 +17,7 @@ public interface GameService {
     int[] initMarineStart(String gameId, int MarineNumber, int selectedNode);
     int[] initMarineStartRandom(String gameId, int MarineNumber);
     HashMap<Integer, Deque<Integer>> findMarineAvailableNode(String gameId, int nodeNumber);
+    int selectRandomNode(Collection<Integer> nodes);
     boolean move(String gameId, int nodeNumber, int role);
     Room makeRoom(Player player, GameMode gameMode);
     Room enterRoom(String gameId, Player player);
@@ -24,4 +26,5 @@ public interface GameService {
     int[] findMarineArrestableNode(String gameId, int role);
     boolean arrest(String gameId, int nodeNumber);
     void gameOver(String gameId, boolean gameResult);
+    void releaseRoom(String gameId);
 }
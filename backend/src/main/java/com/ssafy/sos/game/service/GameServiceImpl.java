@@ -3,38 +3,57 @@ package com.ssafy.sos.game.service;
 import com.ssafy.sos.game.domain.*;
 import com.ssafy.sos.game.domain.record.GameRecordMember;
 import com.ssafy.sos.game.domain.record.GameRecord;
+import com.ssafy.sos.game.metric.GameMetrics;
 import com.ssafy.sos.game.repository.GameMemberRepository;
 import com.ssafy.sos.game.util.GameMode;
 import com.ssafy.sos.game.util.GameRole;
 import com.ssafy.sos.game.util.GameStatus;
+import com.ssafy.sos.game.util.NodeSet;
+import com.ssafy.sos.game.util.RoomCodeAllocator;
 import com.ssafy.sos.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.*;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
 
     private final UserRepository userRepository;
     private final GameMemberRepository gameMemberRepository;
     private final GameTimerService gameTimerService;
     private final Board board;
-    private final Random rand = new SecureRandom();
+    private final GameMetrics gameMetrics;
+    private final RoomCodeAllocator roomCodeAllocator;
+    private final Random rand;
     private Game game;
 
-    private boolean isMarineStanding(String gameId, int node) {
-        game = board.getGameMap().get(gameId);
-        int[] currentPosition = game.getCurrentPosition();
-        return currentPosition[1] == node || currentPosition[2] == node || currentPosition[3] == node;
+    @Autowired
+    public GameServiceImpl(UserRepository userRepository, GameMemberRepository gameMemberRepository,
+                           GameTimerService gameTimerService, Board board, GameMetrics gameMetrics,
+                           RoomCodeAllocator roomCodeAllocator) {
+        this(userRepository, gameMemberRepository, gameTimerService, board, gameMetrics, roomCodeAllocator,
+                new SecureRandom());
+    }
+
+    // 시뮬레이터는 seed 고정 Random 을 넘겨 결과를 재현
+    public GameServiceImpl(UserRepository userRepository, GameMemberRepository gameMemberRepository,
+                           GameTimerService gameTimerService, Board board, GameMetrics gameMetrics,
+                           RoomCodeAllocator roomCodeAllocator, Random rand) {
+        this.userRepository = userRepository;
+        this.gameMemberRepository = gameMemberRepository;
+        this.gameTimerService = gameTimerService;
+        this.board = board;
+        this.gameMetrics = gameMetrics;
+        this.roomCodeAllocator = roomCodeAllocator;
+        this.rand = rand;
     }
 
-    private String generateRandomCode() {
-        char randomAlphabet = (char) ('A' + rand.nextInt(26));
-        int randomNumber = rand.nextInt(1000);
-        return String.format("%c%03d", randomAlphabet, randomNumber);
+    private BoardMap mapOf(Game game) {
+        return board.mapOf(game);
     }
 
     @Override
@@ -44,15 +63,17 @@ public class GameServiceImpl implements GameService {
         // 게임 상태 변경
         game.setGameStatus(GameStatus.BEFORE_START);
 
+        Room room = board.getRoomMap().get(gameId);
+        game.setMap(board.getMap(room.getMapId()));
+
         board.getGameMap().put(gameId, game);
         // 보물상자 위치 랜덤 지정
         setPirateTreasure(gameId);
 
         // 사용자별 역할 지정
         List<Integer> random = Arrays.asList(0, 1, 2, 3);
-        Collections.shuffle(random);
+        Collections.shuffle(random, rand);
 
-        Room room = board.getRoomMap().get(gameId);
         List<Player> roomPlayers = room.getInRoomPlayers();
         game.setGameMode(room.getGameMode());
 
@@ -60,37 +81,43 @@ public class GameServiceImpl implements GameService {
         switch (room.getGameMode()) {
             case ONE_VS_ONE -> {
                 if (random.get(0) == 0) {
-                    game.getPlayers().put(0, roomPlayers.get(0));
+                    game.setPlayer(0, roomPlayers.get(0));
                     for (int i = 1; i < 4; i++) {
-                        game.getPlayers().put(i, roomPlayers.get(1));
+                        game.setPlayer(i, roomPlayers.get(1));
                     }
                 } else {
-                    game.getPlayers().put(0, roomPlayers.get(1));
+                    game.setPlayer(0, roomPlayers.get(1));
                     for (int i = 1; i < 4; i++) {
-                        game.getPlayers().put(i, roomPlayers.get(0));
+                        game.setPlayer(i, roomPlayers.get(0));
                     }
                 }
             }
             case ONE_VS_THREE -> {
                 for (int i = 0; i < 4; i++) {
-                    game.getPlayers().put(random.get(i), roomPlayers.get(i));
+                    game.setPlayer(random.get(i), roomPlayers.get(i));
                 }
             }
         }
         // 시작 시간 세팅
-        game.setStartTime(LocalDateTime.now());
+        game.setStartTime(System.currentTimeMillis());
     }
 
     // 보물섬 위치 랜덤 지정
     @Override
     public int[] setPirateTreasure(String gameId) {
-        int[] treasures = new int[4];
+        return gameMetrics.recordCompute("setPirateTreasure", GameRole.PIRATE.getRoleNumber(),
+                () -> pickPirateTreasure(gameId));
+    }
+
+    private int[] pickPirateTreasure(String gameId) {
+        game = board.getGameMap().get(gameId);
+        int[] treasures = new int[BoardMap.TREASURE_REGION_COUNT];
         int randomIndex;
 
-        // 랜덤하게 선택할 배열 선택
+        // 구역마다 보물 후보 중 하나를 랜덤하게 선택
         int[] selectedArray;
         int index = 0;
-        int[][] allArrays = {board.getOne(), board.getTwo(), board.getThree(), board.getFour()};
+        int[][] allArrays = mapOf(game).getTreasureRegions();
         for (int[] allArray : allArrays) {
             selectedArray = allArray;
             randomIndex = rand.nextInt(selectedArray.length);
@@ -98,18 +125,17 @@ public class GameServiceImpl implements GameService {
             index++;
         }
 
-        game = board.getGameMap().get(gameId);
-        HashMap<Integer, Boolean> treasuresMap = game.getTreasures();
-        for (int i=0; i<4; i++) {
-            treasuresMap.put(treasures[i], false);
-        }
+        game.setTreasureNodes(treasures);
         return treasures;
     }
 
-    // 해적 시작위치 수동지정
+    // 해적 시작위치 수동지정 (지도에 없는 노드면 -1)
     @Override
     public int initPirateStart(String gameId, int selectedNode) {
         game = board.getGameMap().get(gameId);
+        if (!mapOf(game).isPirateNode(selectedNode)) {
+            return -1;
+        }
         game.getCurrentPosition()[0] = selectedNode;
         game.getPirateRoute().add(selectedNode);
         return selectedNode;
@@ -133,12 +159,20 @@ public class GameServiceImpl implements GameService {
     // 해적 이동 가능 위치 조회
     @Override
     public HashMap<Integer, Deque<Integer>> findPirateAvailableNode(String gameId, int nodeNumber) {
+        return gameMetrics.recordCompute("findPirateAvailableNode", GameRole.PIRATE.getRoleNumber(),
+                () -> searchPirateAvailableNode(gameId, nodeNumber));
+    }
+
+    private HashMap<Integer, Deque<Integer>> searchPirateAvailableNode(String gameId, int nodeNumber) {
         // BFS 으로 이동가능 모든 노드 탐색 및 직전 경로 저장
         game = board.getGameMap().get(gameId);
-        int[][] graph = board.getGraph();
+        NodeSet marineNodes = game.getMarineNodes();
+        BoardMap map = mapOf(game);
+        int[] offsets = map.getOffsets();
+        int[] adjacency = map.getAdjacency();
         Queue<Integer> queue = new LinkedList<>();
-        boolean[] visited = new boolean[374];
-        int[] previousNode = new int[374];
+        boolean[] visited = new boolean[map.getNodeCount()];
+        int[] previousNode = new int[map.getNodeCount()];
         ArrayList<Integer> result = new ArrayList<>();
 
         queue.add(nodeNumber);
@@ -146,17 +180,18 @@ public class GameServiceImpl implements GameService {
 
         while (!queue.isEmpty()) {
             int now = queue.poll();
-            for (int next : graph[now]) {
+            for (int i = offsets[now]; i < offsets[now + 1]; i++) {
+                int next = adjacency[i];
                 // 방문하지 않은 노드라면
                 if (!visited[next]) {
                     // 이 자리에 해군이 서있다면 (이동 불가)
-                    if (isMarineStanding(gameId, next)) {
+                    if (marineNodes.contains(next)) {
                         visited[next] = true;
                         continue;
                     }
 
                     // 해적 노드라면 (하얀 점이라면)
-                    if (next <= 199) {
+                    if (next <= BoardMap.PIRATE_NODE_LIMIT) {
                         result.add(next);
                     }
                     // 해군 노드라면 (검은 점이라면)
@@ -194,6 +229,10 @@ public class GameServiceImpl implements GameService {
     public int[] initMarineStart(String gameId, int marineNumber, int selectedNode) {
         // 이미 다른 해군이 고른 번호라면
         game = board.getGameMap().get(gameId);
+        if (!mapOf(game).isMarineNode(selectedNode)) {
+            log.warn("marine start rejected, not a marine node: {} {}", gameId, selectedNode);
+            return null;
+        }
         if (selectedNode == game.getCurrentPosition()[1] || selectedNode == game.getCurrentPosition()[2] || selectedNode == game.getCurrentPosition()[3]) {
             System.out.println("이미 다른 해군에 의해 선택된 위치입니다. 다른 위치에서 시작해주세요.");
             return null;
@@ -210,13 +249,13 @@ public class GameServiceImpl implements GameService {
     // 해군 시작 위치 랜덤 지정
     @Override
     public int[] initMarineStartRandom(String gameId, int marineNumber) {
-        int[] marineStart = board.getMarineStartList();
+        game = board.getGameMap().get(gameId);
+        int[] marineStart = mapOf(game).getMarineStartList();
         List<Integer> marineStartList = new ArrayList<>();
         for (int node : marineStart) {
             marineStartList.add(node);
         }
-        Collections.shuffle(marineStartList);
-        game = board.getGameMap().get(gameId);
+        Collections.shuffle(marineStartList, rand);
         // 다른 해군에 의해 선택되지 않은 번호 선택
         for (Integer node : marineStartList) {
             if ((node == game.getCurrentPosition()[1] || node == game.getCurrentPosition()[2] || node == game.getCurrentPosition()[3])) {
@@ -236,24 +275,34 @@ public class GameServiceImpl implements GameService {
     // 해군 이동 가능 위치 조회
     @Override
     public HashMap<Integer, Deque<Integer>> findMarineAvailableNode(String gameId, int nodeNumber) {
+        // 해군 번호는 위치만으로 알 수 없으므로 role 태그 없이 기록
+        return gameMetrics.recordCompute("findMarineAvailableNode", -1,
+                () -> searchMarineAvailableNode(gameId, nodeNumber));
+    }
+
+    private HashMap<Integer, Deque<Integer>> searchMarineAvailableNode(String gameId, int nodeNumber) {
         // 0-1 BFS 으로 이동가능 모든 노드 경로 추적하며 탐색
-        int[][] graph = board.getGraph();
         game = board.getGameMap().get(gameId);
+        NodeSet marineNodes = game.getMarineNodes();
+        BoardMap map = mapOf(game);
+        int[] offsets = map.getOffsets();
+        int[] adjacency = map.getAdjacency();
         ArrayList<Integer> result = new ArrayList<>();
         Deque<Integer> deque = new LinkedList<>();
         deque.add(nodeNumber);
-        int[] distance = new int[374];
-        int[] previousNode = new int[374];
+        int[] distance = new int[map.getNodeCount()];
+        int[] previousNode = new int[map.getNodeCount()];
         Arrays.fill(distance, Integer.MAX_VALUE);
         distance[nodeNumber] = 0;
 
         while(!deque.isEmpty()) {
             int now = deque.removeFirst();
-            for (int next : graph[now]) {
+            for (int i = offsets[now]; i < offsets[now + 1]; i++) {
+                int next = adjacency[i];
                 // 방문하지 않은 노드라면 0~2칸 이동 가능
                 if (distance[next] == Integer.MAX_VALUE) {
                     // 해적 노드라면 (하얀 점이라면)
-                    if (next <= 199) {
+                    if (next <= BoardMap.PIRATE_NODE_LIMIT) {
                         if (distance[now] < distance[next]) {
                             deque.addFirst(next);
                             // 하얀점은 칸수로 세지 않음)
@@ -271,7 +320,7 @@ public class GameServiceImpl implements GameService {
                             if (distance[next] <= 2) {
                                 deque.addLast(next);
                                 // 다른 해군이 서있지 않을때만 해당 정점으로 이동할 수 있음
-                                if (!(isMarineStanding(gameId, next))) {
+                                if (!marineNodes.contains(next)) {
                                     result.add(next);
                                 }
                             }
@@ -307,6 +356,17 @@ public class GameServiceImpl implements GameService {
         return resultMap;
     }
 
+    // 시간 초과 시 후보 노드 중 하나를 무작위로 선택
+    // 정렬, 복사 없이 순회 위치로 고름 (HashMap 의 Integer 키 순회 순서는 키 집합이 같으면 항상 같으므로 seed 재현 가능)
+    @Override
+    public int selectRandomNode(Collection<Integer> nodes) {
+        int index = rand.nextInt(nodes.size());
+        for (int node : nodes) {
+            if (index-- == 0) return node;
+        }
+        throw new IllegalStateException("후보 노드가 순회 중 변경됨");
+    }
+
     @Override
     public boolean move(String gameId, int nodeNumber, int role) {
         Game game = board.getGameMap().get(gameId);
@@ -314,45 +374,25 @@ public class GameServiceImpl implements GameService {
 
         int[] currentPosition = game.getCurrentPosition();
 
-        // 현재 위치 변경 : nodeNumber와 role의 유효성 검사
-        if ((role == 0 && nodeNumber >= 1 && nodeNumber <= 189) ||
-                ((role >= 1 && role <= 3) && nodeNumber >= 200 && nodeNumber <= 373)) {
+        // 현재 위치 변경 : nodeNumber와 role의 유효성 검사 (게임 지도 기준)
+        BoardMap map = mapOf(game);
+        if ((role == 0 && map.isPirateNode(nodeNumber)) ||
+                ((role >= 1 && role <= 3) && map.isMarineNode(nodeNumber))) {
             currentPosition[role] = nodeNumber;
         } else {
             return false;
         }
 
-        // 이동 경로에 추가
-        switch (role) {
-            case 0:
-                game.getPirateRoute().add(nodeNumber);
-                break;
-            case 1:
-                game.getMarineOneRoute().add(nodeNumber);
-                break;
-            case 2:
-                game.getMarineTwoRoute().add(nodeNumber);
-                break;
-            case 3:
-                game.getMarineThreeRoute().add(nodeNumber);
-                break;
-        }
+        // 이동 경로에 추가 (해적 경로는 방문 비트셋도 함께 갱신)
+        game.getRoute(role).addNode(nodeNumber);
 
         return true;
     }
 
     @Override
     public Room makeRoom(Player player, GameMode gameMode) {
-        // 방 번호 랜덤으로 생성 후 중복 검사
-        String gameId;
-        int cnt = 0;
-        do {
-            gameId = generateRandomCode();
-            cnt += 1;
-            if (cnt == 26 * 1000) throw new RuntimeException();
-        } while (
-                board.getGameMap().containsKey(gameId)
-        );
+        // 사용 중이지 않은 방 번호를 무작위로 할당 (모두 사용 중이면 IllegalStateException)
+        String gameId = roomCodeAllocator.allocate();
 
         board.getRoomMap().put(gameId, new Room(gameId));
         Room room = board.getRoomMap().get(gameId);
@@ -378,37 +418,42 @@ public class GameServiceImpl implements GameService {
     // 조사 가능한 노드 반환
     @Override
     public void findMarineInvestigableNode(String gameId, int role) {
+        gameMetrics.recordCompute("findMarineInvestigableNode", role, () -> {
+            openInvestigableNode(gameId, role);
+            return null;
+        });
+    }
+
+    private void openInvestigableNode(String gameId, int role) {
         Game game = board.getGameMap().get(gameId);
         Investigate investigate = game.getInvestigate();
-        HashMap<Integer, Boolean> nodes = investigate.getNodes();
 
-        if (nodes == null) {
+        if (!investigate.isOpened()) {
             // 인접한 노드 중 해적 노드만 가져오기
-            int[] adjList;
-            adjList = Arrays.stream(board.getGraph()[game.getCurrentPosition()[role]])
-                    .filter(adjacentNode -> adjacentNode < 200)
-                    .toArray();
-
-            nodes = new HashMap<>();
-            for (int j : adjList) {
-                nodes.put(j, false);
-            }
-
-            investigate.setNodes(nodes);
+            investigate.open(mapOf(game).getPirateNeighbors()[game.getCurrentPosition()[role]]);
         }
     }
 
     @Override
     public boolean investigate(String gameId, int nodeNumber, int role) {
+        return gameMetrics.recordCompute("investigate", role,
+                () -> checkInvestigate(gameId, nodeNumber, role));
+    }
+
+    private boolean checkInvestigate(String gameId, int nodeNumber, int role) {
         Game game = board.getGameMap().get(gameId);
         Investigate investigate = game.getInvestigate();
-        HashMap<Integer, Boolean> nodes = investigate.getNodes();
 
-        nodes.put(nodeNumber, true);
+        // 지도에 없는 노드는 조사 실패로 처리
+        if (!mapOf(game).isPirateNode(nodeNumber)) {
+            investigate.setSuccess(false);
+            return false;
+        }
+        investigate.markInvestigated(nodeNumber);
 
         // 조사 성공/실패
         // 해적이 지나간 경로에 조사하려는 노드 번호가 포함되었을 경우 true 반환
-        if (game.getPirateRoute().contains(nodeNumber)) {
+        if (game.getPirateRoute().containsNode(nodeNumber)) {
             investigate.setSuccess(true);
             game.getInvestigateSuccess().add(nodeNumber);
             return true;
@@ -420,14 +465,14 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public int[] findMarineArrestableNode(String gameId, int role) {
-        game = board.getGameMap().get(gameId);
-        // 인접한 노드 중 해적 노드만 가져오기
-        int[] adjList;
-        adjList = Arrays.stream(board.getGraph()[game.getCurrentPosition()[role]])
-                .filter(adjacentNode -> adjacentNode < 200)
-                .toArray();
+        return gameMetrics.recordCompute("findMarineArrestableNode", role,
+                () -> searchMarineArrestableNode(gameId, role));
+    }
 
-        return adjList;
+    private int[] searchMarineArrestableNode(String gameId, int role) {
+        game = board.getGameMap().get(gameId);
+        // 인접한 노드 중 해적 노드만 가져오기 (보드에서 미리 계산한 배열의 복사본)
+        return mapOf(game).getPirateNeighbors()[game.getCurrentPosition()[role]].clone();
     }
 
     @Override
@@ -439,31 +484,32 @@ public class GameServiceImpl implements GameService {
     @Override
     public void gameOver(String gameId, boolean gameResult) {
         Game game = board.getGameMap().get(gameId);
-        game.setEndTime(LocalDateTime.now());
+        game.setEndTime(System.currentTimeMillis());
 
         // 혹시 타이머가 돌아가고 있다면 타이머 종료
         gameTimerService.cancelTimer(gameId);
 
         // mongodb에 gameRecord 저장
         for (int i = 0; i < game.getGameMode().playerLimit(); i++) {
-            Player player = game.getPlayers().get(i);
+            Player player = game.getPlayer(i);
             // 해당 플레이어가 회원이면 기록 저장
             if (player.getUserInfo() != null) {
                 GameRecord gameRecord = GameRecord.builder()
-                        .thieve(game.getPlayers().get(0).getNickname())
+                        .thieve(game.getPlayer(0).getNickname())
                         .navy(new String[]{
-                                game.getPlayers().get(1).getNickname(),
-                                game.getPlayers().get(2).getNickname(),
-                                game.getPlayers().get(3).getNickname()})
-                        .nodes(game.getPirateRoute())
+                                game.getPlayer(1).getNickname(),
+                                game.getPlayer(2).getNickname(),
+                                game.getPlayer(3).getNickname()})
+                        .nodes(new ArrayList<>(game.getPirateRoute()))
                         .victory((gameResult && i == GameRole.PIRATE.getRoleNumber()) ||
                                 (!gameResult && i != GameRole.PIRATE.getRoleNumber()))
                         .startTime(LocalDateTime.now())
                         .endTime(LocalDateTime.now())
                         .point(100)
+                        .logId(game.getLogId())
                         .build();
 
-                String username = game.getPlayers().get(i).getNickname();
+                String username = game.getPlayer(i).getNickname();
                 GameRecordMember gameRecordMember = gameMemberRepository.findByUsername(username)
                         .orElseGet(() -> {
                             GameRecordMember newMember = GameRecordMember.builder()
@@ -477,7 +523,7 @@ public class GameServiceImpl implements GameService {
                 // gold는 승리한 플레이어만 증가
                 if((gameResult && i == GameRole.PIRATE.getRoleNumber()) ||
                         (!gameResult && i != GameRole.PIRATE.getRoleNumber())) {
-                    userRepository.addGoldByUsername(game.getPlayers().get(i).getUserInfo().getUsername());
+                    userRepository.addGoldByUsername(game.getPlayer(i).getUserInfo().getUsername());
                 }
 
                 gameRecordMember.getGameRecords().add(gameRecord);
@@ -486,6 +532,14 @@ public class GameServiceImpl implements GameService {
         }
         game.setGameStatus(GameStatus.GAME_FINISHED);
         board.getGameMap().remove(gameId);
+        releaseRoom(gameId);
+    }
+
+    @Override
+    public void releaseRoom(String gameId) {
+        // 대기방과 게임이 모두 없어졌을 때만 방 번호 반납
+        if (board.getRoomMap().containsKey(gameId) || board.getGameMap().containsKey(gameId)) return;
+        roomCodeAllocator.release(gameId);
     }
 
 }
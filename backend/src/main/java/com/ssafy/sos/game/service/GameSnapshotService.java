@@ -0,0 +1,10 @@
+package com.ssafy.sos.game.service;
+
+public interface GameSnapshotService {
+    // 상태가 바뀐 게임 표시 (다음 flush 때 저장)
+    void markDirty(String gameId);
+    // 표시된 게임 저장, 끝난 게임은 스냅샷 삭제
+    void flush();
+    // 저장된 스냅샷으로 게임 복구 후 타이머 재예약, 복구한 게임 수 반환
+    int restore();
+}
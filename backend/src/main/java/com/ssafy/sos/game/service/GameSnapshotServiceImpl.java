@@ -0,0 +1,141 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.domain.snapshot.GameSnapshot;
+import com.ssafy.sos.game.repository.GameSnapshotRepository;
+import com.ssafy.sos.game.util.GameRole;
+import com.ssafy.sos.game.util.GameStatus;
+import com.ssafy.sos.game.util.PendingTimer;
+import com.ssafy.sos.game.util.RoomCodeAllocator;
+import com.ssafy.sos.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSnapshotServiceImpl implements GameSnapshotService {
+    private final Board board;
+    private final GameTimerService gameTimerService;
+    private final GameSnapshotRepository gameSnapshotRepository;
+    private final UserRepository userRepository;
+    private final RoomCodeAllocator roomCodeAllocator;
+    private final GameEventLogService gameEventLogService;
+    private final ReconnectService reconnectService;
+    private final Set<String> dirtyGames = ConcurrentHashMap.newKeySet();
+
+    // 서버가 내려가 있는 동안 끝난 게임의 스냅샷이 남지 않도록 만료 시간 지정
+    @Value("${sos.snapshot.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    // 복구 후 플레이어가 다시 접속할 수 있도록 타이머에 최소 대기 시간 부여
+    @Value("${sos.snapshot.restore-min-delay-ms:10000}")
+    private long restoreMinDelayMillis;
+
+    @Override
+    public void markDirty(String gameId) {
+        if (gameId != null) {
+            dirtyGames.add(gameId);
+        }
+    }
+
+    // 상태 전이마다 redis 에 쓰지 않고 모아서 주기적으로 저장
+    @Override
+    @Scheduled(fixedDelayString = "${sos.snapshot.flush-interval-ms:1000}")
+    public void flush() {
+        Iterator<String> iterator = dirtyGames.iterator();
+        while (iterator.hasNext()) {
+            String gameId = iterator.next();
+            iterator.remove();
+            try {
+                Game game = board.getGameMap().get(gameId);
+                GameSnapshot snapshot = game == null ? null : snapshotOf(gameId, game);
+                if (snapshot == null) {
+                    gameSnapshotRepository.deleteById(gameId);
+                    continue;
+                }
+                gameSnapshotRepository.save(snapshot);
+            } catch (RuntimeException e) {
+                // redis 장애가 게임 진행을 막지 않도록 로그만 남기고 다음 flush 때 다시 시도
+                log.warn("game snapshot failed: {} {}", gameId, e.getMessage());
+                dirtyGames.add(gameId);
+                return;
+            }
+        }
+    }
+
+    // 메시지 처리 스레드가 게임 lock 안에서 상태를 바꾸므로 같은 lock 안에서 읽어 중간 상태가 저장되지 않게 함
+    // redis 저장은 lock 밖에서 수행, 진행 중이 아니면 null
+    private GameSnapshot snapshotOf(String gameId, Game game) {
+        synchronized (game) {
+            if (game.getGameStatus() != GameStatus.IN_GAME) return null;
+            PendingTimer pendingTimer = gameTimerService.getPendingTimer(gameId);
+            long logLength = gameEventLogService.checkpoint(game);
+            GameSnapshot snapshot = GameSnapshot.of(game, pendingTimer, logLength, ttlSeconds);
+            snapshot.putResumeTokens(reconnectService.tokensOf(gameId));
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        try {
+            log.info("restored {} games from snapshot", restore());
+        } catch (RuntimeException e) {
+            log.warn("game snapshot restore failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int restore() {
+        int restored = 0;
+        long now = System.currentTimeMillis();
+        for (GameSnapshot snapshot : gameSnapshotRepository.findAll()) {
+            if (snapshot == null || board.getGameMap().containsKey(snapshot.getGameId())) continue;
+
+            Game game = snapshot.toGame(userId -> userRepository.findById(userId).orElse(null));
+            // 스냅샷의 mapId 로 지도를 다시 찾아 고정
+            game.setMap(board.getMap(game.getMapId()));
+            board.getGameMap().put(game.getGameId(), game);
+            // 복구한 게임의 방 번호가 새 방에 다시 할당되지 않도록 예약
+            roomCodeAllocator.reserve(game.getGameId());
+            // 스냅샷 이후 기록된 이벤트는 버리고 이어서 기록
+            gameEventLogService.resume(game, snapshot.getLogLength());
+            restoreResumeTokens(game, snapshot);
+
+            if (snapshot.getTimerMessage() != null) {
+                long remaining = snapshot.getTimerFireAt() - now;
+                gameTimerService.restoreTimer(game.getGameId(), snapshot.getTimerMessage(),
+                        Math.max(remaining, restoreMinDelayMillis));
+            }
+            restored++;
+        }
+        return restored;
+    }
+
+    // 재시작으로 모든 플레이어의 연결이 끊겼으므로 저장된 토큰을 다시 등록하고 유예 시간 시작
+    // 유예 시간 안에 돌아오지 않은 플레이어는 재접속 만료와 같이 처리
+    private void restoreResumeTokens(Game game, GameSnapshot snapshot) {
+        for (GameRole role : GameRole.values()) {
+            Player player = game.getPlayer(role.getRoleNumber());
+            if (player == null || player.isBot()) continue;
+
+            String token = snapshot.resumeTokenOf(role.getRoleNumber());
+            if (token != null) {
+                reconnectService.restoreToken(game.getGameId(), player.getNickname(), token);
+            }
+            reconnectService.startGrace(game.getGameId(), player.getNickname());
+        }
+    }
+}
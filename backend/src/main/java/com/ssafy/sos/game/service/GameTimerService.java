@@ -1,6 +1,6 @@
 package com.ssafy.sos.game.service;
 
-import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.util.PendingTimer;
 
 public interface GameTimerService {
     void startResponseWaitingTimer(String gameId, String message);
@@ -10,4 +10,10 @@ public interface GameTimerService {
     void afterInitTimer(String gameId, String message);
     void afterSelectTimer(String gameId, String message);
     void cancelTimer(String gameId);
+    // 현재 예약되어 있는 타이머 (없으면 null)
+    PendingTimer getPendingTimer(String gameId);
+    // 스냅샷 복구 시 남은 시간만큼 타이머 재예약
+    void restoreTimer(String gameId, String message, long delayMillis);
+    // 이미 실행된 타이머 정리 후 정리한 개수 반환
+    int purgeCompleted();
 }
@@ -1,6 +1,9 @@
 package com.ssafy.sos.game.service;
 
 import com.ssafy.sos.game.event.TimerTimeoutEvent;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.util.PendingTimer;
+import com.ssafy.sos.game.util.TimerType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -13,55 +16,81 @@ public class GameTimerServiceImpl implements GameTimerService {
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
     private final ApplicationEventPublisher eventPublisher;
     private final ConcurrentHashMap<String, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PendingTimer> pendingTimers = new ConcurrentHashMap<>();
+    private final GameMetrics gameMetrics;
+
+    // 예약 시각을 기억해두었다가 실제 실행 시각과의 차이를 기록
+    private void schedule(String gameId, String message, TimerType timerType) {
+        schedule(gameId, message, timerType.getDelayMillis());
+    }
+
+    private void schedule(String gameId, String message, long delay) {
+        long scheduledAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        PendingTimer pendingTimer = new PendingTimer(message, System.currentTimeMillis() + delay);
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+            pendingTimers.remove(gameId, pendingTimer);
+            gameMetrics.recordTimerLag(message, System.nanoTime() - scheduledAt);
+            eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message));
+        }, delay, TimeUnit.MILLISECONDS);
+        pendingTimers.put(gameId, pendingTimer);
+        futures.put(gameId, future);
+    }
 
     @Override
     public void startResponseWaitingTimer(String gameId, String message) {
-        ScheduledFuture<?> future = scheduler.schedule(() ->
-                eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message)), 15, TimeUnit.SECONDS);
-        futures.put(gameId, future);
+        schedule(gameId, message, TimerType.RESPONSE_WAITING);
     }
 
     @Override
     public void startRenderWaitingTimer(String gameId, String message) {
-        ScheduledFuture<?> future = scheduler.schedule(() ->
-                eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message)), 3, TimeUnit.SECONDS);
-        futures.put(gameId, future);
+        schedule(gameId, message, TimerType.RENDER_WAITING);
     }
 
     @Override
     public void afterMatchingTimer(String gameId, String message) {
-        ScheduledFuture<?> future = scheduler.schedule(() ->
-                eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message)), 1, TimeUnit.SECONDS);
-        futures.put(gameId, future);
+        schedule(gameId, message, TimerType.AFTER_MATCHING);
     }
 
     @Override
     public void beforePrepareGameStart(String gameId, String message) {
-        ScheduledFuture<?> future = scheduler.schedule(() ->
-                eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message)), 1, TimeUnit.SECONDS);
-        futures.put(gameId, future);
+        schedule(gameId, message, TimerType.BEFORE_PREPARE_GAME_START);
     }
 
     @Override
     public void afterInitTimer(String gameId, String message) {
-        ScheduledFuture<?> future = scheduler.schedule(() ->
-                eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message)), 8, TimeUnit.SECONDS);
-        futures.put(gameId, future);
+        schedule(gameId, message, TimerType.AFTER_INIT);
     }
 
     @Override
     public void afterSelectTimer(String gameId, String message) {
-        ScheduledFuture<?> future = scheduler.schedule(() ->
-                eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message)), 1, TimeUnit.SECONDS);
-        futures.put(gameId, future);
+        schedule(gameId, message, TimerType.AFTER_SELECT);
     }
 
     @Override
     public void cancelTimer(String gameId) {
+        pendingTimers.remove(gameId);
         ScheduledFuture<?> future = futures.remove(gameId);
         if (future != null && !future.isDone()) {
             future.cancel(false);
         }
     }
 
+    @Override
+    public PendingTimer getPendingTimer(String gameId) {
+        return pendingTimers.get(gameId);
+    }
+
+    @Override
+    public void restoreTimer(String gameId, String message, long delayMillis) {
+        schedule(gameId, message, Math.max(delayMillis, 0));
+    }
+
+    // 실행이 끝난 타이머는 취소되지 않는 한 futures 에 남으므로 주기적으로 정리
+    @Override
+    public int purgeCompleted() {
+        int before = futures.size();
+        futures.values().removeIf(Future::isDone);
+        return Math.max(before - futures.size(), 0);
+    }
+
 }
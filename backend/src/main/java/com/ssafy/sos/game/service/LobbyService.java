@@ -0,0 +1,14 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.message.server.RoomPage;
+import com.ssafy.sos.game.util.GameMode;
+
+public interface LobbyService {
+    // 방 인원 등이 바뀐 뒤 호출 (입장 가능하면 목록에 추가, 갱신, 아니면 제거)
+    void update(Room room);
+    // 방이 없어지거나 게임이 시작된 경우
+    void remove(String gameId);
+    // gameMode 가 null 이면 전체 모드
+    RoomPage list(GameMode gameMode, String cursor, int size);
+}
@@ -0,0 +1,109 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.message.server.LobbyMessage;
+import com.ssafy.sos.game.message.server.RoomPage;
+import com.ssafy.sos.game.message.server.RoomSummary;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.util.GameMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 입장 가능한 방(공개, 정원 미달, 시작 전)만 gameId 순으로 정렬해 모드별로 따로 보관
+// 목록 조회는 cursor 다음부터 size 개만 읽으므로 전체 방 수와 관계없이 O(page)
+// 바뀔 때마다 /sub/lobby 로 변경분만 알림
+@Service
+@RequiredArgsConstructor
+public class LobbyServiceImpl implements LobbyService {
+    public static final String DESTINATION = "/sub/lobby";
+
+    private final SimpMessageSendingOperations sendingOperations;
+    private final GameMetrics gameMetrics;
+
+    // gameId : 방 정보
+    private final NavigableMap<String, RoomSummary> rooms = new ConcurrentSkipListMap<>();
+    private final Map<GameMode, NavigableMap<String, RoomSummary>> roomsByMode = createIndex();
+    // 변경 알림마다 1씩 증가
+    private long version;
+
+    @Override
+    public synchronized void update(Room room) {
+        if (!room.isListed() || room.getInRoomPlayers().size() >= room.getGameMode().playerLimit()) {
+            remove(room.getGameId());
+            return;
+        }
+
+        RoomSummary summary = RoomSummary.from(room);
+        RoomSummary previous = rooms.put(room.getGameId(), summary);
+        // 모드가 바뀌는 경우는 없지만 이전 색인이 남지 않도록 정리
+        if (previous != null && previous.getGameMode() != summary.getGameMode()) {
+            roomsByMode.get(previous.getGameMode()).remove(room.getGameId());
+        }
+        roomsByMode.get(summary.getGameMode()).put(room.getGameId(), summary);
+        publish(previous == null ? "ROOM_OPENED" : "ROOM_UPDATED", room.getGameId(), summary);
+    }
+
+    @Override
+    public synchronized void remove(String gameId) {
+        RoomSummary previous = rooms.remove(gameId);
+        if (previous == null) return;
+
+        roomsByMode.get(previous.getGameMode()).remove(gameId);
+        publish("ROOM_CLOSED", gameId, null);
+    }
+
+    @Override
+    public RoomPage list(GameMode gameMode, String cursor, int size) {
+        NavigableMap<String, RoomSummary> index = gameMode == null ? rooms : roomsByMode.get(gameMode);
+        // 조회 전에 읽은 version 이므로 이후 변경 알림은 모두 version 보다 큼
+        long listedVersion = currentVersion();
+        NavigableMap<String, RoomSummary> page = cursor == null ? index : index.tailMap(cursor, false);
+
+        List<RoomSummary> result = new ArrayList<>(size);
+        Iterator<RoomSummary> iterator = page.values().iterator();
+        while (iterator.hasNext() && result.size() < size) {
+            result.add(iterator.next());
+        }
+        return RoomPage.builder()
+                .rooms(result)
+                .nextCursor(iterator.hasNext() ? result.get(result.size() - 1).getGameId() : null)
+                .version(listedVersion)
+                .build();
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    private void publish(String message, String gameId, RoomSummary summary) {
+        LobbyMessage lobbyMessage = LobbyMessage.builder()
+                .message(message)
+                .version(++version)
+                .gameId(gameId)
+                .room(summary)
+                .build();
+        long start = System.nanoTime();
+        try {
+            sendingOperations.convertAndSend(DESTINATION, lobbyMessage);
+        } finally {
+            gameMetrics.recordSend(message, start);
+        }
+    }
+
+    private static Map<GameMode, NavigableMap<String, RoomSummary>> createIndex() {
+        Map<GameMode, NavigableMap<String, RoomSummary>> index = new EnumMap<>(GameMode.class);
+        for (GameMode gameMode : GameMode.values()) {
+            index.put(gameMode, new ConcurrentSkipListMap<>());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,6 @@
+package com.ssafy.sos.game.service;
+
+public interface ReaperService {
+    // now 기준으로 오래 방치된 방, 게임, 끊긴 세션, 끝난 타이머를 정리하고 정리한 개수 반환
+    int reap(long now);
+}
@@ -0,0 +1,178 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.message.server.ServerMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.util.GameStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방은 퇴장/연결 해제, 게임은 gameOver 에서만 지워지므로 놓친 경로가 있으면 Board 에 영원히 남음
+// 마지막 활동 시각(Room, Game 의 lastActivity)을 기준으로 주기적으로
+// 1. 오래 방치된 대기방
+// 2. 시작 전(BEFORE_START) 에서 멈춘 게임, 진행 중 방치된 게임, 지워지지 않은 끝난 게임
+// 3. 연결이 끊긴 뒤에도 세션 목록에 남은 세션 (연결 해제 처리가 누락된 경우)
+// 4. 실행이 끝난 타이머
+// 를 정리하고 종류별 개수를 sos.game.reaped 로 기록
+@Slf4j
+@Service
+public class ReaperServiceImpl implements ReaperService {
+    private final Board board;
+    private final GameService gameService;
+    private final GameTimerService gameTimerService;
+    private final LobbyService lobbyService;
+    private final ReconnectService reconnectService;
+    private final GameEventLogService gameEventLogService;
+    private final GameSnapshotService gameSnapshotService;
+    private final SimpMessageSendingOperations sendingOperations;
+    private final GameMetrics gameMetrics;
+    private final long roomIdleMillis;
+    private final long beforeStartMillis;
+    private final long gameIdleMillis;
+    private final long sessionGraceMillis;
+
+    // 연결이 끊긴 세션 : 끊긴 시각
+    private final ConcurrentHashMap<String, Long> closedSessions = new ConcurrentHashMap<>();
+
+    public ReaperServiceImpl(Board board,
+                             GameService gameService,
+                             GameTimerService gameTimerService,
+                             LobbyService lobbyService,
+                             ReconnectService reconnectService,
+                             GameEventLogService gameEventLogService,
+                             GameSnapshotService gameSnapshotService,
+                             SimpMessageSendingOperations sendingOperations,
+                             GameMetrics gameMetrics,
+                             @Value("${sos.reaper.room-idle-ms:1800000}") long roomIdleMillis,
+                             @Value("${sos.reaper.before-start-ms:300000}") long beforeStartMillis,
+                             @Value("${sos.reaper.game-idle-ms:3600000}") long gameIdleMillis,
+                             @Value("${sos.reaper.session-grace-ms:60000}") long sessionGraceMillis) {
+        this.board = board;
+        this.gameService = gameService;
+        this.gameTimerService = gameTimerService;
+        this.lobbyService = lobbyService;
+        this.reconnectService = reconnectService;
+        this.gameEventLogService = gameEventLogService;
+        this.gameSnapshotService = gameSnapshotService;
+        this.sendingOperations = sendingOperations;
+        this.gameMetrics = gameMetrics;
+        this.roomIdleMillis = roomIdleMillis;
+        this.beforeStartMillis = beforeStartMillis;
+        this.gameIdleMillis = gameIdleMillis;
+        this.sessionGraceMillis = sessionGraceMillis;
+    }
+
+    // 게임 시작 전에 끊긴 세션 등은 MessageController 에서 지우지 않으므로 여기서 기억해 두었다가 정리
+    @EventListener
+    public void handleDisconnectEvent(SessionDisconnectEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            closedSessions.put(sessionId, System.currentTimeMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sos.reaper.interval-ms:60000}")
+    public void reapExpired() {
+        reap(System.currentTimeMillis());
+    }
+
+    @Override
+    public int reap(long now) {
+        int rooms = reapRooms(now);
+        int games = reapGames(now);
+        int sessions = reapSessions(now);
+        int timers = gameTimerService.purgeCompleted();
+
+        gameMetrics.recordReaped("room", rooms);
+        gameMetrics.recordReaped("game", games);
+        gameMetrics.recordReaped("session", sessions);
+        gameMetrics.recordReaped("timer", timers);
+        if (rooms + games + sessions > 0) {
+            log.info("reaped rooms={} games={} sessions={} timers={}", rooms, games, sessions, timers);
+        }
+        return rooms + games + sessions + timers;
+    }
+
+    private int reapRooms(long now) {
+        int reaped = 0;
+        for (Room room : board.getRoomMap().values()) {
+            if (now - room.getLastActivity() < roomIdleMillis) continue;
+
+            String gameId = room.getGameId();
+            // 그 사이 같은 코드로 새 방이 만들어졌으면 건드리지 않음
+            if (!board.getRoomMap().remove(gameId, room)) continue;
+            lobbyService.remove(gameId);
+            notifyExpired(gameId, "ROOM_EXPIRED");
+            board.getSessions().unbindGame(gameId);
+            gameService.releaseRoom(gameId);
+            reaped++;
+        }
+        return reaped;
+    }
+
+    private int reapGames(long now) {
+        int reaped = 0;
+        for (Game game : board.getGameMap().values()) {
+            long idle = now - game.getLastActivity();
+            GameStatus status = game.getGameStatus();
+            boolean expired = status == GameStatus.IN_GAME ? idle >= gameIdleMillis : idle >= beforeStartMillis;
+            if (!expired) continue;
+
+            String gameId = game.getGameId();
+            if (!board.getGameMap().remove(gameId, game)) continue;
+            gameTimerService.cancelTimer(gameId);
+            // 시작 전 게임은 대기방도 남아있음
+            if (board.getRoomMap().remove(gameId) != null) {
+                lobbyService.remove(gameId);
+            }
+            if (status == GameStatus.IN_GAME) {
+                gameEventLogService.close(gameId);
+            }
+            reconnectService.clear(gameId);
+            // 게임이 없으면 flush 때 스냅샷 삭제
+            gameSnapshotService.markDirty(gameId);
+            notifyExpired(gameId, "GAME_EXPIRED");
+            board.getSessions().unbindGame(gameId);
+            gameService.releaseRoom(gameId);
+            reaped++;
+        }
+        return reaped;
+    }
+
+    private int reapSessions(long now) {
+        int reaped = 0;
+        for (Map.Entry<String, Long> entry : closedSessions.entrySet()) {
+            if (now - entry.getValue() < sessionGraceMillis) continue;
+
+            closedSessions.remove(entry.getKey());
+            if (board.getSessions().remove(entry.getKey()) != null) {
+                reaped++;
+            }
+        }
+        return reaped;
+    }
+
+    private void notifyExpired(String gameId, String message) {
+        ServerMessage serverMessage = ServerMessage.builder()
+                .gameId(gameId)
+                .message(message)
+                .build();
+        long start = System.nanoTime();
+        try {
+            sendingOperations.convertAndSend("/sub/" + gameId, serverMessage);
+        } finally {
+            gameMetrics.recordSend(message, start);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.ResumeTicket;
+
+import java.util.Map;
+
+public interface ReconnectService {
+    // 재접속 토큰 발급 (이전에 발급된 토큰은 무효화)
+    String issueToken(String gameId, String nickname, String sessionId);
+    // 연결이 끊긴 플레이어의 유예 시간 시작, 만료되면 ReconnectTimeoutEvent 발생
+    void startGrace(String gameId, String nickname);
+    // 토큰 확인 후 유예 타이머 취소 (유효하지 않으면 null)
+    ResumeTicket resume(String token);
+    // 게임 종료 시 토큰, 유예 타이머 정리
+    void clear(String gameId);
+    // 게임에 발급된 닉네임 : 토큰 (스냅샷 저장용)
+    Map<String, String> tokensOf(String gameId);
+    // 스냅샷에 저장된 토큰 다시 등록 (재시작 전 세션은 없으므로 sessionId 없이)
+    void restoreToken(String gameId, String nickname, String token);
+}
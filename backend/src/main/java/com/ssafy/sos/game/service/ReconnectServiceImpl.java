@@ -0,0 +1,123 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.ResumeTicket;
+import com.ssafy.sos.game.event.ReconnectTimeoutEvent;
+import com.ssafy.sos.game.util.DaemonScheduler;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Service
+public class ReconnectServiceImpl implements ReconnectService {
+    private static final int TOKEN_BYTES = 24;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long graceMillis;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService scheduler = DaemonScheduler.create("sos-reconnect-", 1);
+
+    // 토큰 : 플레이어 정보
+    private final ConcurrentHashMap<String, ResumeTicket> tickets = new ConcurrentHashMap<>();
+    // 게임 아이디 : (닉네임 : 토큰), 게임 종료 시 한 번에 정리하기 위함
+    private final ConcurrentHashMap<String, Map<String, String>> tokensByGame = new ConcurrentHashMap<>();
+    // 게임 아이디:닉네임 : 유예 타이머
+    private final ConcurrentHashMap<String, ScheduledFuture<?>> graceTimers = new ConcurrentHashMap<>();
+
+    public ReconnectServiceImpl(ApplicationEventPublisher eventPublisher,
+                                @Value("${sos.reconnect.grace-ms:30000}") long graceMillis) {
+        this.eventPublisher = eventPublisher;
+        this.graceMillis = graceMillis;
+    }
+
+    @Override
+    public String issueToken(String gameId, String nickname, String sessionId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        tickets.put(token, new ResumeTicket(gameId, nickname, sessionId));
+        String previous = tokensByGame.computeIfAbsent(gameId, key -> new ConcurrentHashMap<>()).put(nickname, token);
+        if (previous != null) {
+            tickets.remove(previous);
+        }
+        return token;
+    }
+
+    @Override
+    public void restoreToken(String gameId, String nickname, String token) {
+        tickets.put(token, new ResumeTicket(gameId, nickname, null));
+        String previous = tokensByGame.computeIfAbsent(gameId, key -> new ConcurrentHashMap<>()).put(nickname, token);
+        if (previous != null && !previous.equals(token)) {
+            tickets.remove(previous);
+        }
+    }
+
+    @Override
+    public void startGrace(String gameId, String nickname) {
+        String key = playerKey(gameId, nickname);
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+            // resume 과 동시에 실행되면 먼저 지운 쪽만 처리
+            if (graceTimers.remove(key) != null) {
+                eventPublisher.publishEvent(new ReconnectTimeoutEvent(this, gameId, nickname));
+            }
+        }, graceMillis, TimeUnit.MILLISECONDS);
+
+        ScheduledFuture<?> previous = graceTimers.put(key, future);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    @Override
+    public ResumeTicket resume(String token) {
+        if (token == null) return null;
+        // 토큰은 한 번만 사용 가능
+        ResumeTicket ticket = tickets.remove(token);
+        if (ticket == null) return null;
+
+        Map<String, String> gameTokens = tokensByGame.get(ticket.getGameId());
+        if (gameTokens != null) {
+            gameTokens.remove(ticket.getNickname(), token);
+        }
+        ScheduledFuture<?> grace = graceTimers.remove(playerKey(ticket.getGameId(), ticket.getNickname()));
+        if (grace != null) {
+            grace.cancel(false);
+        }
+        return ticket;
+    }
+
+    @Override
+    public void clear(String gameId) {
+        Map<String, String> gameTokens = tokensByGame.remove(gameId);
+        if (gameTokens == null) return;
+
+        gameTokens.forEach((nickname, token) -> {
+            tickets.remove(token);
+            ScheduledFuture<?> grace = graceTimers.remove(playerKey(gameId, nickname));
+            if (grace != null) {
+                grace.cancel(false);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, String> tokensOf(String gameId) {
+        Map<String, String> gameTokens = tokensByGame.get(gameId);
+        return gameTokens == null ? Map.of() : Map.copyOf(gameTokens);
+    }
+
+    private static String playerKey(String gameId, String nickname) {
+        return gameId + ":" + nickname;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
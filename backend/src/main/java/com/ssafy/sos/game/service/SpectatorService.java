@@ -0,0 +1,9 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Game;
+
+public interface SpectatorService {
+    // 플레이어에게 보낸 메시지를 지연시켜 관전자에게 전달 (관전자가 없으면 아무것도 하지 않음)
+    void publish(String gameId, String message, Game game);
+    int getSpectatorCount(String gameId);
+}
@@ -0,0 +1,133 @@
+package com.ssafy.sos.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.message.server.GameView;
+import com.ssafy.sos.game.message.server.SpectatorMessage;
+import com.ssafy.sos.game.util.DaemonScheduler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관전 모드: /sub/spectate/{gameId} 를 구독하면 일정 시간 지연된, 해적 위치가 가려진 게임 상태를 받음
+// 관전자 수와 상관없이 업데이트마다 JSON 직렬화는 한 번만 하고 같은 바이트를 브로커가 모든 구독자에게 전달
+@Slf4j
+@Service
+public class SpectatorServiceImpl implements SpectatorService {
+    public static final String DESTINATION_PREFIX = "/sub/spectate/";
+
+    private final SimpMessageSendingOperations sendingOperations;
+    private final ObjectMapper objectMapper;
+    private final long delayMillis;
+    private final ScheduledExecutorService scheduler = DaemonScheduler.create("sos-spectate-", 1);
+
+    // 게임 아이디 : 관전자 수
+    private final ConcurrentHashMap<String, AtomicInteger> spectatorCounts = new ConcurrentHashMap<>();
+    // 세션 아이디 : (구독 아이디 : 게임 아이디), 구독 해제나 연결 종료 시 어떤 게임인지 찾기 위함
+    private final ConcurrentHashMap<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+    public SpectatorServiceImpl(SimpMessageSendingOperations sendingOperations,
+                                ObjectMapper objectMapper,
+                                @Value("${sos.spectate.delay-ms:15000}") long delayMillis) {
+        this.sendingOperations = sendingOperations;
+        this.objectMapper = objectMapper;
+        this.delayMillis = delayMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void publish(String gameId, String message, Game game) {
+        int spectatorCount = getSpectatorCount(gameId);
+        if (spectatorCount == 0 || game == null) return;
+
+        // 게임이 끝나면 해적 위치를 공개
+        GameView view = message.startsWith("GAME_OVER") ? GameView.from(game) : GameView.marineSafeFrom(game);
+        SpectatorMessage spectatorMessage = SpectatorMessage.builder()
+                .gameId(gameId)
+                .message(message)
+                .game(view)
+                .spectatorCount(spectatorCount)
+                .possiblePirateNodes(game.getPirateBelief().possibleNodes())
+                .build();
+
+        // Game 은 계속 바뀌므로 지연 전송 전에 지금 상태로 직렬화해 둠
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(spectatorMessage);
+        } catch (JsonProcessingException e) {
+            log.warn("spectator serialize failed: {} {}", gameId, e.getMessage());
+            return;
+        }
+
+        Message<byte[]> frame = MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+        scheduler.schedule(() -> {
+            // 지연되는 동안 모두 나갔으면 보내지 않음
+            if (getSpectatorCount(gameId) == 0) return;
+            sendingOperations.send(DESTINATION_PREFIX + gameId, frame);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int getSpectatorCount(String gameId) {
+        AtomicInteger count = spectatorCounts.get(gameId);
+        return count == null ? 0 : count.get();
+    }
+
+    @EventListener
+    public void handleSubscribeEvent(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) return;
+
+        String gameId = destination.substring(DESTINATION_PREFIX.length());
+        subscriptions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), gameId);
+        spectatorCounts.computeIfAbsent(gameId, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @EventListener
+    public void handleUnsubscribeEvent(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+        if (sessionSubscriptions == null) return;
+
+        String gameId = sessionSubscriptions.remove(accessor.getSubscriptionId());
+        if (gameId != null) {
+            leave(gameId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnectEvent(SessionDisconnectEvent event) {
+        Map<String, String> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions == null) return;
+
+        sessionSubscriptions.values().forEach(this::leave);
+    }
+
+    private void leave(String gameId) {
+        spectatorCounts.computeIfPresent(gameId, (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.sos.game.util;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+// 서비스 내부 타이머용 스케줄러
+// daemon 스레드라 JVM 종료를 막지 않고, 서비스의 @PreDestroy 에서 shutdownNow 하여 컨텍스트와 함께 정리
+public final class DaemonScheduler {
+    private DaemonScheduler() {
+    }
+
+    public static ScheduledExecutorService create(String namePrefix, int threads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(namePrefix);
+        threadFactory.setDaemon(true);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, threadFactory);
+        // 취소한 타이머(유예, 묶음 전송 등)가 실행 시각까지 큐에 남지 않도록 함
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
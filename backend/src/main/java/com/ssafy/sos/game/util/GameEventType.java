@@ -0,0 +1,30 @@
+package com.ssafy.sos.game.util;
+
+// 게임 로그에 기록되는 상태 변화 종류 (순서가 파일 포맷의 코드값이므로 항목은 뒤에만 추가)
+public enum GameEventType {
+    TREASURE_PLACED,
+    INIT_START,
+    MOVE,
+    SELECT_INVESTIGATE,
+    SELECT_ARREST,
+    INVESTIGATE_SUCCESS,
+    INVESTIGATE_FAIL,
+    ARREST_SUCCESS,
+    ARREST_FAIL,
+    // 응답 제한시간 초과 (이어지는 이벤트가 서버가 대신 처리한 결과)
+    TIME_OUT,
+    TREASURE_OPENED,
+    TURN_OVER,
+    ROUND_OVER,
+    // role 0: 해적 승리, 1: 해군 승리
+    GAME_OVER;
+
+    private static final GameEventType[] VALUES = values();
+
+    public static GameEventType fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("유효하지 않은 이벤트 코드: " + code);
+        }
+        return VALUES[code];
+    }
+}
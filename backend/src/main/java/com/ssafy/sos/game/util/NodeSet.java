@@ -0,0 +1,100 @@
+package com.ssafy.sos.game.util;
+
+// 보드 노드 번호(0 ~ 373)를 비트 하나씩으로 표현하는 집합
+// contains / add / remove 가 박싱, 할당 없이 O(1)
+// 범위 밖 노드는 contains / remove 에서 없는 노드로 취급하고, add 에서는 IllegalArgumentException
+// (클라이언트가 보낸 노드는 호출하는 쪽에서 BoardMap 기준으로 먼저 검사)
+public class NodeSet {
+    public static final int NODE_COUNT = 374;
+    public static final int WORD_COUNT = (NODE_COUNT + 63) >>> 6;
+
+    private final long[] words = new long[WORD_COUNT];
+
+    public boolean contains(int node) {
+        if (node < 0 || node >= NODE_COUNT) return false;
+        return (words[node >>> 6] & (1L << node)) != 0;
+    }
+
+    public void add(int node) {
+        if (node < 0 || node >= NODE_COUNT) {
+            throw new IllegalArgumentException("유효하지 않은 노드 번호: " + node);
+        }
+        words[node >>> 6] |= 1L << node;
+    }
+
+    public void remove(int node) {
+        if (node < 0 || node >= NODE_COUNT) return;
+        words[node >>> 6] &= ~(1L << node);
+    }
+
+    public void clear() {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            words[i] = 0;
+        }
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    // 스냅샷 저장, 복구용 (target[offset] 부터 WORD_COUNT 개)
+    public void writeTo(long[] target, int offset) {
+        System.arraycopy(words, 0, target, offset, WORD_COUNT);
+    }
+
+    public void readFrom(long[] source, int offset) {
+        System.arraycopy(source, offset, words, 0, WORD_COUNT);
+        // 범위 밖 비트는 버림
+        words[WORD_COUNT - 1] &= -1L >>> (WORD_COUNT * 64 - NODE_COUNT);
+    }
+
+    public void copyFrom(NodeSet other) {
+        System.arraycopy(other.words, 0, words, 0, WORD_COUNT);
+    }
+
+    // 교집합
+    public void retainAll(NodeSet other) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    // 합집합
+    public void addAll(NodeSet other) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    public int[] toArray() {
+        int[] nodes = new int[size()];
+        int index = 0;
+        for (int node = nextNode(0); node >= 0; node = nextNode(node + 1)) {
+            nodes[index++] = node;
+        }
+        return nodes;
+    }
+
+    // from 이상인 첫 번째 노드, 없으면 -1
+    public int nextNode(int from) {
+        if (from >= NODE_COUNT) return -1;
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) return (index << 6) + Long.numberOfTrailingZeros(word);
+            if (++index == WORD_COUNT) return -1;
+            word = words[index];
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.sos.game.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예약된 타이머 정보 (스냅샷 저장 후 재시작 시 다시 예약하는 용도)
+@Getter
+@AllArgsConstructor
+public class PendingTimer {
+    private final String message;
+    // 실행 예정 시각 (epoch millis)
+    private final long fireAt;
+}
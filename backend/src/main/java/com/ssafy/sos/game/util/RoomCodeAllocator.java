@@ -0,0 +1,131 @@
+package com.ssafy.sos.game.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+// 방 코드 할당기 (영문 대문자 letters 자리 + 숫자 digits 자리, 기본 A000 ~ Z999)
+// 전체 코드를 무작위 순서로 한 번씩 꺼내는 지연 Fisher-Yates 셔플이라 충돌 재시도 없이 O(1)
+// 섞인 배열은 자리를 바꾼 칸만 Map 에 보관하므로 코드 공간을 키워도 미리 메모리를 쓰지 않음
+// 반납된 코드는 새 코드를 모두 쓴 뒤에 들어온 순서대로 다시 사용 (끝난 방 코드가 바로 다른 방에 붙지 않도록)
+@Component
+public class RoomCodeAllocator {
+    private static final int ALPHABET = 26;
+
+    private final int letters;
+    private final int digits;
+    private final int digitSpace;
+    private final int capacity;
+    private final Random random;
+
+    // 셔플 중인 가상 배열에서 값이 바뀐 칸 (없으면 칸 번호 = 값)
+    private final Map<Integer, Integer> swapped = new HashMap<>();
+    private int drawn;
+    private final ArrayDeque<Integer> released = new ArrayDeque<>();
+    private final BitSet inUse;
+
+    public RoomCodeAllocator(@Value("${sos.room.code-letters:1}") int letters,
+                             @Value("${sos.room.code-digits:3}") int digits) {
+        this(letters, digits, new SecureRandom());
+    }
+
+    public RoomCodeAllocator(int letters, int digits, Random random) {
+        long digitSpace = (long) Math.pow(10, digits);
+        long capacity = (long) Math.pow(ALPHABET, letters) * digitSpace;
+        if (letters < 1 || digits < 0 || capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("방 코드 자릿수 범위 초과 : letters=" + letters + ", digits=" + digits);
+        }
+        this.letters = letters;
+        this.digits = digits;
+        this.digitSpace = (int) digitSpace;
+        this.capacity = (int) capacity;
+        this.random = random;
+        this.inUse = new BitSet(this.capacity);
+    }
+
+    public synchronized String allocate() {
+        while (true) {
+            int index;
+            if (drawn < capacity) {
+                // 아직 꺼내지 않은 칸 [drawn, capacity) 중 하나를 골라 drawn 칸과 교환
+                int pick = drawn + random.nextInt(capacity - drawn);
+                index = valueAt(pick);
+                swapped.put(pick, valueAt(drawn));
+                swapped.remove(drawn);
+                drawn++;
+            } else if (!released.isEmpty()) {
+                index = released.poll();
+            } else {
+                throw new IllegalStateException("사용 가능한 방 코드 없음 (" + capacity + "개 사용 중)");
+            }
+            // 스냅샷 복구로 먼저 예약된 코드는 건너뜀
+            if (!inUse.get(index)) {
+                inUse.set(index);
+                return format(index);
+            }
+        }
+    }
+
+    // 서버 재시작 후 복구한 게임처럼 이미 쓰고 있는 코드 등록
+    public synchronized void reserve(String code) {
+        int index = parse(code);
+        if (index >= 0) {
+            inUse.set(index);
+        }
+    }
+
+    public synchronized void release(String code) {
+        int index = parse(code);
+        if (index >= 0 && inUse.get(index)) {
+            inUse.clear(index);
+            released.add(index);
+        }
+    }
+
+    public synchronized int getInUseCount() {
+        return inUse.cardinality();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int valueAt(int position) {
+        return swapped.getOrDefault(position, position);
+    }
+
+    private String format(int index) {
+        char[] prefix = new char[letters];
+        int letterIndex = index / digitSpace;
+        for (int i = letters - 1; i >= 0; i--) {
+            prefix[i] = (char) ('A' + letterIndex % ALPHABET);
+            letterIndex /= ALPHABET;
+        }
+        if (digits == 0) return new String(prefix);
+        return new String(prefix) + String.format("%0" + digits + "d", index % digitSpace);
+    }
+
+    // 형식에 맞지 않는 코드면 -1
+    private int parse(String code) {
+        if (code == null || code.length() != letters + digits) return -1;
+        int letterIndex = 0;
+        for (int i = 0; i < letters; i++) {
+            char c = code.charAt(i);
+            if (c < 'A' || c > 'Z') return -1;
+            letterIndex = letterIndex * ALPHABET + (c - 'A');
+        }
+        int number = 0;
+        for (int i = letters; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            number = number * 10 + (c - '0');
+        }
+        return letterIndex * digitSpace + number;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.sos.game.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+// 바뀌지 않는 응답 본문을 원본, gzip 두 형태로 미리 만들어 두고 내용 해시로 버전(ETag)을 붙임
+public class StaticPayload {
+    private static final int VERSION_LENGTH = 16;
+
+    private final byte[] raw;
+    private final byte[] gzip;
+    private final String version;
+
+    public StaticPayload(byte[] raw) {
+        this.raw = raw;
+        this.gzip = compress(raw);
+        this.version = hash(raw);
+    }
+
+    public byte[] getRaw() {
+        return raw;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    // 강한 ETag 는 바이트 단위로 같은 본문에만 붙일 수 있으므로 gzip 본문에는 -gzip 을 붙여 구분
+    public String getETag(boolean gzip) {
+        return "\"" + version + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    // If-None-Match 헤더와 비교 (보낼 본문의 ETag 와 같아야 함)
+    public boolean matches(String ifNoneMatch, boolean gzip) {
+        if (ifNoneMatch == null) return false;
+        String eTag = getETag(gzip);
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] raw) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw);
+            return HexFormat.of().formatHex(digest).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
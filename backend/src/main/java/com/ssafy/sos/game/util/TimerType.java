@@ -0,0 +1,23 @@
+package com.ssafy.sos.game.util;
+
+public enum TimerType {
+    // 플레이어 응답 대기 (15초)
+    RESPONSE_WAITING(15_000),
+    // 화면 렌더 대기 (3초)
+    RENDER_WAITING(3_000),
+    AFTER_MATCHING(1_000),
+    BEFORE_PREPARE_GAME_START(1_000),
+    // 해군 3 시작위치 지정 후 대기 (8초)
+    AFTER_INIT(8_000),
+    AFTER_SELECT(1_000);
+
+    private final long delayMillis;
+
+    TimerType(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+}
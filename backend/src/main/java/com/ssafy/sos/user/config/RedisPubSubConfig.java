@@ -0,0 +1,22 @@
+package com.ssafy.sos.user.config;
+
+import com.ssafy.sos.user.jwt.BlackTokenCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    // 다른 서버에서 블랙 처리한 토큰을 near-cache 에 반영
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       BlackTokenCache blackTokenCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(blackTokenCache, new ChannelTopic(BlackTokenCache.CHANNEL));
+        return container;
+    }
+}
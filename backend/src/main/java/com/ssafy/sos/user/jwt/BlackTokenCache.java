@@ -0,0 +1,159 @@
+package com.ssafy.sos.user.jwt;
+
+import com.ssafy.sos.user.repository.BlackTokenRepository;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 블랙 토큰 near-cache
+// 서버마다 블랙 토큰 해시를 모두 들고 있고, 새로 블랙 처리하면 redis pub/sub 으로 다른 서버에도 알림
+// 목록이 완전하다고 확인된 동안에는 로컬에 없는 토큰(대부분의 조회)을 redis 에 묻지 않고 바로 통과시킴
+// 블랙 처리할 때마다 redis 의 순번(SEQUENCE_KEY)을 올려 알림에 함께 보내고, 받은 순번이 빠짐없이 이어지는지로 유실을 확인
+// (개수 비교는 유실된 토큰과 로컬에만 남은 토큰이 같은 수일 때 알아채지 못함)
+// 시작 직후, 순번이 건너뛰었을 때, 개수가 max-size 를 넘었을 때는 redis 조회로 되돌아감
+@Slf4j
+@Component
+public class BlackTokenCache implements MessageListener {
+    public static final String CHANNEL = "black_token:added";
+    // 블랙 처리 순번 (black_token 저장소 keyspace 와 겹치지 않는 이름)
+    public static final String SEQUENCE_KEY = "black_token_seq";
+
+    private final BlackTokenRepository blackTokenRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final JWTUtil jwtUtil;
+    private final int maxSize;
+
+    // 토큰 해시 : 만료 시각 (epoch millis)
+    private final ConcurrentHashMap<String, Long> blacked = new ConcurrentHashMap<>();
+    // redis 의 블랙 토큰이 모두 로컬에 있는지
+    private volatile boolean complete;
+    // 빠짐없이 반영한 마지막 순번 (this 로 동기화)
+    private long appliedSequence;
+
+    public BlackTokenCache(BlackTokenRepository blackTokenRepository,
+                           StringRedisTemplate redisTemplate,
+                           JWTUtil jwtUtil,
+                           @Value("${sos.black-token.cache-max-size:100000}") int maxSize) {
+        this.blackTokenRepository = blackTokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+    }
+
+    // false 면 블랙 토큰이 아님이 확실 (redis 조회 불필요), true 면 redis 에서 확인
+    public boolean mightBeBlacked(String token) {
+        if (!complete) return true;
+        Long expiresAt = blacked.get(JWTUtil.hash(token));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 이 서버에서 블랙 처리한 토큰을 기록하고 다른 서버에 알림
+    public void add(String token, long ttlMillis) {
+        String hash = JWTUtil.hash(token);
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        remember(hash, expiresAt);
+        try {
+            Long sequence = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+            redisTemplate.convertAndSend(CHANNEL, hash + " " + expiresAt + " " + sequence);
+        } catch (RuntimeException e) {
+            // 다른 서버가 알림을 못 받았을 수 있으므로 다음 확인 때 순번으로 다시 맞춤
+            log.warn("black token publish failed: {}", e.getMessage());
+        }
+    }
+
+    // 메시지 : "토큰 해시 만료 시각 순번"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ");
+        if (parts.length != 3) return;
+        try {
+            remember(parts[0], Long.parseLong(parts[1]));
+            applySequence(Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("invalid black token message");
+        }
+    }
+
+    // 순번이 건너뛰면 놓친 알림이 있으므로 다음 확인 때까지 redis 조회
+    private synchronized void applySequence(long sequence) {
+        if (sequence <= appliedSequence) return;
+        if (sequence == appliedSequence + 1) {
+            appliedSequence = sequence;
+            return;
+        }
+        if (complete) {
+            complete = false;
+            log.warn("black token message gap: expected {} but got {}", appliedSequence + 1, sequence);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 만료된 항목 정리 후 redis 의 순번과 비교 (pub/sub 은 연결이 끊긴 동안의 메시지를 다시 보내주지 않음)
+    // 마지막 알림까지 모두 받았으면 순번이 같고, 하나라도 놓쳤으면 다시 불러옴
+    @Scheduled(fixedDelayString = "${sos.black-token.verify-interval-ms:30000}")
+    public void verify() {
+        long now = System.currentTimeMillis();
+        blacked.values().removeIf(expiresAt -> expiresAt <= now);
+        try {
+            long sequence = currentSequence();
+            synchronized (this) {
+                if (sequence == appliedSequence) {
+                    complete = blacked.size() <= maxSize;
+                    return;
+                }
+            }
+            reload();
+        } catch (RuntimeException e) {
+            complete = false;
+            log.warn("black token verify failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void reload() {
+        complete = false;
+        try {
+            // 목록보다 순번을 먼저 읽음 (이후 순번의 토큰은 알림으로 받음)
+            long sequence = currentSequence();
+            for (BlackToken blackToken : blackTokenRepository.findAll()) {
+                if (blackToken == null || blackToken.getToken() == null) continue;
+                // redis 의 ttl 은 토큰 만료 시각까지이므로 토큰의 exp 를 그대로 사용
+                try {
+                    remember(JWTUtil.hash(blackToken.getToken()), jwtUtil.parse(blackToken.getToken()).getExpiration());
+                } catch (JwtException e) {
+                    // 이미 만료된 토큰은 블랙 여부와 관계없이 거절되므로 들고 있을 필요 없음
+                }
+            }
+            appliedSequence = sequence;
+            complete = blacked.size() <= maxSize;
+        } catch (RuntimeException e) {
+            log.warn("black token reload failed: {}", e.getMessage());
+        }
+    }
+
+    private long currentSequence() {
+        String value = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private void remember(String hash, long expiresAt) {
+        blacked.merge(hash, expiresAt, Math::max);
+        if (complete && blacked.size() > maxSize) {
+            complete = false;
+            log.warn("black token cache exceeded {} entries, falling back to redis", maxSize);
+        }
+    }
+}
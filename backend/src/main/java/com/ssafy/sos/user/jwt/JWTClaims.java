@@ -0,0 +1,24 @@
+package com.ssafy.sos.user.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 서명을 확인한 토큰에서 꺼낸 값 (한 번만 파싱해서 필요한 값을 모두 꺼내 씀)
+@Getter
+@AllArgsConstructor
+public class JWTClaims {
+    private final String category;
+    private final String username;
+    private final String role;
+    // 만료 시각 (epoch millis)
+    private final long expiration;
+
+    public boolean isExpired(long now) {
+        return expiration < now;
+    }
+
+    // 블랙 토큰 TTL 계산용 exp (epoch seconds)
+    public long getExpSeconds() {
+        return expiration / 1000;
+    }
+}
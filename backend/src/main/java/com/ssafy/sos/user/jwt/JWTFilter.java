@@ -52,12 +52,13 @@ public class JWTFilter extends OncePerRequestFilter {
 
         //access 토큰 만료 여부 확인
         try {
-            jwtUtil.isExpired(accessToken);
+            // 서명, 만료 확인과 값 추출을 한 번의 파싱으로 (만료면 ExpiredJwtException)
+            JWTClaims claims = jwtUtil.parse(accessToken);
 
-            String category = jwtUtil.getCategory(accessToken);
+            String category = claims.getCategory();
 
             //이상한 토큰일 경우
-            if (!category.equals("access")) {
+            if (!"access".equals(category)) {
                 PrintWriter writer = response.getWriter();
                 writer.print("invalid access token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -67,8 +68,8 @@ public class JWTFilter extends OncePerRequestFilter {
             }
 
             //정상 토큰일 경우
-            String username = jwtUtil.getUsername(accessToken);
-            String role = jwtUtil.getRole(accessToken);
+            String username = claims.getUsername();
+            String role = claims.getRole();
 
             UserDTO userDTO = new UserDTO();
             userDTO.setUsername(username);
@@ -114,26 +115,11 @@ public class JWTFilter extends OncePerRequestFilter {
                 return;
             }
 
-            BlackToken blackToken1 = jwtService.blackFindByToken(refresh);
-            System.out.println("blackToken1 = " + blackToken1);
-            if (blackToken1 != null) {
-                //블랙토큰인지 확인
-                if (blackToken1.isBlacked()) {
-                    //이미 사용한 토큰
-                    PrintWriter writer = response.getWriter();
-                    writer.print("do login");
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-//                response.sendRedirect("http://localhost:3000");
-
-                    log.info("use blacked refresh token. Do login");
-
-                    //조건이 해당되면 메소드 종료 (필수)
-                    return;
-                }
-            }
-
-            //토큰 소멸 시간 검증
-            if (jwtUtil.isExpired(refresh)) {
+            //토큰 소멸 시간 검증 (parse 는 만료된 토큰이면 ExpiredJwtException)
+            JWTClaims refreshClaims;
+            try {
+                refreshClaims = jwtUtil.parse(refresh);
+            } catch (ExpiredJwtException expired) {
                 //refresh 만료의 경우
                 PrintWriter writer = response.getWriter();
                 writer.print("do login");
@@ -146,55 +132,36 @@ public class JWTFilter extends OncePerRequestFilter {
                 return;
             }
 
-            RefreshToken byToken = jwtService.findByToken(refresh);
-            if (byToken == null) {
-                //refresh 불일치
-                PrintWriter writer = response.getWriter();
-                writer.print("do login");
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
+            //재발급 로직
+            String username = refreshClaims.getUsername();
+            String role = refreshClaims.getRole();
 
-//                response.sendRedirect("http://localhost:3000");
-                return;
-            }
+            //make new JWT
+            String newAccess = jwtUtil.createJwt("access", username, role, 600000L);
+            String newRefresh = jwtUtil.createJwt("refresh", username, role, 86400000L);
 
-            if (!byToken.getToken().equals(refresh)) {
-                log.info("refresh token isn't equals.");
-                //refresh 불일치
+            //블랙 토큰 확인, refresh 일치 확인, 새 refresh 저장, 블랙 리스트 지정을 redis 에서 한 번에
+            RefreshRotation rotation = jwtService.rotate(refresh, refreshClaims.getExpiration(), newAccess, newRefresh, 86400000L);
+            if (rotation.isRejected()) {
+                //이미 사용한 토큰이거나 refresh 불일치
                 PrintWriter writer = response.getWriter();
-                writer.print("refresh 토큰 불일치");
+                writer.print("do login");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 //                response.sendRedirect("http://localhost:3000");
+
+                log.info("use blacked or unknown refresh token. Do login");
                 return;
             }
 
-            /*
-            ******************************************
-             ******************************************
-             * ******************************************
-             * ******************************************
-             * ******************************************
-             * ******************************************
-             * ******************************************
-             * ******************************************
-             */
-            //재발급 로직
-            String username = jwtUtil.getUsername(refresh);
-            String role = jwtUtil.getRole(refresh);
-
-            //make new JWT
-            String newAccess = jwtUtil.createJwt("access", username, role, 600000L);
-            String newRefresh = jwtUtil.createJwt("refresh", username, role, 86400000L);
-
-            //response
-            response.addCookie(createCookie("access", newAccess));
-            Cookie refreshCookie = new Cookie("refresh", newRefresh);
+            //response (동시 요청이면 먼저 발급된 쌍)
+            response.addCookie(createCookie("access", rotation.getAccess()));
+            Cookie refreshCookie = new Cookie("refresh", rotation.getRefresh());
             refreshCookie.setMaxAge(24*60*60);
             //cookie.setSecure(true);
             refreshCookie.setPath("/");
             refreshCookie.setHttpOnly(true);
 
-            log.info("newRefresh = " + newRefresh);
+            log.info("refresh rotated : " + rotation.getResult());
             response.addCookie(refreshCookie);
 
             UserDTO userDTO = new UserDTO();
@@ -205,19 +172,6 @@ public class JWTFilter extends OncePerRequestFilter {
             Authentication authToken = new UsernamePasswordAuthenticationToken(userDto, null, userDto.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authToken);
 
-            jwtService.save(username, newRefresh);
-
-            //블랙 리스트 토큰 지정
-            BlackToken blackToken = new BlackToken();
-            blackToken.setToken(refresh);
-            blackToken.setBlacked(true);
-
-            //레디스 TTL 계산
-            long exp = jwtUtil.getExp(refresh);
-            long ttl = BlackToken.calcTTL(exp);
-            blackToken.setTtl(ttl);
-            jwtService.blackTokenSave(blackToken);
-            log.info("black token saved.");
             filterChain.doFilter(request, response);
         }
     }
@@ -9,36 +9,74 @@ import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 @Component
 public class JWTUtil {
 
-    private Key key;
-
-    public JWTUtil(@Value("${spring.jwt.secret}")String secret) {
-
+    private final Key key;
+    // 파서는 thread-safe 하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+    // 서명을 확인한 access 토큰 (토큰 해시 : claims), 토큰 만료 시각까지만 사용하고 오래 안 쓴 것부터 제거
+    private final Map<String, JWTClaims> verifiedAccessTokens;
 
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.cache-size:10000}") int cacheSize) {
         byte[] byteSecretKey = Decoders.BASE64.decode(secret);
         key = Keys.hmacShaKeyFor(byteSecretKey);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedAccessTokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JWTClaims> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    // 서명 확인 후 claims 를 한 번에 꺼냄 (만료된 토큰이면 ExpiredJwtException, 위조 등은 JwtException)
+    public JWTClaims parse(String token) {
+        String cacheKey = hash(token);
+        JWTClaims cached = verifiedAccessTokens.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) return cached;
+            // 만료되었으면 다시 파싱해서 ExpiredJwtException 을 그대로 던짐
+            verifiedAccessTokens.remove(cacheKey);
+        }
+
+        Claims body = parser.parseClaimsJws(token).getBody();
+        JWTClaims claims = new JWTClaims(
+                body.get("category", String.class),
+                body.get("username", String.class),
+                body.get("role", String.class),
+                body.getExpiration().getTime());
+        if ("access".equals(claims.getCategory())) {
+            verifiedAccessTokens.put(cacheKey, claims);
+        }
+        return claims;
     }
 
     public String getUsername(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("username", String.class);
+        return parse(token).getUsername();
     }
 
     public String getRole(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("role", String.class);
+        return parse(token).getRole();
     }
 
     public Boolean isExpired(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration().before(new Date());
+        return parse(token).isExpired(System.currentTimeMillis());
     }
 
     public String createJwt(String category, String username, String role, Long expiredMs) {
@@ -58,12 +96,7 @@ public class JWTUtil {
 
     public String getCategory(String token) {
         try {
-            Jws<Claims> jws = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-
-            return jws.getBody().get("category", String.class);
+            return parse(token).getCategory();
         } catch (JwtException e) {
            return null;
         }
@@ -86,4 +119,14 @@ public class JWTUtil {
         // exp 값 추출
         return payloadJson.getLong("exp");
     }
+
+    // 원문 토큰을 메모리에 들고 있지 않도록 해시를 키로 사용
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.ssafy.sos.user.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리프레시 토큰 교체 결과
+// REUSED 는 유예 시간 안에 같은 refresh 로 들어온 요청이라 먼저 만든 토큰 쌍을 돌려받은 경우
+@Getter
+@AllArgsConstructor
+public class RefreshRotation {
+    public enum Result {
+        ROTATED, REUSED, REJECTED
+    }
+
+    private final Result result;
+    private final String access;
+    private final String refresh;
+
+    public boolean isRejected() {
+        return result == Result.REJECTED;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.sos.user.jwt;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// refresh 교체 기록(refresh_rotation:*)에 넣는 새 토큰 쌍 암호화 (AES-GCM)
+// 키는 서버 secret 으로 만든 이전 refresh 의 HMAC 이라 redis 만 읽어서는 풀 수 없고,
+// 유예 시간 안에 같은 이전 refresh 를 들고 온 요청만 풀 수 있음
+// 형식 : base64(iv(12) + 암호문 + tag(16))
+public final class TokenPairCipher {
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TokenPairCipher() {
+    }
+
+    public static String seal(byte[] secret, String refresh, String plaintext) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyOf(secret, refresh), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + encrypted.length)
+                    .put(iv)
+                    .put(encrypted)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("token pair seal failed", e);
+        }
+    }
+
+    // 다른 refresh 로 만든 값이거나 손상되었으면 null
+    public static String open(byte[] secret, String refresh, String sealed) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(sealed);
+            if (bytes.length <= IV_BYTES) return null;
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, keyOf(secret, refresh), new GCMParameterSpec(TAG_BITS, bytes, 0, IV_BYTES));
+            return new String(cipher.doFinal(bytes, IV_BYTES, bytes.length - IV_BYTES), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static SecretKeySpec keyOf(byte[] secret, String refresh) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+        return new SecretKeySpec(mac.doFinal(refresh.getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+}
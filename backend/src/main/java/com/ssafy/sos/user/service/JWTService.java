@@ -1,20 +1,52 @@
 package com.ssafy.sos.user.service;
 
 import com.ssafy.sos.user.jwt.BlackToken;
+import com.ssafy.sos.user.jwt.BlackTokenCache;
+import com.ssafy.sos.user.jwt.JWTUtil;
+import com.ssafy.sos.user.jwt.RefreshRotation;
 import com.ssafy.sos.user.jwt.RefreshToken;
+import com.ssafy.sos.user.jwt.TokenPairCipher;
 import com.ssafy.sos.user.domain.UserEntity;
 import com.ssafy.sos.user.repository.BlackTokenRepository;
 import com.ssafy.sos.user.repository.RefreshTokenRepository;
 import com.ssafy.sos.user.repository.UserRepository;
+import io.jsonwebtoken.io.Decoders;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class JWTService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final BlackTokenRepository blackTokenRepository;
+    private final BlackTokenCache blackTokenCache;
+    private final StringRedisTemplate redisTemplate;
+
+    // 리프레시 토큰 교체 스크립트 (evalsha 로 한 번에 실행)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate_refresh_token.lua"), List.class);
+
+    // 저장소 keyspace (spring data redis 는 "keyspace:id" 에 저장하고 "keyspace:속성:값" 으로 색인)
+    private static final String REFRESH_KEYSPACE = RefreshToken.class.getAnnotation(RedisHash.class).value();
+    private static final String BLACK_KEYSPACE = BlackToken.class.getAnnotation(RedisHash.class).value();
+
+    // 같은 refresh 로 동시에 들어온 요청에 같은 토큰 쌍을 돌려주는 시간
+    @Value("${sos.jwt.refresh-reuse-grace-ms:10000}")
+    private long reuseGraceMillis;
+
+    // 교체 기록에 넣는 토큰 쌍 암호화 키를 만들 때 사용 (JWT 서명 secret)
+    @Value("${spring.jwt.secret}")
+    private String secret;
 
     public RefreshToken save(String username, String refresh) {
         //redis에 저장
@@ -33,11 +65,71 @@ public class JWTService {
     }
 
 
+    // 현재 refresh 확인 + 새 refresh 저장 + 이전 refresh 블랙 처리를 스크립트 하나로
+    // 유예 시간 안에 같은 refresh 로 다시 오면 새로 만든 쌍 대신 먼저 발급한 쌍을 돌려줌 (교체 기록에는 암호화해서 저장)
+    // redis 왕복은 두 번 : 스크립트가 쓰는 키는 모두 KEYS 로 넘겨야 하는데 refresh 저장 키에 회원 id 가 들어가므로
+    // refresh 주인의 id 를 먼저 조회하고 스크립트 안에서 다시 확인함
+    // 키들이 서로 다른 hash slot 이라 redis cluster 에서는 쓸 수 없음 (저장소 키 구조를 바꾸지 않는 한 단일 노드 전용)
+    public RefreshRotation rotate(String refresh, long refreshExpiration, String newAccess, String newRefresh, long refreshTtl) {
+        String hash = JWTUtil.hash(refresh);
+        long blackTtl = BlackToken.calcTTL(refreshExpiration / 1000);
+        byte[] secretKey = Decoders.BASE64.decode(secret);
+        String oldIndex = REFRESH_KEYSPACE + ":token:" + refresh;
+        String userId = ownerOf(oldIndex);
+        List<String> keys = List.of(
+                "refresh_rotation:" + hash,
+                oldIndex,
+                REFRESH_KEYSPACE + ":token:" + newRefresh,
+                BLACK_KEYSPACE + ":" + refresh,
+                BlackTokenCache.SEQUENCE_KEY,
+                REFRESH_KEYSPACE + ":" + userId,
+                REFRESH_KEYSPACE + ":" + userId + ":idx",
+                REFRESH_KEYSPACE + ":" + userId + ":phantom",
+                BLACK_KEYSPACE + ":" + refresh + ":phantom",
+                BLACK_KEYSPACE);
+        @SuppressWarnings("unchecked")
+        List<String> result = redisTemplate.execute(ROTATE_SCRIPT, keys,
+                refresh, TokenPairCipher.seal(secretKey, refresh, newAccess + " " + newRefresh), newRefresh,
+                String.valueOf(refreshTtl), String.valueOf(blackTtl),
+                String.valueOf(reuseGraceMillis), hash, String.valueOf(refreshExpiration), BlackTokenCache.CHANNEL,
+                userId);
+        if (result == null || result.isEmpty() || "REJECTED".equals(result.get(0))) {
+            return rejected();
+        }
+        if ("ROTATED".equals(result.get(0))) {
+            return new RefreshRotation(RefreshRotation.Result.ROTATED, newAccess, newRefresh);
+        }
+        // 먼저 만든 쌍은 같은 이전 refresh 로만 풀림
+        String pair = result.size() < 2 ? null : TokenPairCipher.open(secretKey, refresh, result.get(1));
+        String[] tokens = pair == null ? new String[0] : pair.split(" ");
+        if (tokens.length != 2) {
+            return rejected();
+        }
+        return new RefreshRotation(RefreshRotation.Result.REUSED, tokens[0], tokens[1]);
+    }
+
+    private static RefreshRotation rejected() {
+        return new RefreshRotation(RefreshRotation.Result.REJECTED, null, null);
+    }
+
+    // refresh 인덱스에 들어있는 회원 id (없으면 빈 문자열, 스크립트가 거절하거나 교체 기록을 돌려줌)
+    private String ownerOf(String indexKey) {
+        Set<String> ids = redisTemplate.opsForSet().members(indexKey);
+        return ids == null || ids.isEmpty() ? "" : ids.iterator().next();
+    }
+
     public BlackToken blackTokenSave(BlackToken blackToken) {
-        return blackTokenRepository.save(blackToken);
+        BlackToken saved = blackTokenRepository.save(blackToken);
+        blackTokenCache.add(blackToken.getToken(), blackToken.getTtl());
+        return saved;
     }
 
     public BlackToken blackFindByToken(String refresh) {
-        return blackTokenRepository.findByToken(refresh);
+        // 로컬 near-cache 에 없는 토큰은 블랙 토큰이 아니므로 redis 조회 생략
+        if (!blackTokenCache.mightBeBlacked(refresh)) {
+            return null;
+        }
+        // token 은 @Id 라 보조 인덱스가 없으므로 파생 쿼리(findByToken)가 아닌 id 로 조회
+        return blackTokenRepository.findById(refresh).orElse(null);
     }
 }
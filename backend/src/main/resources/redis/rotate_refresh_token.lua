@@ -0,0 +1,70 @@
+-- 리프레시 토큰 교체 (JWTService.rotate)
+-- 현재 refresh 확인, 새 refresh 저장, 이전 refresh 블랙 처리를 redis 안에서 한 번에 처리
+-- 같은 refresh 로 동시에 들어온 요청은 유예 시간 동안 처음 만든 토큰 쌍을 그대로 받음
+-- 키 구조는 spring data redis 저장소(RefreshToken, BlackToken)와 같게 씀 (로그인, 로그아웃, near-cache 와 호환)
+-- 접근하는 키는 모두 KEYS 로 받음 (키 이름은 JWTService 가 저장소 keyspace 로 만듦)
+-- 회원 id 가 들어가는 키가 있어 JWTService 가 실행 전에 회원 id 를 조회하므로 redis 왕복은 두 번
+-- 키마다 hash slot 이 달라 redis cluster 에서는 실행할 수 없음 (저장소 키 구조를 바꾸지 않는 한 단일 노드 전용)
+-- 교체 기록에는 토큰 쌍을 평문이 아닌 암호문으로 저장 (TokenPairCipher)
+--
+-- KEYS[1] 교체 기록 (refresh_rotation:{이전 refresh 해시})
+-- KEYS[2] 이전 refresh 인덱스 (refresh_token:token:{이전 refresh})
+-- KEYS[3] 새 refresh 인덱스 (refresh_token:token:{새 refresh})
+-- KEYS[4] 블랙 토큰 (black_token:{이전 refresh})
+-- KEYS[5] 블랙 처리 순번 (BlackTokenCache.SEQUENCE_KEY)
+-- KEYS[6] refresh 저장 (refresh_token:{회원 id})
+-- KEYS[7] refresh 가 들어있는 인덱스 목록 (refresh_token:{회원 id}:idx)
+-- KEYS[8] refresh 만료 후 사본 (refresh_token:{회원 id}:phantom)
+-- KEYS[9] 블랙 토큰 만료 후 사본 (black_token:{이전 refresh}:phantom)
+-- KEYS[10] 블랙 토큰 id 목록 (black_token)
+-- ARGV : 이전 refresh, 새 토큰 쌍 (암호화), 새 refresh, refresh TTL(ms), 블랙 TTL(ms), 유예 시간(ms),
+--        이전 refresh 해시, 블랙 만료 시각(epoch ms), near-cache 채널,
+--        회원 id (스크립트 실행 전에 KEYS[2] 에서 읽은 값, 없으면 빈 문자열)
+-- 반환 : {ROTATED}, {REUSED, 먼저 만든 토큰 쌍 (암호화)} 또는 {REJECTED}
+
+local rotated = redis.call('GET', KEYS[1])
+if rotated then
+    return {'REUSED', rotated}
+end
+
+-- 유예 시간이 지난 재사용
+if redis.call('EXISTS', KEYS[4]) == 1 then
+    return {'REJECTED'}
+end
+
+-- 저장된 현재 refresh 와 일치하는지 (그 사이 다른 요청이 교체했으면 인덱스에 회원 id 가 없음)
+local userId = ARGV[10]
+if userId == '' or redis.call('SISMEMBER', KEYS[2], userId) == 0 then
+    return {'REJECTED'}
+end
+if redis.call('HGET', KEYS[6], 'token') ~= ARGV[1] then
+    return {'REJECTED'}
+end
+
+-- 새 refresh 저장 (인덱스, phantom 키까지 저장소와 같게 갱신)
+local refreshTtl = tonumber(ARGV[4])
+redis.call('HSET', KEYS[6], 'token', ARGV[3], 'ttl', ARGV[4])
+redis.call('PEXPIRE', KEYS[6], refreshTtl)
+redis.call('SREM', KEYS[2], userId)
+redis.call('SADD', KEYS[3], userId)
+redis.call('SREM', KEYS[7], KEYS[2])
+redis.call('SADD', KEYS[7], KEYS[3])
+if redis.call('EXISTS', KEYS[8]) == 1 then
+    redis.call('HSET', KEYS[8], 'token', ARGV[3], 'ttl', ARGV[4])
+    redis.call('PEXPIRE', KEYS[8], refreshTtl + 300000)
+end
+
+-- 이전 refresh 블랙 처리
+local blackTtl = tonumber(ARGV[5])
+for _, key in ipairs({KEYS[4], KEYS[9]}) do
+    redis.call('HSET', key, '_class', 'com.ssafy.sos.user.jwt.BlackToken',
+            'token', ARGV[1], 'isBlacked', '1', 'ttl', ARGV[5])
+end
+redis.call('PEXPIRE', KEYS[4], blackTtl)
+redis.call('PEXPIRE', KEYS[9], blackTtl + 300000)
+redis.call('SADD', KEYS[10], ARGV[1])
+local sequence = redis.call('INCR', KEYS[5])
+redis.call('PUBLISH', ARGV[9], ARGV[7] .. ' ' .. ARGV[8] .. ' ' .. sequence)
+
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[6])
+return {'ROTATED'}
@@ -0,0 +1,64 @@
+package com.ssafy.sos.game;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboundLaneExecutorTest {
+
+    @Test
+    void 밀려있을_때_게임_메시지가_채팅_관전보다_먼저_나간다() throws InterruptedException {
+        OutboundLaneExecutor executor = new OutboundLaneExecutor(1);
+        executor.initialize();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        List<String> sent = new CopyOnWriteArrayList<>();
+
+        // 하나뿐인 스레드를 잡아두고 큐에 쌓이게 함
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (String destination : List.of("/sub/spectate/A001", "/sub/A001/chat", "/sub/A001/chat", "/sub/A001", "/sub/A001")) {
+            executor.execute(new SendTask(destination, sent, done));
+        }
+        blocked.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).containsExactly("/sub/A001", "/sub/A001", "/sub/A001/chat", "/sub/A001/chat", "/sub/spectate/A001");
+        executor.shutdown();
+    }
+
+    private record SendTask(String destination, List<String> sent, CountDownLatch done) implements MessageHandlingRunnable {
+        @Override
+        public Message<?> getMessage() {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+            accessor.setDestination(destination);
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+
+        @Override
+        public MessageHandler getMessageHandler() {
+            return message -> { };
+        }
+
+        @Override
+        public void run() {
+            sent.add(destination);
+            done.countDown();
+        }
+    }
+}
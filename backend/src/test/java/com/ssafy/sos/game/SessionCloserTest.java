@@ -0,0 +1,29 @@
+package com.ssafy.sos.game;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionCloserTest {
+    @Test
+    void 세션에_ERROR_프레임을_보내_연결을_끊는다() {
+        List<Message<?>> sent = new ArrayList<>();
+        SessionCloser sessionCloser = new SessionCloser((message, timeout) -> sent.add(message));
+
+        sessionCloser.close("s1", "DUPLICATE_LOGIN");
+
+        assertThat(sent).hasSize(1);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(sent.get(0));
+        assertThat(accessor.getCommand()).isEqualTo(StompCommand.ERROR);
+        assertThat(accessor.getSessionId()).isEqualTo("s1");
+        assertThat(accessor.getMessage()).isEqualTo("DUPLICATE_LOGIN");
+        // 브로커를 거치지 않는 제어 메시지이므로 게임 메시지보다 먼저 나감
+        assertThat(OutboundLaneExecutor.laneOf(sent.get(0))).isEqualTo(OutboundLaneExecutor.Lane.CONTROL);
+    }
+}
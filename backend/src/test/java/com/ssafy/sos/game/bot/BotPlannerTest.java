@@ -0,0 +1,42 @@
+package com.ssafy.sos.game.bot;
+
+import com.ssafy.sos.game.util.GameRole;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BotPlannerTest {
+    // 1 - 2 - 3 - 4 - 5 일렬로 연결된 지도
+    private static final int[][] LINE = {{}, {2}, {1, 3}, {2, 4}, {3, 5}, {4}};
+
+    private final BotPlanner botPlanner = new BotPlanner(LINE);
+
+    @Test
+    void 해군은_해적이_있을_법한_곳에_가까운_노드로_이동한다() {
+        BotAction action = botPlanner.plan(marineMove(), System.nanoTime() + 1_000_000_000L);
+
+        assertThat(action.getNode()).isEqualTo(4);
+    }
+
+    @Test
+    void 해군도_deadline_이_지나면_탐색을_멈추고_후보_중에서_고른다() {
+        BotAction action = botPlanner.plan(marineMove(), System.nanoTime() - 1);
+
+        assertThat(action.getNode()).isIn(2, 4);
+    }
+
+    private static BotContext marineMove() {
+        return BotContext.builder()
+                .gameId("A001")
+                .orderId(1)
+                .role(GameRole.MARINE_ONE)
+                .order(BotOrder.MOVE)
+                .candidates(new int[] {2, 4})
+                .positions(new int[] {0, 3, 0, 0})
+                .closedTreasures(new int[0])
+                .investigateSuccess(new int[0])
+                .possiblePirateNodes(new int[] {5})
+                .seed(1)
+                .build();
+    }
+}
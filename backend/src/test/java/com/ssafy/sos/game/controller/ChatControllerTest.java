@@ -0,0 +1,75 @@
+package com.ssafy.sos.game.controller;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.message.client.ClientMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.service.ChatService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatControllerTest {
+    private final Board board = new Board();
+    private final ChatService chatService = mock(ChatService.class);
+    private final ChatController chatController = new ChatController(board, chatService,
+            new GameMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void 게임에_연결되지_않은_세션의_채팅은_보내지_않는다() {
+        Game game = new Game("A001");
+        game.setPlayer(0, Player.builder().nickname("pirate").build());
+        board.getGameMap().put("A001", game);
+        board.getSessions().bind("s2", "m1", "A002");
+
+        // 연결되지 않은 세션, 다른 게임에 연결된 세션이 해적 이름으로 보낸 채팅
+        chatController.chat("A001", chatFrom("pirate"), accessor("s1"));
+        chatController.chat("A001", chatFrom("pirate"), accessor("s2"));
+
+        verify(chatService, never()).send(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    void 보낸_사람은_클라이언트가_보낸_sender_가_아니라_세션의_닉네임이다() {
+        Game game = new Game("A001");
+        game.setPlayer(0, Player.builder().nickname("pirate").build());
+        game.setPlayer(1, Player.builder().nickname("m1").build());
+        board.getGameMap().put("A001", game);
+        board.getSessions().bind("s1", "m1", "A001");
+        when(chatService.send(anyString(), anyString(), anyInt(), anyString())).thenReturn(true);
+
+        chatController.chat("A001", chatFrom("pirate"), accessor("s1"));
+
+        verify(chatService).send("A001", "m1", 1, "hello");
+    }
+
+    @Test
+    void 게임에_연결된_세션만_최근_채팅을_받는다() {
+        board.getGameMap().put("A001", new Game("A001"));
+        board.getSessions().bind("s1", "m1", "A001");
+        board.getSessions().bind("s2", "m2", "A002");
+
+        assertThat(chatController.history("A001", accessor("s1"))).isNotNull();
+        assertThat(chatController.history("A001", accessor("s2"))).isNull();
+        assertThat(chatController.history("A001", accessor("s3"))).isNull();
+        verify(chatService, times(1)).getHistory("A001");
+    }
+
+    private static ClientMessage chatFrom(String sender) {
+        ClientMessage message = new ClientMessage();
+        message.setSender(sender);
+        message.setMessage("hello");
+        return message;
+    }
+
+    private static SimpMessageHeaderAccessor accessor(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(sessionId);
+        return accessor;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.sos.game.controller;
+
+import com.ssafy.sos.game.SessionCloser;
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.message.client.ClientMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.service.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MessageControllerTest {
+    private final Board board = new Board();
+    private final LobbyService lobbyService = mock(LobbyService.class);
+    private final SessionCloser sessionCloser = mock(SessionCloser.class);
+    private final MessageController messageController = new MessageController(
+            mock(SimpMessageSendingOperations.class), board, mock(GameService.class), mock(GameTimerService.class),
+            new GameMetrics(new SimpleMeterRegistry()), mock(GameSnapshotService.class),
+            mock(GameEventLogService.class), mock(SpectatorService.class), mock(ReconnectService.class),
+            mock(BotService.class), lobbyService, sessionCloser);
+
+    @Test
+    void 게임_시작_직전에_끊긴_세션은_방_퇴장_없이_바로_정리한다() {
+        board.getRoomMap().put("A001", new Room("A001"));
+        board.getGameMap().put("A001", new Game("A001"));
+        board.getSessions().bind("s1", "host", "A001");
+
+        messageController.handleDisconnectEvent(disconnect("s1"));
+
+        assertThat(board.getSessions().get("s1")).isNull();
+        assertThat(board.getSessions().sessionsOf("A001")).isEmpty();
+        assertThat(board.getRoomMap()).containsKey("A001");
+        verifyNoInteractions(lobbyService);
+    }
+
+    @Test
+    void 같은_사용자가_다시_접속하면_이전_세션의_연결을_끊는다() {
+        board.getSessions().connect("s1", "user-1");
+        board.getSessions().connect("s2", "user-1");
+        messageController.matching(waitMatching("player"), accessor("s1"));
+
+        messageController.matching(waitMatching("player"), accessor("s2"));
+
+        assertThat(board.getSessions().findByNickname("player").getSessionId()).isEqualTo("s2");
+        verify(sessionCloser).close("s1", "DUPLICATE_LOGIN");
+    }
+
+    @Test
+    void 다른_사용자가_닉네임만_보내서는_이전_세션을_내보낼_수_없다() {
+        board.getSessions().connect("s1", "user-1");
+        board.getSessions().connect("s2", "guest-2");
+        board.getSessions().connect("s3", "user-3");
+        messageController.matching(waitMatching("player"), accessor("s1"));
+
+        messageController.matching(waitMatching("player"), accessor("s2"));
+        messageController.matching(waitMatching("player"), accessor("s3"));
+
+        assertThat(board.getSessions().findByNickname("player").getSessionId()).isEqualTo("s1");
+        assertThat(board.getSessions().get("s2").getNickname()).isNull();
+        verifyNoInteractions(sessionCloser);
+    }
+
+    private static ClientMessage waitMatching(String sender) {
+        ClientMessage message = new ClientMessage();
+        message.setMessage("WAIT_MATCHING");
+        message.setSender(sender);
+        return message;
+    }
+
+    private static StompHeaderAccessor accessor(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(sessionId);
+        return accessor;
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssafy.sos.game.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardMapLoaderTest {
+    private static final String SMALL_MAP = """
+            id small
+            name 작은 지도
+            nodes 204
+            treasure 1 1
+            treasure 2 2
+            treasure 3 3
+            treasure 4 1 2
+            marine-start 200 201 202
+            1 200 2
+            2 1 201
+            3 202 203
+            200 1 201
+            201 2 200 202
+            202 3 201
+            203 3
+            """;
+
+    @Test
+    void 기본_지도는_CSR_과_인접_배열이_같다() {
+        BoardMap map = new Board().getMap(BoardMap.DEFAULT_ID);
+
+        assertThat(map.getNodeCount()).isEqualTo(374);
+        assertThat(map.getMaxPirateNode()).isEqualTo(189);
+        for (int node = 0; node < map.getNodeCount(); node++) {
+            assertThat(map.getGraph()[node]).hasSize(map.degree(node));
+            for (int i = map.getOffsets()[node]; i < map.getOffsets()[node + 1]; i++) {
+                assertThat(map.getGraph()[node]).contains(map.getAdjacency()[i]);
+            }
+        }
+    }
+
+    @Test
+    void 지도_파일을_읽어_등록한다() {
+        Board board = new Board();
+        board.registerMap(load(SMALL_MAP));
+
+        BoardMap map = board.getMap("small");
+        assertThat(board.hasMap("small")).isTrue();
+        assertThat(map.getPirateNeighbors()[201]).containsExactly(2);
+        assertThat(map.getTreasureRegion(4)).containsExactly(1, 2);
+        assertThat(map.isMarineNode(203)).isTrue();
+        assertThat(map.isPirateNode(4)).isFalse();
+        // 모르는 id 는 기본 지도
+        assertThat(board.getMap("unknown").getId()).isEqualTo(BoardMap.DEFAULT_ID);
+    }
+
+    @Test
+    void 같은_id_지도를_다시_등록해도_진행_중인_게임은_시작할_때의_지도를_쓴다() {
+        Board board = new Board();
+        BoardMap before = load(SMALL_MAP);
+        board.registerMap(before);
+        Game game = new Game("A001");
+        game.setMap(board.getMap("small"));
+
+        BoardMap reloaded = load(SMALL_MAP.replace("name 작은 지도", "name 수정한 지도"));
+        board.registerMap(reloaded);
+
+        assertThat(board.mapOf(game)).isSameAs(before);
+        assertThat(board.getMap("small")).isSameAs(reloaded);
+        // 스냅샷에서 복구한 게임처럼 고정되지 않았다면 mapId 로 찾아 고정
+        Game restored = new Game("A002");
+        restored.setMapId("small");
+        assertThat(board.mapOf(restored)).isSameAs(reloaded);
+        assertThat(restored.getMap()).isSameAs(reloaded);
+    }
+
+    @Test
+    void 한_방향_연결은_거부한다() {
+        String broken = SMALL_MAP.replace("203 3\n", "203\n");
+
+        assertThatThrownBy(() -> load(broken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3 -> 203");
+    }
+
+    @Test
+    void 해적_노드가_아닌_보물은_거부한다() {
+        String broken = SMALL_MAP.replace("treasure 3 3", "treasure 3 200");
+
+        assertThatThrownBy(() -> load(broken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("보물 구역 3");
+    }
+
+    private static BoardMap load(String text) {
+        return BoardMapLoader.load("test.map", new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
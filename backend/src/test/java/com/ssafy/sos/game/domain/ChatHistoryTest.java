@@ -0,0 +1,42 @@
+package com.ssafy.sos.game.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatHistoryTest {
+
+    @Test
+    void 용량보다_적으면_받은_순서대로_모두_보관한다() {
+        ChatHistory history = new ChatHistory(3);
+        history.add(chat("a"));
+        history.add(chat("b"));
+
+        assertThat(history.toList()).extracting(Chat::getChatMessage).containsExactly("a", "b");
+    }
+
+    @Test
+    void 용량을_넘으면_오래된_채팅부터_버린다() {
+        ChatHistory history = new ChatHistory(3);
+        for (String message : new String[] {"a", "b", "c", "d", "e"}) {
+            history.add(chat(message));
+        }
+
+        assertThat(history.toList()).extracting(Chat::getChatMessage).containsExactly("c", "d", "e");
+    }
+
+    @Test
+    void 비어_있으면_빈_목록() {
+        assertThat(new ChatHistory(3).toList()).isEmpty();
+    }
+
+    private static Chat chat(String message) {
+        return Chat.builder()
+                .gameId("A001")
+                .sender("m1")
+                .role(1)
+                .message("CHATTING")
+                .chatMessage(message)
+                .build();
+    }
+}
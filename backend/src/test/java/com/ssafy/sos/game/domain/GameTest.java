@@ -0,0 +1,104 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.util.GameRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameTest {
+
+    @Test
+    void 보물을_열면_해당_비트만_켜진다() {
+        Game game = new Game("A001");
+        game.setTreasureNodes(new int[] {10, 20, 30, 40});
+
+        game.openTreasure(30);
+        game.openTreasure(99); // 보물이 아닌 노드는 무시
+
+        assertThat(game.getOpenedTreasureMask()).isEqualTo(0b0100);
+        assertThat(game.isClosedTreasure(30)).isFalse();
+        assertThat(game.isClosedTreasure(10)).isTrue();
+        assertThat(game.isClosedTreasure(99)).isFalse();
+        assertThat(game.getTreasures()).containsOnly(
+                Map.entry(10, false), Map.entry(20, false),
+                Map.entry(30, true), Map.entry(40, false));
+    }
+
+    @Test
+    void 네_번째_보물까지_열고_교체하면_모두_닫힌다() {
+        Game game = new Game("A001");
+        game.setTreasureNodes(new int[] {10, 20, 30, 40});
+        for (int node : game.getTreasureNodes()) {
+            game.openTreasure(node);
+        }
+        assertThat(game.getOpenedTreasureMask()).isEqualTo(0b1111);
+
+        game.setTreasureNodes(new int[] {50, 60});
+
+        assertThat(game.getTreasureNodes()).containsExactly(50, 60);
+        assertThat(game.getOpenedTreasureMask()).isZero();
+        assertThat(game.isClosedTreasure(10)).isFalse();
+    }
+
+    @Test
+    void 스냅샷_복구는_보물과_열림_상태를_그대로_되돌린다() {
+        Game game = new Game("A001");
+        game.restoreTreasures(new int[] {10, 20, 30, 40}, 0b1010);
+
+        assertThat(game.isClosedTreasure(10)).isTrue();
+        assertThat(game.isClosedTreasure(20)).isFalse();
+        assertThat(game.isClosedTreasure(40)).isFalse();
+        assertThat(game.getOpenedTreasureMask()).isEqualTo(0b1010);
+    }
+
+    @Test
+    void 한_명이_여러_역할이면_가장_작은_역할_번호로_찾는다() {
+        Game game = new Game("A001");
+        Player pirate = Player.builder().nickname("pirate").build();
+        Player marine = Player.builder().nickname("marine").build();
+        game.setPlayer(GameRole.PIRATE.getRoleNumber(), pirate);
+        for (int role = 3; role >= 1; role--) {
+            game.setPlayer(role, marine);
+        }
+
+        assertThat(game.getPlayerRoleByNickname("marine")).isEqualTo(1);
+        assertThat(game.getPlayerRoleByNickname("pirate")).isZero();
+        assertThat(game.getPlayerRoleByNickname("nobody")).isNull();
+    }
+
+    @Test
+    void 역할별_경로와_해군_점유_노드() {
+        Game game = new Game("A001");
+        game.getMarineTwoRoute().addNode(200);
+        game.setCurrentPosition(new int[] {5, 200, 201, 202});
+
+        assertThat(game.getRoute(GameRole.MARINE_TWO.getRoleNumber())).containsExactly(200);
+        assertThat(game.getMarineNodes().toArray()).containsExactly(200, 201, 202);
+        assertThatThrownBy(() -> game.getRoute(4)).isInstanceOf(IllegalArgumentException.class);
+
+        game.restoreRoute(GameRole.PIRATE.getRoleNumber(), new int[] {1, 2, 3});
+        assertThat(game.getPirateRoute()).containsExactly(1, 2, 3);
+        assertThat(game.toView().getPirateRoute()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void 봇_응답은_기다리던_명령에_한_번만_적용된다() {
+        Game game = new Game("A001");
+        long first = game.issueBotOrder();
+        long second = game.issueBotOrder();
+
+        // 다음 명령이 내려진 뒤 도착한 이전 응답
+        assertThat(game.takeBotOrder(first)).isFalse();
+        assertThat(game.takeBotOrder(second)).isTrue();
+        assertThat(game.takeBotOrder(second)).isFalse();
+
+        // 시간 초과로 대신 처리된 뒤 도착한 응답
+        long third = game.issueBotOrder();
+        game.clearBotOrder();
+        assertThat(game.takeBotOrder(third)).isFalse();
+        assertThat(game.takeBotOrder(0)).isFalse();
+    }
+}
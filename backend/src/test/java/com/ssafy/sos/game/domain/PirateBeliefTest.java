@@ -0,0 +1,77 @@
+package com.ssafy.sos.game.domain;
+
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.service.GameServiceImpl;
+import com.ssafy.sos.game.util.NodeSet;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PirateBeliefTest {
+    private final Board board = new Board();
+    private final GameServiceImpl gameService =
+            new GameServiceImpl(null, null, null, board, new GameMetrics(new CompositeMeterRegistry()), null);
+
+    @Test
+    void 실제_해적_위치는_항상_후보에_포함된다() {
+        Random random = new Random(3);
+        int narrowed = 0;
+
+        for (int round = 0; round < 300; round++) {
+            Game game = new Game("B" + round);
+            board.getGameMap().put(game.getGameId(), game);
+            int[] marineStart = board.getMarineStartList();
+            for (int role = 1; role < 4; role++) {
+                game.getCurrentPosition()[role] = marineStart[role];
+            }
+            int start = board.getOne()[random.nextInt(board.getOne().length)];
+            gameService.initPirateStart(game.getGameId(), start);
+            game.getPirateBelief().reset(start, true);
+
+            for (int turn = 0; turn < 10; turn++) {
+                // 해적 이동
+                List<Integer> available = new ArrayList<>(
+                        gameService.findPirateAvailableNode(game.getGameId(), game.getCurrentPosition()[0]).keySet());
+                if (available.isEmpty()) break;
+                gameService.move(game.getGameId(), available.get(random.nextInt(available.size())), 0);
+                game.getPirateBelief().onPirateMove(board.getGraph(), game.getMarineNodes());
+
+                // 해군 이동 후 주변 조사
+                for (int role = 1; role < 4; role++) {
+                    List<Integer> marineAvailable = new ArrayList<>(gameService.findMarineAvailableNode(
+                            game.getGameId(), game.getCurrentPosition()[role]).keySet());
+                    gameService.move(game.getGameId(), marineAvailable.get(random.nextInt(marineAvailable.size())), role);
+                    for (int node : board.getPirateNeighbors()[game.getCurrentPosition()[role]]) {
+                        boolean success = game.getPirateRoute().containsNode(node);
+                        game.getPirateBelief().onInvestigate(board.getGraph(), node, success);
+                    }
+                }
+
+                assertThat(game.getPirateBelief().contains(game.getCurrentPosition()[0])).isTrue();
+                if (game.getPirateBelief().size() < available.size()) narrowed++;
+            }
+            board.getGameMap().remove(game.getGameId());
+        }
+
+        // 조사 결과로 후보가 실제로 줄어드는지
+        assertThat(narrowed).isPositive();
+    }
+
+    @Test
+    void 체포_실패한_노드는_후보에서_빠진다() {
+        PirateBelief belief = new PirateBelief();
+        belief.reset(1, true);
+        belief.onPirateMove(board.getGraph(), new NodeSet());
+        int[] possible = belief.possibleNodes();
+
+        belief.exclude(possible[0]);
+
+        assertThat(belief.contains(possible[0])).isFalse();
+        assertThat(belief.size()).isEqualTo(possible.length - 1);
+    }
+}
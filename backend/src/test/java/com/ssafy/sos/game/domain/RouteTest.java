@@ -0,0 +1,84 @@
+package com.ssafy.sos.game.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteTest {
+
+    @Test
+    void List_와_같은_내용이면_같은_List_로_취급한다() {
+        Route route = new Route();
+        for (int node = 1; node <= 40; node++) {
+            route.add(node % 20);
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int node = 1; node <= 40; node++) {
+            expected.add(node % 20);
+        }
+        assertThat(route).isEqualTo(expected).hasSize(40);
+        assertThat(expected).isEqualTo(route);
+        assertThat(route.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(route.indexOf(5)).isEqualTo(4);
+        assertThat(route.lastIndexOf(5)).isEqualTo(24);
+        assertThat(route.toIntArray()).hasSize(40);
+    }
+
+    @Test
+    void contains_는_방문_비트셋으로_확인한다() {
+        Route route = new Route();
+        route.addNode(3);
+        route.addNode(150);
+
+        assertThat(route.contains(150)).isTrue();
+        assertThat(route.containsNode(3)).isTrue();
+        assertThat(route.contains(4)).isFalse();
+        assertThat(route.contains("3")).isFalse();
+        assertThat(route.contains(null)).isFalse();
+
+        route.clear();
+        assertThat(route).isEmpty();
+        assertThat(route.containsNode(3)).isFalse();
+    }
+
+    @Test
+    void 범위_밖_인덱스와_노드는_예외이고_경로는_그대로다() {
+        Route route = new Route();
+        route.addNode(1);
+
+        assertThatThrownBy(() -> route.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> route.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> route.addNode(9999)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(route).containsExactly(1);
+    }
+
+    @Test
+    void 순회_중_변경하면_ConcurrentModificationException() {
+        Route route = new Route();
+        route.addNode(1);
+        route.addNode(2);
+
+        Iterator<Integer> iterator = route.iterator();
+        iterator.next();
+        route.addNode(3);
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void 기존_List_와_같은_JSON_배열로_직렬화한다() throws Exception {
+        Route route = new Route();
+        route.addNode(7);
+        route.addNode(8);
+
+        assertThat(new ObjectMapper().writeValueAsString(route)).isEqualTo("[7,8]");
+    }
+}
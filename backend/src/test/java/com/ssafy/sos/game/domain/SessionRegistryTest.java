@@ -0,0 +1,55 @@
+package com.ssafy.sos.game.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionRegistryTest {
+    private final SessionRegistry sessions = new SessionRegistry();
+
+    @Test
+    void 같은_닉네임으로_다시_접속하면_이전_세션을_돌려주고_연결을_해제한다() {
+        sessions.connect("s1", "guest-s1");
+        sessions.connect("s2", "guest-s2");
+        assertThat(sessions.bind("s1", "player", "A001")).isNull();
+
+        PlayerSession duplicate = sessions.bind("s2", "player", "A001");
+
+        assertThat(duplicate.getSessionId()).isEqualTo("s1");
+        assertThat(sessions.get("s1").isBound()).isFalse();
+        assertThat(sessions.findByNickname("player").getSessionId()).isEqualTo("s2");
+        assertThat(sessions.findByNickname("player").getUser()).isEqualTo("guest-s2");
+        assertThat(sessions.sessionsOf("A001")).extracting(PlayerSession::getSessionId).containsExactly("s2");
+    }
+
+    @Test
+    void 역할을_기록하고_세션을_지우면_모든_색인에서_빠진다() {
+        sessions.bind("s1", "pirate", "A001");
+        sessions.bind("s2", "marine", "A001");
+        sessions.assignRole("s2", 1);
+
+        assertThat(sessions.get("s2").getRole()).isEqualTo(1);
+        assertThat(sessions.get("s1").getRole()).isEqualTo(PlayerSession.NO_ROLE);
+
+        sessions.remove("s1");
+        assertThat(sessions.findByNickname("pirate")).isNull();
+        assertThat(sessions.sessionsOf("A001")).extracting(PlayerSession::getNickname).containsExactly("marine");
+
+        assertThat(sessions.unbindGame("A001")).isEqualTo(1);
+        assertThat(sessions.sessionsOf("A001")).isEmpty();
+        assertThat(sessions.findByNickname("marine")).isNull();
+        assertThat(sessions.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 매칭_대기_중에는_닉네임으로만_찾을_수_있다() {
+        sessions.connect("s1", "guest-s1");
+        sessions.bind("s1", "waiting", null);
+
+        assertThat(sessions.findByNickname("waiting").isBound()).isFalse();
+        assertThat(sessions.findByNickname("waiting").getUser()).isEqualTo("guest-s1");
+
+        sessions.bind("s1", "waiting", "A001");
+        assertThat(sessions.sessionsOf("A001")).extracting(PlayerSession::getNickname).containsExactly("waiting");
+    }
+}
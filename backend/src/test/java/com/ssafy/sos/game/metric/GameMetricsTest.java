@@ -0,0 +1,31 @@
+package com.ssafy.sos.game.metric;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GameMetrics gameMetrics = new GameMetrics(registry);
+
+    @Test
+    void 같은_태그는_같은_timer_에_기록하고_형식이_다른_메시지는_UNKNOWN_으로_묶는다() {
+        long start = System.nanoTime();
+        gameMetrics.recordHandler("game", "MOVE_MARINE_ONE", start);
+        gameMetrics.recordHandler("game", "MOVE_MARINE_ONE", start);
+        gameMetrics.recordHandler("game", "move marine", start);
+        gameMetrics.recordHandler("game", "<script>", start);
+        gameMetrics.recordCompute("bfs", 1, () -> 0);
+        gameMetrics.recordCompute("bfs", 1, () -> 0);
+
+        Timer move = registry.get(GameMetrics.HANDLER).tag("phase", "MOVE").tag("role", "MARINE_ONE").timer();
+        Timer unknown = registry.get(GameMetrics.HANDLER).tag("phase", "UNKNOWN").timer();
+        Timer bfs = registry.get(GameMetrics.COMPUTE).tag("operation", "bfs").tag("role", "MARINE_ONE").timer();
+        assertThat(move.count()).isEqualTo(2);
+        assertThat(unknown.count()).isEqualTo(2);
+        assertThat(bfs.count()).isEqualTo(2);
+        assertThat(registry.getMeters()).hasSize(3);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.log.GameEvent;
+import com.ssafy.sos.game.util.GameEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameEventLogServiceImplTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void 복구하면_스냅샷_이후_기록을_버리고_이어서_기록한다() throws IOException {
+        GameEventLogServiceImpl logService = new GameEventLogServiceImpl(directory.toString());
+        Game game = new Game("A001");
+        logService.open(game);
+        logService.append(game, GameEventType.MOVE, 0, 10);
+        long checkpoint = logService.checkpoint(game);
+        logService.append(game, GameEventType.MOVE, 0, 11);
+        logService.checkpoint(game);
+
+        // 재시작 : 새 서비스가 스냅샷 시점 길이로 이어서 기록
+        GameEventLogServiceImpl restarted = new GameEventLogServiceImpl(directory.toString());
+        restarted.resume(game, checkpoint);
+        restarted.append(game, GameEventType.MOVE, 0, 12);
+        restarted.close(game.getGameId());
+
+        assertThat(nodesOf(restarted, game.getLogId())).containsExactly(10, 12);
+    }
+
+    @Test
+    void 길이를_모르면_잘린_마지막_레코드만_버린다() throws IOException {
+        GameEventLogServiceImpl logService = new GameEventLogServiceImpl(directory.toString());
+        Game game = new Game("A002");
+        logService.open(game);
+        logService.append(game, GameEventType.MOVE, 0, 10);
+        long length = logService.checkpoint(game);
+        // 레코드를 쓰다가 종료된 경우
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(game.getLogId() + ".part").toFile(), "rw")) {
+            file.seek(length);
+            file.write(new byte[] {1, 0, 0});
+        }
+
+        GameEventLogServiceImpl restarted = new GameEventLogServiceImpl(directory.toString());
+        restarted.resume(game, -1);
+        restarted.append(game, GameEventType.MOVE, 0, 13);
+        restarted.close(game.getGameId());
+
+        assertThat(Files.size(directory.resolve(game.getLogId() + ".log"))).isEqualTo(length + 8);
+        assertThat(nodesOf(restarted, game.getLogId())).containsExactly(10, 13);
+    }
+
+    @Test
+    void 진행_중인_게임의_로그는_공개하지_않는다() throws IOException {
+        GameEventLogServiceImpl logService = new GameEventLogServiceImpl(directory.toString());
+        Game game = new Game("A003");
+        logService.open(game);
+        logService.append(game, GameEventType.MOVE, 0, 10);
+        logService.checkpoint(game);
+
+        // logId 는 시작 시각으로 만들 수 없음
+        assertThat(game.getLogId()).isNotEqualTo(game.getGameId() + "-" + game.getStartTime());
+        assertThat(logService.exists(game.getLogId())).isFalse();
+        assertThatThrownBy(() -> nodesOf(logService, game.getLogId())).isInstanceOf(IOException.class);
+
+        logService.close(game.getGameId());
+
+        assertThat(logService.exists(game.getLogId())).isTrue();
+        assertThat(nodesOf(logService, game.getLogId())).containsExactly(10);
+    }
+
+    private static List<Integer> nodesOf(GameEventLogService logService, String logId) throws IOException {
+        List<Integer> nodes = new ArrayList<>();
+        logService.read(logId, (GameEvent event) -> nodes.add(event.getNode()));
+        return nodes;
+    }
+}
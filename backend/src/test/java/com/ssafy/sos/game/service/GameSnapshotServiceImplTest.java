@@ -0,0 +1,165 @@
+package com.ssafy.sos.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.FallbackMove;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.domain.snapshot.GameSnapshot;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.repository.GameSnapshotRepository;
+import com.ssafy.sos.game.util.GameMode;
+import com.ssafy.sos.game.util.GameRole;
+import com.ssafy.sos.game.util.GameStatus;
+import com.ssafy.sos.game.util.PendingTimer;
+import com.ssafy.sos.game.util.RoomCodeAllocator;
+import com.ssafy.sos.user.repository.UserRepository;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameSnapshotServiceImplTest {
+    private final Board board = new Board();
+    private final GameTimerService gameTimerService = mock(GameTimerService.class);
+    private final GameSnapshotRepository gameSnapshotRepository = mock(GameSnapshotRepository.class);
+    private final GameEventLogService gameEventLogService = mock(GameEventLogService.class);
+    private final ReconnectService reconnectService = mock(ReconnectService.class);
+    private final RoomCodeAllocator roomCodeAllocator = new RoomCodeAllocator(1, 3);
+    private final GameSnapshotServiceImpl snapshotService = new GameSnapshotServiceImpl(board, gameTimerService,
+            gameSnapshotRepository, mock(UserRepository.class), roomCodeAllocator, gameEventLogService, reconnectService);
+    private final GameServiceImpl gameService = new GameServiceImpl(null, null, null, board,
+            new GameMetrics(new CompositeMeterRegistry()), null, new Random(5));
+
+    @Test
+    void 복구한_게임은_저장_전과_같은_상태다() throws Exception {
+        Game game = playingGame();
+        long fireAt = System.currentTimeMillis() + 12_000;
+        when(gameTimerService.getPendingTimer("A001")).thenReturn(new PendingTimer("MOVE_MARINE_ONE_TIME_OUT", fireAt));
+        when(gameEventLogService.checkpoint(game)).thenReturn(1234L);
+        when(reconnectService.tokensOf("A001")).thenReturn(Map.of("pirate", "token-p", "m1", "token-1"));
+
+        GameSnapshot snapshot = save(game);
+        board.getGameMap().clear();
+        when(gameSnapshotRepository.findAll()).thenReturn(List.of(snapshot));
+
+        assertThat(snapshotService.restore()).isEqualTo(1);
+
+        Game restored = board.getGameMap().get("A001");
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        assertThat(objectMapper.writeValueAsString(restored)).isEqualTo(objectMapper.writeValueAsString(game));
+        assertThat(restored.getOpenedTreasureMask()).isEqualTo(game.getOpenedTreasureMask());
+        assertThat(restored.getPirateBelief().getStepCount()).isEqualTo(game.getPirateBelief().getStepCount());
+        assertThat(restored.getPirateBelief().possibleNodes()).containsExactly(game.getPirateBelief().possibleNodes());
+        assertThat(restored.getPirateBelief().toWords()).containsExactly(game.getPirateBelief().toWords());
+        assertThat(restored.getFallbackMove().getRole()).isEqualTo(GameRole.MARINE_ONE);
+        assertThat(objectMapper.writeValueAsString(restored.getFallbackMove().getAvailableNode()))
+                .isEqualTo(objectMapper.writeValueAsString(game.getFallbackMove().getAvailableNode()));
+        assertThat(roomCodeAllocator.getInUseCount()).isEqualTo(1);
+        verify(gameEventLogService).resume(restored, 1234L);
+
+        // 저장된 토큰으로 다시 참가할 수 있고, 돌아오지 않으면 유예 시간 후 봇으로 교체
+        verify(reconnectService).restoreToken("A001", "pirate", "token-p");
+        verify(reconnectService).restoreToken("A001", "m1", "token-1");
+        verify(reconnectService, never()).restoreToken(eq("A001"), eq("m2"), anyString());
+        verify(reconnectService).startGrace("A001", "pirate");
+        verify(reconnectService).startGrace("A001", "m1");
+        verify(reconnectService).startGrace("A001", "m2");
+        verify(reconnectService, never()).startGrace("A001", "m3");
+
+        // 남은 시간(약 12초)만큼 다시 예약
+        ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(gameTimerService).restoreTimer(eq("A001"), eq("MOVE_MARINE_ONE_TIME_OUT"), delay.capture());
+        assertThat(delay.getValue()).isBetween(10_000L, 12_000L);
+    }
+
+    @Test
+    void 남은_시간이_짧으면_최소_대기_시간으로_예약한다() {
+        ReflectionTestUtils.setField(snapshotService, "restoreMinDelayMillis", 10_000L);
+        Game game = playingGame();
+        when(gameTimerService.getPendingTimer("A001"))
+                .thenReturn(new PendingTimer("READY_TURN_OVER", System.currentTimeMillis() - 5_000));
+        when(gameEventLogService.checkpoint(game)).thenReturn(-1L);
+
+        GameSnapshot snapshot = save(game);
+        board.getGameMap().clear();
+        when(gameSnapshotRepository.findAll()).thenReturn(List.of(snapshot));
+        snapshotService.restore();
+
+        verify(gameTimerService).restoreTimer("A001", "READY_TURN_OVER", 10_000L);
+    }
+
+    @Test
+    void 게임_lock_을_잡은_동안에는_스냅샷을_만들지_않는다() throws Exception {
+        Game game = playingGame();
+        snapshotService.markDirty("A001");
+
+        Thread flusher;
+        synchronized (game) {
+            flusher = new Thread(snapshotService::flush);
+            flusher.start();
+            // 메시지 처리 도중 턴만 바뀐 상태는 저장되지 않아야 함
+            game.setTurn(4);
+            flusher.join(200);
+            assertThat(flusher.isAlive()).isTrue();
+            verify(gameSnapshotRepository, never()).save(any());
+            game.setTurn(5);
+        }
+        flusher.join(5_000);
+
+        ArgumentCaptor<GameSnapshot> captor = ArgumentCaptor.forClass(GameSnapshot.class);
+        verify(gameSnapshotRepository).save(captor.capture());
+        assertThat(captor.getValue().toGame(userId -> null).getTurn()).isEqualTo(5);
+    }
+
+    private GameSnapshot save(Game game) {
+        snapshotService.markDirty(game.getGameId());
+        snapshotService.flush();
+        ArgumentCaptor<GameSnapshot> captor = ArgumentCaptor.forClass(GameSnapshot.class);
+        verify(gameSnapshotRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    // 해적이 두 번 움직이고 해군 1 이 이동 명령을 받은 상태
+    private Game playingGame() {
+        Game game = new Game("A001");
+        game.setGameStatus(GameStatus.IN_GAME);
+        game.setGameMode(GameMode.ONE_VS_THREE);
+        game.setStartTime(System.currentTimeMillis());
+        game.setLogId("A001-" + game.getStartTime());
+        String[] nicknames = {"pirate", "m1", "m2", "m3"};
+        for (int role = 0; role < 4; role++) {
+            game.setPlayer(role, Player.builder().nickname(nicknames[role]).bot(role == 3).build());
+        }
+        board.getGameMap().put("A001", game);
+
+        int[] marineStart = board.getMarineStartList();
+        for (int role = 1; role < 4; role++) {
+            gameService.initMarineStart("A001", role, marineStart[role]);
+        }
+        int[] treasures = gameService.setPirateTreasure("A001");
+        game.openTreasure(treasures[1]);
+        int start = gameService.initPirateRandomStart("A001");
+        game.getPirateBelief().reset(start, true);
+        for (int move = 0; move < 2; move++) {
+            int next = gameService.selectRandomNode(
+                    gameService.findPirateAvailableNode("A001", game.getCurrentPosition()[0]).keySet());
+            gameService.move("A001", next, 0);
+            game.getPirateBelief().onPirateMove(board.getGraph(), game.getMarineNodes());
+        }
+        game.getInvestigate().open(new int[] {start, 1, 2});
+        game.getInvestigate().markInvestigated(1);
+        game.setTurn(3);
+        game.setFallbackMove(new FallbackMove(GameRole.MARINE_ONE,
+                gameService.findMarineAvailableNode("A001", game.getCurrentPosition()[1])));
+        return game;
+    }
+}
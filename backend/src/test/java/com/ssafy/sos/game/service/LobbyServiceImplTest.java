@@ -0,0 +1,78 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.message.server.LobbyMessage;
+import com.ssafy.sos.game.message.server.RoomPage;
+import com.ssafy.sos.game.message.server.RoomSummary;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.util.GameMode;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LobbyServiceImplTest {
+    private final SimpMessageSendingOperations sendingOperations = mock(SimpMessageSendingOperations.class);
+    private final LobbyServiceImpl lobbyService =
+            new LobbyServiceImpl(sendingOperations, new GameMetrics(new CompositeMeterRegistry()));
+
+    @Test
+    void 모드별로_cursor_다음부터_페이지_단위로_조회한다() {
+        for (int i = 0; i < 25; i++) {
+            lobbyService.update(room(String.format("A%03d", i), GameMode.ONE_VS_THREE, 1));
+        }
+        lobbyService.update(room("B000", GameMode.ONE_VS_ONE, 1));
+
+        List<String> gameIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            RoomPage page = lobbyService.list(GameMode.ONE_VS_THREE, cursor, 10);
+            page.getRooms().forEach(room -> gameIds.add(room.getGameId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(gameIds).hasSize(25).isSorted().doesNotContain("B000");
+        assertThat(lobbyService.list(null, null, 100).getRooms()).hasSize(26);
+    }
+
+    @Test
+    void 정원이_차거나_비공개면_목록에서_빠지고_변경분만_알린다() {
+        Room room = room("A001", GameMode.ONE_VS_ONE, 1);
+        lobbyService.update(room);
+        room.getInRoomPlayers().add(Player.builder().nickname("guest").build());
+        lobbyService.update(room);
+        lobbyService.update(room("A002", GameMode.ONE_VS_ONE, 1, false));
+
+        assertThat(lobbyService.list(null, null, 10).getRooms()).extracting(RoomSummary::getGameId).isEmpty();
+
+        ArgumentCaptor<LobbyMessage> captor = ArgumentCaptor.forClass(LobbyMessage.class);
+        verify(sendingOperations, times(2)).convertAndSend(eq(LobbyServiceImpl.DESTINATION), captor.capture());
+        assertThat(captor.getAllValues()).extracting(LobbyMessage::getMessage)
+                .containsExactly("ROOM_OPENED", "ROOM_CLOSED");
+        assertThat(captor.getAllValues()).extracting(LobbyMessage::getVersion).containsExactly(1L, 2L);
+    }
+
+    private static Room room(String gameId, GameMode gameMode, int players) {
+        return room(gameId, gameMode, players, true);
+    }
+
+    private static Room room(String gameId, GameMode gameMode, int players, boolean listed) {
+        Room room = new Room(gameId);
+        room.setGameMode(gameMode);
+        room.setListed(listed);
+        for (int i = 0; i < players; i++) {
+            Player player = Player.builder().nickname(gameId + "-" + i).build();
+            if (i == 0) room.setHost(player);
+            room.getInRoomPlayers().add(player);
+        }
+        return room;
+    }
+}
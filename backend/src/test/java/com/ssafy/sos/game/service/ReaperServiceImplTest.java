@@ -0,0 +1,87 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.util.GameStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReaperServiceImplTest {
+    private static final long MINUTE = 60_000;
+
+    private final Board board = new Board();
+    private final GameService gameService = mock(GameService.class);
+    private final GameTimerService gameTimerService = mock(GameTimerService.class);
+    private final LobbyService lobbyService = mock(LobbyService.class);
+    private final GameEventLogService gameEventLogService = mock(GameEventLogService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReaperServiceImpl reaperService = new ReaperServiceImpl(board, gameService, gameTimerService,
+            lobbyService, mock(ReconnectService.class), gameEventLogService, mock(GameSnapshotService.class),
+            mock(SimpMessageSendingOperations.class), new GameMetrics(meterRegistry),
+            30 * MINUTE, 5 * MINUTE, 60 * MINUTE, MINUTE);
+
+    @Test
+    void 오래_방치된_방과_시작_전_게임만_정리한다() {
+        long now = System.currentTimeMillis();
+        board.getRoomMap().put("A001", new Room("A001"));
+        board.getRoomMap().put("A002", new Room("A002"));
+        Game stuck = new Game("A002");
+        board.getGameMap().put("A002", stuck);
+        Game playing = new Game("A003");
+        playing.setGameStatus(GameStatus.IN_GAME);
+        board.getGameMap().put("A003", playing);
+        board.getSessions().bind("s1", "host", "A002");
+
+        // 방 30분 미만, 시작 전 게임 5분 이상, 진행 중 게임 1시간 미만
+        int reaped = reaperService.reap(now + 10 * MINUTE);
+
+        assertThat(reaped).isEqualTo(1);
+        assertThat(board.getRoomMap()).containsOnlyKeys("A001");
+        assertThat(board.getGameMap()).containsOnlyKeys("A003");
+        assertThat(board.getSessions().get("s1").isBound()).isFalse();
+        verify(gameTimerService).cancelTimer("A002");
+        verify(lobbyService).remove("A002");
+        verify(gameService).releaseRoom("A002");
+        verify(gameEventLogService, never()).close(anyString());
+
+        reaperService.reap(now + 61 * MINUTE);
+        assertThat(board.getRoomMap()).isEmpty();
+        assertThat(board.getGameMap()).isEmpty();
+        verify(gameEventLogService).close("A003");
+        assertThat(meterRegistry.get(GameMetrics.REAPED).tag("kind", "game").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 연결이_끊긴_세션은_유예_시간_후_정리한다() {
+        board.getSessions().bind("s1", "guest", "A001");
+        board.getSessions().connect("s2", null);
+        reaperService.handleDisconnectEvent(disconnect("s1"));
+        long now = System.currentTimeMillis();
+
+        reaperService.reap(now);
+        assertThat(board.getSessions().size()).isEqualTo(2);
+
+        reaperService.reap(now + 2 * MINUTE);
+        assertThat(board.getSessions().get("s1")).isNull();
+        assertThat(board.getSessions().size()).isEqualTo(1);
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ssafy.sos.game.service;
+
+import com.ssafy.sos.game.domain.ResumeTicket;
+import com.ssafy.sos.game.event.ReconnectTimeoutEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReconnectServiceImplTest {
+    private static final long GRACE_MILLIS = 100;
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ReconnectServiceImpl reconnectService = new ReconnectServiceImpl(eventPublisher, GRACE_MILLIS);
+
+    @AfterEach
+    void tearDown() {
+        reconnectService.shutdown();
+    }
+
+    @Test
+    void 토큰은_한_번만_사용할_수_있다() {
+        String token = reconnectService.issueToken("A001", "m1", "s1");
+
+        ResumeTicket ticket = reconnectService.resume(token);
+
+        assertThat(ticket.getGameId()).isEqualTo("A001");
+        assertThat(ticket.getNickname()).isEqualTo("m1");
+        assertThat(ticket.getSessionId()).isEqualTo("s1");
+        assertThat(reconnectService.resume(token)).isNull();
+        assertThat(reconnectService.resume(null)).isNull();
+    }
+
+    @Test
+    void 새로_발급하면_이전_토큰은_무효가_된다() {
+        String first = reconnectService.issueToken("A001", "m1", "s1");
+        String second = reconnectService.issueToken("A001", "m1", "s2");
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(reconnectService.resume(first)).isNull();
+        assertThat(reconnectService.resume(second).getSessionId()).isEqualTo("s2");
+    }
+
+    @Test
+    void 유예_시간이_지나면_재접속_만료_이벤트가_발생한다() {
+        reconnectService.issueToken("A001", "m1", "s1");
+        reconnectService.startGrace("A001", "m1");
+
+        ArgumentCaptor<ReconnectTimeoutEvent> captor = ArgumentCaptor.forClass(ReconnectTimeoutEvent.class);
+        verify(eventPublisher, timeout(2_000)).publishEvent(captor.capture());
+        assertThat(captor.getValue().getGameId()).isEqualTo("A001");
+        assertThat(captor.getValue().getNickname()).isEqualTo("m1");
+    }
+
+    @Test
+    void 유예_시간_안에_돌아오면_만료되지_않는다() throws InterruptedException {
+        String token = reconnectService.issueToken("A001", "m1", "s1");
+        reconnectService.startGrace("A001", "m1");
+
+        assertThat(reconnectService.resume(token)).isNotNull();
+
+        Thread.sleep(GRACE_MILLIS * 3);
+        verify(eventPublisher, never()).publishEvent(any(ReconnectTimeoutEvent.class));
+    }
+
+    @Test
+    void 게임이_끝나면_토큰과_유예_타이머를_정리한다() throws InterruptedException {
+        String token = reconnectService.issueToken("A001", "m1", "s1");
+        String other = reconnectService.issueToken("A002", "m1", "s2");
+        reconnectService.startGrace("A001", "m1");
+
+        reconnectService.clear("A001");
+
+        assertThat(reconnectService.tokensOf("A001")).isEmpty();
+        assertThat(reconnectService.resume(token)).isNull();
+        Thread.sleep(GRACE_MILLIS * 3);
+        verify(eventPublisher, never()).publishEvent(any(ReconnectTimeoutEvent.class));
+        assertThat(reconnectService.resume(other)).isNotNull();
+    }
+
+    @Test
+    void 스냅샷에서_복구한_토큰으로_다시_참가할_수_있다() {
+        String token = reconnectService.issueToken("A001", "m1", "s1");
+        ReconnectServiceImpl restarted = new ReconnectServiceImpl(eventPublisher, GRACE_MILLIS);
+
+        restarted.restoreToken("A001", "m1", reconnectService.tokensOf("A001").get("m1"));
+
+        ResumeTicket ticket = restarted.resume(token);
+        assertThat(ticket.getNickname()).isEqualTo("m1");
+        assertThat(ticket.getSessionId()).isNull();
+    }
+}
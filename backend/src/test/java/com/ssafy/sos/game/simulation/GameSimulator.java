@@ -0,0 +1,380 @@
+package com.ssafy.sos.game.simulation;
+
+import com.ssafy.sos.game.SessionCloser;
+import com.ssafy.sos.game.bot.BotOrder;
+import com.ssafy.sos.game.controller.MessageController;
+import com.ssafy.sos.game.domain.Board;
+import com.ssafy.sos.game.domain.Game;
+import com.ssafy.sos.game.domain.Player;
+import com.ssafy.sos.game.domain.ResumeTicket;
+import com.ssafy.sos.game.domain.Room;
+import com.ssafy.sos.game.event.TimerTimeoutEvent;
+import com.ssafy.sos.game.message.client.ClientInitMessage;
+import com.ssafy.sos.game.message.client.ClientMessage;
+import com.ssafy.sos.game.message.client.ClientMoveMessage;
+import com.ssafy.sos.game.message.server.ServerArrestMessage;
+import com.ssafy.sos.game.message.server.ServerMessage;
+import com.ssafy.sos.game.message.server.RoomPage;
+import com.ssafy.sos.game.message.server.ServerMoveMessage;
+import com.ssafy.sos.game.metric.GameMetrics;
+import com.ssafy.sos.game.domain.log.GameEvent;
+import com.ssafy.sos.game.service.BotService;
+import com.ssafy.sos.game.service.GameEventLogService;
+import com.ssafy.sos.game.service.GameServiceImpl;
+import com.ssafy.sos.game.service.GameSnapshotService;
+import com.ssafy.sos.game.service.LobbyService;
+import com.ssafy.sos.game.service.ReconnectService;
+import com.ssafy.sos.game.service.SpectatorService;
+import com.ssafy.sos.game.util.GameEventType;
+import com.ssafy.sos.game.util.GameMode;
+import com.ssafy.sos.game.util.GameRole;
+import com.ssafy.sos.game.util.RoomCodeAllocator;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+// 실제 게임 규칙(GameServiceImpl, MessageController)을 그대로 사용하면서
+// 타이머는 가상 시계로, 소켓은 메모리 전달로 바꿔 게임 전체를 한 스레드에서 진행시키는 시뮬레이터
+// 같은 seed 면 항상 같은 결과가 나오므로 회귀 테스트와 규칙 엔진 처리량 측정에 사용
+@Slf4j
+public class GameSimulator {
+    private static final String DESTINATION_PREFIX = "/sub/";
+
+    private final SimulationConfig config;
+    private final Random clientRandom;
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final Board board = new Board();
+    private final MessageController messageController;
+
+    // 게임 아이디 : 결과 메시지
+    private final Map<String, String> finishedGames = new HashMap<>();
+    private final Map<String, Integer> outcomes = new TreeMap<>();
+    private long messagesSent;
+    private long failures;
+
+    public GameSimulator(SimulationConfig config) {
+        this.config = config;
+        this.clientRandom = new Random(config.getSeed() * 31 + 1);
+
+        // 규칙 엔진 자체의 처리량을 보기 위해 하위 레지스트리가 없는(no-op) 레지스트리 사용
+        GameMetrics gameMetrics = new GameMetrics(new CompositeMeterRegistry());
+        VirtualGameTimerService timerService = new VirtualGameTimerService(scheduler,
+                event -> listenTimeout((TimerTimeoutEvent) event));
+        GameServiceImpl gameService = new GameServiceImpl(null, null, timerService, board, gameMetrics,
+                new RoomCodeAllocator(1, 3), new Random(config.getSeed()));
+        this.messageController = new MessageController(new SimulationMessagingTemplate(this::onServerMessage),
+                board, gameService, timerService, gameMetrics, new NoSnapshot(), new NoEventLog(),
+                new NoSpectator(), new NoReconnect(), new NoBot(), new NoLobby(),
+                new SessionCloser((message, timeout) -> true));
+    }
+
+    public SimulationResult run() {
+        long start = System.nanoTime();
+        for (int i = 0; i < config.getGames(); i++) {
+            String gameId = String.format("S%05d", i);
+            scheduler.schedule(i * config.getStartIntervalMillis(), () -> startGame(gameId));
+        }
+        scheduler.runUntilIdle(Long.MAX_VALUE);
+
+        return SimulationResult.builder()
+                .gamesStarted(config.getGames())
+                .gamesFinished(finishedGames.size())
+                .outcomes(outcomes)
+                .virtualMillis(scheduler.now())
+                .wallNanos(System.nanoTime() - start)
+                .eventsProcessed(scheduler.getExecutedCount())
+                .messagesSent(messagesSent)
+                .failures(failures)
+                .build();
+    }
+
+    public Map<String, String> getFinishedGames() {
+        return finishedGames;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    // 방 생성 ~ 렌더 완료 ~ 게임 시작까지 클라이언트 요청을 순서대로 재현
+    private void startGame(String gameId) {
+        Room room = new Room(gameId);
+        room.setGameMode(config.getGameMode());
+        for (int i = 0; i < config.getGameMode().playerLimit(); i++) {
+            room.getInRoomPlayers().add(Player.builder().nickname(gameId + "-" + i).build());
+        }
+        room.setHost(room.getInRoomPlayers().get(0));
+        board.getRoomMap().put(gameId, room);
+
+        String sessionId = sessionIdOf(gameId);
+        board.getSessions().connect(sessionId, null);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(sessionId);
+
+        for (Player player : room.getInRoomPlayers()) {
+            ClientMessage rendered = new ClientMessage();
+            rendered.setGameId(gameId);
+            rendered.setSender(player.getNickname());
+            rendered.setMessage("RENDERED_COMPLETE");
+            messageController.manageRoom(rendered, accessor);
+        }
+
+        ClientInitMessage startGame = new ClientInitMessage();
+        startGame.setGameId(gameId);
+        startGame.setSender(room.getHost().getNickname());
+        startGame.setMessage("START_GAME");
+        messageController.init(startGame, accessor);
+    }
+
+    private void listenTimeout(TimerTimeoutEvent event) {
+        dispatch(event.getGameId(), event.getMessage(), () -> messageController.listenTimeout(event));
+    }
+
+    // 실제 스케줄러, 인바운드 채널처럼 예외가 나도 다른 게임은 계속 진행
+    private void dispatch(String gameId, String message, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            failures++;
+            log.warn("simulation failed: {} {}", gameId, message, e);
+        }
+    }
+
+    // 서버 -> 클라이언트 메시지 수신
+    private void onServerMessage(String destination, Object payload) {
+        messagesSent++;
+        if (!destination.startsWith(DESTINATION_PREFIX)) return;
+        String gameId = destination.substring(DESTINATION_PREFIX.length());
+
+        String message;
+        Game game;
+        if (payload instanceof ServerMessage serverMessage) {
+            message = serverMessage.getMessage();
+            game = serverMessage.getGame();
+        } else if (payload instanceof ServerMoveMessage moveMessage) {
+            message = moveMessage.getMessage();
+            game = moveMessage.getGame();
+        } else if (payload instanceof ServerArrestMessage arrestMessage) {
+            message = arrestMessage.getMessage();
+            game = arrestMessage.getGame();
+        } else {
+            return;
+        }
+
+        if (message.startsWith("GAME_OVER")) {
+            finishedGames.put(gameId, message);
+            outcomes.merge(message, 1, Integer::sum);
+            board.getSessions().remove(sessionIdOf(gameId));
+        } else if (message.startsWith("ORDER_")) {
+            onOrder(gameId, message.substring("ORDER_".length()), game, payload);
+        }
+    }
+
+    // 명령을 받은 시점의 상태로 응답을 정하고, 생각하는 시간만큼 뒤에 전송
+    private void onOrder(String gameId, String order, Game game, Object payload) {
+        GameRole role = roleOf(order);
+        if (role == null || clientRandom.nextDouble() < config.getTimeoutRate()) return;
+
+        Runnable response;
+        if (order.startsWith("INIT_")) {
+            int node = role == GameRole.PIRATE ? pick(game.getTreasures().keySet()) : pickMarineStart(game);
+            response = () -> messageController.init(initMessage(gameId, order, node), null);
+        } else if (order.startsWith("MOVE_")) {
+            int node = pick(((ServerMoveMessage) payload).getAvailableNode().keySet());
+            response = () -> messageController.marine(moveMessage(gameId, order, node, null));
+        } else if (order.startsWith("SELECT_WORK_")) {
+            String action = clientRandom.nextDouble() < config.getArrestRate() ? "ARREST" : "INVESTIGATE";
+            response = () -> messageController.marine(moveMessage(gameId, order, 0, action));
+        } else if (order.startsWith("INVESTIGATE_")) {
+            List<Integer> remaining = new ArrayList<>();
+            game.getInvestigate().getNodes().forEach((node, investigated) -> {
+                if (!investigated) remaining.add(node);
+            });
+            int node = pick(remaining);
+            response = () -> messageController.marine(moveMessage(gameId, order, node, null));
+        } else if (order.startsWith("ARREST_")) {
+            int[] arrestableNode = ((ServerArrestMessage) payload).getArrestableNode();
+            int node = arrestableNode.length == 0 ? 0 : arrestableNode[clientRandom.nextInt(arrestableNode.length)];
+            response = () -> messageController.marine(moveMessage(gameId, order, node, null));
+        } else {
+            return;
+        }
+
+        long thinkMillis = config.getMinThinkMillis()
+                + (long) (clientRandom.nextDouble() * (config.getMaxThinkMillis() - config.getMinThinkMillis()));
+        scheduler.schedule(thinkMillis, () -> {
+            // 응답 전에 게임이 끝났다면 전송하지 않음
+            if (board.getGameMap().containsKey(gameId)) {
+                dispatch(gameId, order, response);
+            }
+        });
+    }
+
+    private int pickMarineStart(Game game) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int node : board.mapOf(game).getMarineStartList()) {
+            boolean taken = false;
+            for (int role = 1; role < 4; role++) {
+                taken |= game.getCurrentPosition()[role] == node;
+            }
+            if (!taken) candidates.add(node);
+        }
+        return pick(candidates);
+    }
+
+    // HashMap 순서에 의존하지 않도록 정렬 후 선택
+    private int pick(Collection<Integer> nodes) {
+        if (nodes.isEmpty()) return 0;
+        List<Integer> sorted = new ArrayList<>(nodes);
+        Collections.sort(sorted);
+        return sorted.get(clientRandom.nextInt(sorted.size()));
+    }
+
+    private static GameRole roleOf(String order) {
+        // MARINE_THREE 등이 PIRATE 보다 먼저 매칭되도록 뒤에서부터 검사
+        GameRole[] roles = GameRole.values();
+        for (int i = roles.length - 1; i >= 0; i--) {
+            if (order.contains(roles[i].name())) return roles[i];
+        }
+        return null;
+    }
+
+    // 시뮬레이션은 스냅샷을 저장하지 않음
+    private static class NoSnapshot implements GameSnapshotService {
+        @Override
+        public void markDirty(String gameId) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public int restore() {
+            return 0;
+        }
+    }
+
+    // 시뮬레이션은 이벤트 로그 파일을 남기지 않음
+    private static class NoEventLog implements GameEventLogService {
+        @Override
+        public void open(Game game) {
+        }
+
+        @Override
+        public void append(Game game, GameEventType type, int role, int node) {
+        }
+
+        @Override
+        public void close(String gameId) {
+        }
+
+        @Override
+        public long checkpoint(Game game) {
+            return -1;
+        }
+
+        @Override
+        public void resume(Game game, long length) {
+        }
+
+        @Override
+        public boolean exists(String logId) {
+            return false;
+        }
+
+        @Override
+        public void read(String logId, Consumer<GameEvent> consumer) {
+        }
+    }
+
+    // 시뮬레이션에는 관전자가 없음
+    private static class NoSpectator implements SpectatorService {
+        @Override
+        public void publish(String gameId, String message, Game game) {
+        }
+
+        @Override
+        public int getSpectatorCount(String gameId) {
+            return 0;
+        }
+    }
+
+    // 시뮬레이션에서는 연결이 끊기지 않음
+    private static class NoReconnect implements ReconnectService {
+        @Override
+        public String issueToken(String gameId, String nickname, String sessionId) {
+            return null;
+        }
+
+        @Override
+        public void startGrace(String gameId, String nickname) {
+        }
+
+        @Override
+        public ResumeTicket resume(String token) {
+            return null;
+        }
+
+        @Override
+        public void clear(String gameId) {
+        }
+
+        @Override
+        public Map<String, String> tokensOf(String gameId) {
+            return Map.of();
+        }
+
+        @Override
+        public void restoreToken(String gameId, String nickname, String token) {
+        }
+    }
+
+    // 시뮬레이션의 플레이어는 모두 가상 클라이언트가 응답
+    private static class NoBot implements BotService {
+        @Override
+        public void onOrder(String gameId, Game game, GameRole role, BotOrder order, int[] candidates) {
+        }
+    }
+
+    // 시뮬레이션 방은 목록에 공개하지 않음
+    private static class NoLobby implements LobbyService {
+        @Override
+        public void update(Room room) {
+        }
+
+        @Override
+        public void remove(String gameId) {
+        }
+
+        @Override
+        public RoomPage list(GameMode gameMode, String cursor, int size) {
+            return RoomPage.builder().rooms(List.of()).build();
+        }
+    }
+
+    private static String sessionIdOf(String gameId) {
+        return "simulation-" + gameId;
+    }
+
+    private static ClientInitMessage initMessage(String gameId, String message, int node) {
+        ClientInitMessage initMessage = new ClientInitMessage();
+        initMessage.setGameId(gameId);
+        initMessage.setMessage(message);
+        initMessage.setNode(node);
+        return initMessage;
+    }
+
+    private static ClientMoveMessage moveMessage(String gameId, String message, int node, String action) {
+        ClientMoveMessage moveMessage = new ClientMoveMessage();
+        moveMessage.setGameId(gameId);
+        moveMessage.setMessage(message);
+        moveMessage.setNode(node);
+        moveMessage.setAction(action);
+        return moveMessage;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.sos.game.simulation;
+
+import com.ssafy.sos.game.util.GameMode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSimulatorTest {
+
+    @Test
+    void 모든_게임이_끝까지_진행된다() {
+        GameSimulator simulator = new GameSimulator(SimulationConfig.builder().games(200).seed(7).build());
+        SimulationResult result = simulator.run();
+        System.out.println(result);
+
+        assertThat(result.getGamesFinished()).isEqualTo(200);
+        assertThat(result.getFailures()).isZero();
+        assertThat(simulator.getBoard().getGameMap()).isEmpty();
+        assertThat(simulator.getBoard().getRoomMap()).isEmpty();
+    }
+
+    @Test
+    void 같은_seed_면_같은_결과가_나온다() {
+        SimulationConfig config = SimulationConfig.builder().games(100).seed(11).timeoutRate(0.2).build();
+
+        GameSimulator first = new GameSimulator(config);
+        first.run();
+        GameSimulator second = new GameSimulator(config);
+        second.run();
+
+        assertThat(second.getFinishedGames()).isEqualTo(first.getFinishedGames());
+    }
+
+    @Test
+    void 일대일_모드도_진행된다() {
+        SimulationResult result = new GameSimulator(SimulationConfig.builder()
+                .games(50).gameMode(GameMode.ONE_VS_ONE).build()).run();
+
+        assertThat(result.getGamesFinished()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.sos.game.simulation;
+
+import com.ssafy.sos.game.util.GameMode;
+import lombok.Builder;
+import lombok.Getter;
+
+// 시뮬레이션 설정 (시간 단위는 모두 가상 시간 ms)
+@Getter
+@Builder
+public class SimulationConfig {
+    @Builder.Default
+    private int games = 100;
+    @Builder.Default
+    private long seed = 42L;
+    @Builder.Default
+    private GameMode gameMode = GameMode.ONE_VS_THREE;
+    // 게임 시작 간격
+    @Builder.Default
+    private long startIntervalMillis = 100;
+    // 플레이어 응답 시간 범위 (응답 제한시간 15초보다 짧아야 함)
+    @Builder.Default
+    private long minThinkMillis = 500;
+    @Builder.Default
+    private long maxThinkMillis = 5_000;
+    // 응답하지 않고 서버 타임아웃 처리에 맡기는 비율
+    @Builder.Default
+    private double timeoutRate = 0.05;
+    // 해군이 행동 선택에서 체포를 고르는 비율
+    @Builder.Default
+    private double arrestRate = 0.1;
+}
@@ -0,0 +1,30 @@
+package com.ssafy.sos.game.simulation;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.core.MessagePostProcessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// 브로커로 보내지 않고 (목적지, payload 객체)를 그대로 시뮬레이터에 전달
+public class SimulationMessagingTemplate extends SimpMessagingTemplate {
+    private final BiConsumer<String, Object> listener;
+
+    public SimulationMessagingTemplate(BiConsumer<String, Object> listener) {
+        super((message, timeout) -> true);
+        this.listener = listener;
+    }
+
+    @Override
+    public void convertAndSend(String destination, Object payload, @Nullable Map<String, Object> headers,
+                               @Nullable MessagePostProcessor postProcessor) {
+        listener.accept(destination, payload);
+    }
+
+    @Override
+    protected void doSend(String destination, Message<?> message) {
+        listener.accept(destination, message.getPayload());
+    }
+}
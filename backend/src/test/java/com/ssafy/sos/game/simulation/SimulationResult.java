@@ -0,0 +1,32 @@
+package com.ssafy.sos.game.simulation;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class SimulationResult {
+    private int gamesStarted;
+    private int gamesFinished;
+    // GAME_OVER_ 메시지 : 횟수
+    private Map<String, Integer> outcomes;
+    private long virtualMillis;
+    private long wallNanos;
+    private long eventsProcessed;
+    private long messagesSent;
+    // 핸들러에서 예외가 발생한 횟수
+    private long failures;
+
+    public double gamesPerSecond() {
+        return wallNanos == 0 ? 0 : gamesFinished / (wallNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games: %d/%d finished, virtual %.1fh, wall %.1fms (%.0f games/s), events %d, messages %d, failures %d, outcomes %s",
+                gamesFinished, gamesStarted, virtualMillis / 3_600_000.0, wallNanos / 1_000_000.0,
+                gamesPerSecond(), eventsProcessed, messagesSent, failures, outcomes);
+    }
+}
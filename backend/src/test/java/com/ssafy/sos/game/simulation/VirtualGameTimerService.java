@@ -0,0 +1,90 @@
+package com.ssafy.sos.game.simulation;
+
+import com.ssafy.sos.game.event.TimerTimeoutEvent;
+import com.ssafy.sos.game.service.GameTimerService;
+import com.ssafy.sos.game.util.PendingTimer;
+import com.ssafy.sos.game.util.TimerType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// GameTimerServiceImpl 과 같은 동작을 가상 시계 위에서 수행
+@RequiredArgsConstructor
+public class VirtualGameTimerService implements GameTimerService {
+    private final VirtualScheduler scheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, VirtualScheduler.Task> futures = new HashMap<>();
+    private final Map<String, PendingTimer> pendingTimers = new HashMap<>();
+
+    private void schedule(String gameId, String message, TimerType timerType) {
+        schedule(gameId, message, timerType.getDelayMillis());
+    }
+
+    private void schedule(String gameId, String message, long delay) {
+        PendingTimer pendingTimer = new PendingTimer(message, scheduler.now() + delay);
+        VirtualScheduler.Task task = scheduler.schedule(delay, () -> {
+            pendingTimers.remove(gameId, pendingTimer);
+            eventPublisher.publishEvent(new TimerTimeoutEvent(this, gameId, message));
+        });
+        pendingTimers.put(gameId, pendingTimer);
+        futures.put(gameId, task);
+    }
+
+    @Override
+    public void startResponseWaitingTimer(String gameId, String message) {
+        schedule(gameId, message, TimerType.RESPONSE_WAITING);
+    }
+
+    @Override
+    public void startRenderWaitingTimer(String gameId, String message) {
+        schedule(gameId, message, TimerType.RENDER_WAITING);
+    }
+
+    @Override
+    public void afterMatchingTimer(String gameId, String message) {
+        schedule(gameId, message, TimerType.AFTER_MATCHING);
+    }
+
+    @Override
+    public void beforePrepareGameStart(String gameId, String message) {
+        schedule(gameId, message, TimerType.BEFORE_PREPARE_GAME_START);
+    }
+
+    @Override
+    public void afterInitTimer(String gameId, String message) {
+        schedule(gameId, message, TimerType.AFTER_INIT);
+    }
+
+    @Override
+    public void afterSelectTimer(String gameId, String message) {
+        schedule(gameId, message, TimerType.AFTER_SELECT);
+    }
+
+    @Override
+    public void cancelTimer(String gameId) {
+        pendingTimers.remove(gameId);
+        VirtualScheduler.Task task = futures.remove(gameId);
+        if (task != null && !task.isDone()) {
+            task.cancel();
+        }
+    }
+
+    @Override
+    public PendingTimer getPendingTimer(String gameId) {
+        return pendingTimers.get(gameId);
+    }
+
+    @Override
+    public void restoreTimer(String gameId, String message, long delayMillis) {
+        schedule(gameId, message, Math.max(delayMillis, 0));
+    }
+
+    @Override
+    public int purgeCompleted() {
+        int before = futures.size();
+        futures.values().removeIf(VirtualScheduler.Task::isDone);
+        return before - futures.size();
+    }
+}
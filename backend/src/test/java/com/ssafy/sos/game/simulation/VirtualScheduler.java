@@ -0,0 +1,69 @@
+package com.ssafy.sos.game.simulation;
+
+import java.util.PriorityQueue;
+
+// 가상 시계 기반 이벤트 큐 (실제로 기다리지 않고 예약 시각 순서대로 실행)
+public class VirtualScheduler {
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+    private long executedCount;
+
+    public long now() {
+        return now;
+    }
+
+    public long getExecutedCount() {
+        return executedCount;
+    }
+
+    public Task schedule(long delayMillis, Runnable action) {
+        Task task = new Task(now + delayMillis, sequence++, action);
+        queue.add(task);
+        return task;
+    }
+
+    // 큐가 빌 때까지 (또는 제한 시각까지) 이벤트 실행
+    public void runUntilIdle(long maxVirtualMillis) {
+        while (!queue.isEmpty()) {
+            Task task = queue.poll();
+            if (task.cancelled) continue;
+            if (task.time > maxVirtualMillis) {
+                queue.add(task);
+                return;
+            }
+            now = task.time;
+            task.done = true;
+            executedCount++;
+            task.action.run();
+        }
+    }
+
+    public static class Task implements Comparable<Task> {
+        private final long time;
+        private final long sequence;
+        private final Runnable action;
+        private boolean cancelled;
+        private boolean done;
+
+        private Task(long time, long sequence, Runnable action) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
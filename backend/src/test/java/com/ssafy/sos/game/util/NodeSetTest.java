@@ -0,0 +1,57 @@
+package com.ssafy.sos.game.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodeSetTest {
+
+    @Test
+    void 워드_경계를_넘는_노드도_순서대로_다룬다() {
+        NodeSet set = new NodeSet();
+        for (int node : new int[] {0, 63, 64, 127, 128, NodeSet.NODE_COUNT - 1}) {
+            set.add(node);
+        }
+        set.add(64);
+        set.remove(127);
+
+        assertThat(set.size()).isEqualTo(5);
+        assertThat(set.toArray()).containsExactly(0, 63, 64, 128, NodeSet.NODE_COUNT - 1);
+        assertThat(set.nextNode(65)).isEqualTo(128);
+        assertThat(set.nextNode(NodeSet.NODE_COUNT)).isEqualTo(-1);
+        assertThat(set.contains(127)).isFalse();
+    }
+
+    @Test
+    void 범위_밖_노드는_추가하지_않고_없는_노드로_취급한다() {
+        NodeSet set = new NodeSet();
+
+        assertThatThrownBy(() -> set.add(NodeSet.NODE_COUNT)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.add(1000)).isInstanceOf(IllegalArgumentException.class);
+        set.remove(1000);
+
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(NodeSet.NODE_COUNT)).isFalse();
+        assertThat(set.contains(-1)).isFalse();
+    }
+
+    @Test
+    void 교집합과_합집합() {
+        NodeSet a = new NodeSet();
+        NodeSet b = new NodeSet();
+        a.add(1);
+        a.add(200);
+        b.add(200);
+        b.add(300);
+
+        NodeSet union = new NodeSet();
+        union.copyFrom(a);
+        union.addAll(b);
+        a.retainAll(b);
+
+        assertThat(a.toArray()).containsExactly(200);
+        assertThat(union.toArray()).containsExactly(1, 200, 300);
+    }
+}
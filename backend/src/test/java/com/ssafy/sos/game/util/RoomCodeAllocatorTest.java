@@ -0,0 +1,40 @@
+package com.ssafy.sos.game.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomCodeAllocatorTest {
+
+    @Test
+    void 모든_방_번호를_중복없이_할당하고_다_쓰면_예외() {
+        RoomCodeAllocator allocator = new RoomCodeAllocator(1, 3, new Random(7));
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < allocator.getCapacity(); i++) {
+            codes.add(allocator.allocate());
+        }
+
+        assertThat(codes).hasSize(26 * 1000).allMatch(code -> code.matches("[A-Z][0-9]{3}"));
+        assertThatThrownBy(allocator::allocate).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 반납된_번호는_재사용하고_예약된_번호는_건너뛴다() {
+        RoomCodeAllocator allocator = new RoomCodeAllocator(1, 1, new Random(7));
+        allocator.reserve("C5");
+        for (int i = 0; i < allocator.getCapacity() - 1; i++) {
+            assertThat(allocator.allocate()).isNotEqualTo("C5");
+        }
+
+        allocator.release("B3");
+        allocator.release("C5");
+        assertThat(allocator.allocate()).isEqualTo("B3");
+        assertThat(allocator.allocate()).isEqualTo("C5");
+        assertThat(allocator.getInUseCount()).isEqualTo(allocator.getCapacity());
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.sos.game.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticPayloadTest {
+    private final StaticPayload payload = new StaticPayload("{\"nodes\":[1,2,3]}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void 압축_여부마다_다른_ETag_를_쓴다() {
+        String identity = payload.getETag(false);
+        String gzip = payload.getETag(true);
+
+        assertThat(identity).isEqualTo("\"" + payload.getVersion() + "\"");
+        assertThat(gzip).isNotEqualTo(identity);
+    }
+
+    @Test
+    void 보낼_본문의_ETag_와_같을_때만_304() {
+        assertThat(payload.matches(payload.getETag(true), true)).isTrue();
+        assertThat(payload.matches(payload.getETag(false), false)).isTrue();
+        assertThat(payload.matches(payload.getETag(false), true)).isFalse();
+        assertThat(payload.matches(payload.getETag(true), false)).isFalse();
+        assertThat(payload.matches("\"other\", " + payload.getETag(true), true)).isTrue();
+        assertThat(payload.matches("*", false)).isTrue();
+        assertThat(payload.matches(null, false)).isFalse();
+    }
+}
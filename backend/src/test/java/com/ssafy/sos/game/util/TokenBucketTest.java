@@ -0,0 +1,42 @@
+package com.ssafy.sos.game.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void 용량만큼_몰아서_보내면_이후에는_거절한다() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isFalse();
+    }
+
+    @Test
+    void 시간이_지나면_초당_refill_만큼_다시_채워진다() {
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        // 0.25초 : 0.5개
+        assertThat(bucket.tryAcquire(SECOND / 4)).isFalse();
+        // 0.5초 : 1개
+        assertThat(bucket.tryAcquire(SECOND / 2)).isTrue();
+        assertThat(bucket.tryAcquire(SECOND / 2)).isFalse();
+    }
+
+    @Test
+    void 오래_쉬어도_용량보다_많이_채워지지_않는다() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        long later = 60 * SECOND;
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+    }
+}
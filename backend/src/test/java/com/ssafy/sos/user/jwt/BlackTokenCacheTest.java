@@ -0,0 +1,109 @@
+package com.ssafy.sos.user.jwt;
+
+import com.ssafy.sos.user.repository.BlackTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class BlackTokenCacheTest {
+    private final JWTUtil jwtUtil = new JWTUtil(Base64.getEncoder().encodeToString(new byte[32]), 10);
+    private final BlackTokenRepository blackTokenRepository = mock(BlackTokenRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final BlackTokenCache cache = new BlackTokenCache(blackTokenRepository, redisTemplate, jwtUtil, 100);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void 시작_전에는_redis_에_묻고_불러온_뒤에는_없는_토큰을_바로_통과시킨다() {
+        String blacked = refresh("old");
+        String fresh = refresh("new");
+        when(blackTokenRepository.findAll()).thenReturn(List.of(new BlackToken(blacked, true, 600000L)));
+
+        assertThat(cache.mightBeBlacked(fresh)).isTrue();
+
+        cache.warmUp();
+        assertThat(cache.mightBeBlacked(blacked)).isTrue();
+        assertThat(cache.mightBeBlacked(fresh)).isFalse();
+
+        when(valueOperations.increment(BlackTokenCache.SEQUENCE_KEY)).thenReturn(1L);
+        cache.add(fresh, 600000L);
+        assertThat(cache.mightBeBlacked(fresh)).isTrue();
+        verify(redisTemplate).convertAndSend(eq(BlackTokenCache.CHANNEL), and(
+                startsWith(JWTUtil.hash(fresh) + " "), endsWith(" 1")));
+    }
+
+    @Test
+    void 다른_서버의_알림을_반영하고_순번이_건너뛰면_redis_에_묻는다() {
+        String other = refresh("other");
+        String missed = refresh("missed");
+        String next = refresh("next");
+        String unrelated = refresh("unrelated");
+        cache.warmUp();
+
+        publish(other, 1);
+        assertThat(cache.mightBeBlacked(other)).isTrue();
+        assertThat(cache.mightBeBlacked(unrelated)).isFalse();
+
+        // 2 번 알림 유실 : 3 번을 받는 순간 목록이 불완전하다고 보고 redis 조회
+        publish(next, 3);
+        assertThat(cache.mightBeBlacked(unrelated)).isTrue();
+
+        when(valueOperations.get(BlackTokenCache.SEQUENCE_KEY)).thenReturn("3");
+        when(blackTokenRepository.findAll()).thenReturn(List.of(new BlackToken(other, true, 600000L),
+                new BlackToken(missed, true, 600000L), new BlackToken(next, true, 600000L)));
+        cache.verify();
+        assertThat(cache.mightBeBlacked(missed)).isTrue();
+        assertThat(cache.mightBeBlacked(unrelated)).isFalse();
+    }
+
+    @Test
+    void 마지막_알림이_유실되면_개수가_같아도_다시_불러온다() {
+        String stale = refresh("stale");
+        String missed = refresh("missed");
+        when(valueOperations.get(BlackTokenCache.SEQUENCE_KEY)).thenReturn("1");
+        when(blackTokenRepository.findAll()).thenReturn(List.of(new BlackToken(stale, true, 600000L)));
+        cache.warmUp();
+
+        // redis 에서는 stale 이 지워지고 다른 서버가 missed 를 블랙 처리했지만 알림이 유실됨
+        // 로컬, redis 모두 1개라 개수로는 알 수 없음
+        when(blackTokenRepository.count()).thenReturn(1L);
+        when(valueOperations.get(BlackTokenCache.SEQUENCE_KEY)).thenReturn("2");
+        when(blackTokenRepository.findAll()).thenReturn(List.of(new BlackToken(missed, true, 600000L)));
+        assertThat(cache.mightBeBlacked(missed)).isFalse();
+
+        cache.verify();
+        assertThat(cache.mightBeBlacked(missed)).isTrue();
+
+        // 순번이 같으면 다시 불러오지 않음
+        cache.verify();
+        verify(blackTokenRepository, times(2)).findAll();
+    }
+
+    private void publish(String token, long sequence) {
+        long expiresAt = System.currentTimeMillis() + 600000L;
+        cache.onMessage(new DefaultMessage(BlackTokenCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (JWTUtil.hash(token) + " " + expiresAt + " " + sequence).getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private String refresh(String username) {
+        return jwtUtil.createJwt("refresh", username, "ROLE_USER", 600000L);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.sos.user.jwt;
+
+import com.ssafy.sos.user.domain.CustomOAuth2User;
+import com.ssafy.sos.user.service.JWTService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JWTFilterRotationTest {
+    private final JWTUtil jwtUtil = new JWTUtil(Base64.getEncoder().encodeToString(new byte[32]), 10);
+    private final JWTService jwtService = mock(JWTService.class);
+    private final JWTFilter filter = new JWTFilter(jwtUtil, jwtService);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 동시_요청이면_먼저_발급된_토큰_쌍을_그대로_내려준다() throws Exception {
+        String refresh = jwtUtil.createJwt("refresh", "user", "ROLE_USER", 600000L);
+        when(jwtService.rotate(eq(refresh), anyLong(), anyString(), anyString(), eq(86400000L)))
+                .thenReturn(new RefreshRotation(RefreshRotation.Result.REUSED, "first-access", "first-refresh"));
+
+        MockHttpServletResponse response = filter(expiredAccess(), refresh);
+
+        assertThat(response.getCookie("access").getValue()).isEqualTo("first-access");
+        assertThat(response.getCookie("refresh").getValue()).isEqualTo("first-refresh");
+        CustomOAuth2User principal = (CustomOAuth2User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getUsername()).isEqualTo("user");
+        verify(jwtService, never()).findByToken(any());
+        verify(jwtService, never()).blackTokenSave(any());
+    }
+
+    @Test
+    void 교체가_거절되면_다시_로그인하게_한다() throws Exception {
+        String refresh = jwtUtil.createJwt("refresh", "user", "ROLE_USER", 600000L);
+        when(jwtService.rotate(eq(refresh), anyLong(), anyString(), anyString(), anyLong()))
+                .thenReturn(new RefreshRotation(RefreshRotation.Result.REJECTED, null, null));
+
+        MockHttpServletResponse response = filter(expiredAccess(), refresh);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(response.getCookie("access")).isNull();
+    }
+
+    @Test
+    void refresh_도_만료되었으면_다시_로그인하게_한다() throws Exception {
+        String refresh = jwtUtil.createJwt("refresh", "user", "ROLE_USER", -60000L);
+
+        MockHttpServletResponse response = filter(expiredAccess(), refresh);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(response.getContentAsString()).isEqualTo("do login");
+        verifyNoInteractions(jwtService);
+    }
+
+    private MockHttpServletResponse filter(String access, String refresh) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("access", access), new Cookie("refresh", refresh));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private String expiredAccess() {
+        return jwtUtil.createJwt("access", "user", "ROLE_USER", -60000L);
+    }
+}
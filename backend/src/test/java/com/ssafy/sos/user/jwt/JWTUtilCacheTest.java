@@ -0,0 +1,44 @@
+package com.ssafy.sos.user.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JWTUtilCacheTest {
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET, 2);
+
+    @Test
+    void access_토큰은_한_번만_파싱하고_만료되면_예외() throws InterruptedException {
+        String access = jwtUtil.createJwt("access", "user", "ROLE_USER", 600000L);
+
+        JWTClaims claims = jwtUtil.parse(access);
+        assertThat(jwtUtil.parse(access)).isSameAs(claims);
+        assertThat(claims.getUsername()).isEqualTo("user");
+        assertThat(jwtUtil.getRole(access)).isEqualTo("ROLE_USER");
+
+        String expiring = jwtUtil.createJwt("access", "user", "ROLE_USER", 2000L);
+        jwtUtil.parse(expiring);
+        Thread.sleep(2100);
+        assertThatThrownBy(() -> jwtUtil.parse(expiring)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void refresh_토큰과_위조_토큰은_캐시하지_않는다() {
+        String refresh = jwtUtil.createJwt("refresh", "user", "ROLE_USER", 600000L);
+        assertThat(jwtUtil.parse(refresh)).isNotSameAs(jwtUtil.parse(refresh));
+
+        String forged = new JWTUtil(Base64.getEncoder().encodeToString(new byte[] {
+                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+                17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32}), 2)
+                .createJwt("access", "user", "ROLE_ADMIN", 600000L);
+        assertThatThrownBy(() -> jwtUtil.parse(forged)).isInstanceOf(JwtException.class);
+        assertThat(jwtUtil.getCategory(forged)).isNull();
+    }
+}
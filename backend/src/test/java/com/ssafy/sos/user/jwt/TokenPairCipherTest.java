@@ -0,0 +1,22 @@
+package com.ssafy.sos.user.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenPairCipherTest {
+    private static final byte[] SECRET = "test-secret-test-secret-test-secret".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void 같은_secret_과_refresh_로만_풀린다() {
+        String sealed = TokenPairCipher.seal(SECRET, "old-refresh", "access refresh");
+
+        assertThat(sealed).doesNotContain("access");
+        assertThat(TokenPairCipher.open(SECRET, "old-refresh", sealed)).isEqualTo("access refresh");
+        assertThat(TokenPairCipher.open(SECRET, "other-refresh", sealed)).isNull();
+        assertThat(TokenPairCipher.open("other".getBytes(StandardCharsets.UTF_8), "old-refresh", sealed)).isNull();
+        assertThat(TokenPairCipher.open(SECRET, "old-refresh", "not base64 !")).isNull();
+    }
+}
@@ -0,0 +1,153 @@
+package com.ssafy.sos.user.service;
+
+import com.ssafy.sos.user.jwt.BlackToken;
+import com.ssafy.sos.user.jwt.BlackTokenCache;
+import com.ssafy.sos.user.jwt.JWTUtil;
+import com.ssafy.sos.user.jwt.RefreshRotation;
+import com.ssafy.sos.user.jwt.RefreshToken;
+import com.ssafy.sos.user.repository.BlackTokenRepository;
+import com.ssafy.sos.user.repository.RefreshTokenRepository;
+import com.ssafy.sos.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 교체 스크립트를 내장 redis 에서 실행하고, 결과를 spring data redis 저장소로 다시 읽어 키 구조가 맞는지 확인
+class JWTServiceRotateTest {
+    private static final long DAY = 86400000L;
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RefreshTokenRepository refreshTokenRepository;
+    private static BlackTokenRepository blackTokenRepository;
+
+    private JWTService jwtService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        // 운영과 같이 만료 후 사본(phantom)까지 저장하는 저장소
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        RedisKeyValueAdapter adapter = new RedisKeyValueAdapter(template, mappingContext);
+        adapter.setShadowCopy(RedisKeyValueAdapter.ShadowCopy.ON);
+        adapter.afterPropertiesSet();
+        RedisRepositoryFactory factory = new RedisRepositoryFactory(new RedisKeyValueTemplate(adapter, mappingContext));
+        refreshTokenRepository = factory.getRepository(RefreshTokenRepository.class);
+        blackTokenRepository = factory.getRepository(BlackTokenRepository.class);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        BlackTokenCache blackTokenCache = mock(BlackTokenCache.class);
+        when(blackTokenCache.mightBeBlacked(anyString())).thenReturn(true);
+        jwtService = new JWTService(refreshTokenRepository, mock(UserRepository.class), blackTokenRepository,
+                blackTokenCache, redisTemplate);
+        ReflectionTestUtils.setField(jwtService, "reuseGraceMillis", 10_000L);
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+    }
+
+    @Test
+    void 교체하면_저장소에서_새_refresh_로_조회되고_이전_refresh_는_블랙_처리된다() {
+        refreshTokenRepository.save(new RefreshToken(7L, "old-refresh", "ROLE_USER", DAY));
+
+        RefreshRotation rotation = rotate("old-refresh", "new-access", "new-refresh");
+
+        assertThat(rotation.getResult()).isEqualTo(RefreshRotation.Result.ROTATED);
+        assertThat(refreshTokenRepository.findByToken("new-refresh").getUserId()).isEqualTo(7L);
+        assertThat(refreshTokenRepository.findByToken("old-refresh")).isNull();
+        assertThat(refreshTokenRepository.findById(7L)).get()
+                .extracting(RefreshToken::getToken, RefreshToken::getRole)
+                .containsExactly("new-refresh", "ROLE_USER");
+        assertThat(redisTemplate.opsForSet().members("refresh_token:7:idx"))
+                .containsExactly("refresh_token:token:new-refresh");
+
+        BlackToken blackToken = jwtService.blackFindByToken("old-refresh");
+        assertThat(blackToken.isBlacked()).isTrue();
+        assertThat(blackTokenRepository.count()).isEqualTo(1);
+        assertThat(redisTemplate.getExpire("black_token:old-refresh:phantom"))
+                .isGreaterThan(redisTemplate.getExpire("black_token:old-refresh"));
+        assertThat(redisTemplate.opsForValue().get(BlackTokenCache.SEQUENCE_KEY)).isEqualTo("1");
+    }
+
+    @Test
+    void 유예_시간_안에_같은_refresh_로_오면_먼저_만든_쌍을_돌려준다() {
+        refreshTokenRepository.save(new RefreshToken(7L, "old-refresh", "ROLE_USER", DAY));
+        rotate("old-refresh", "first-access", "first-refresh");
+
+        RefreshRotation again = rotate("old-refresh", "second-access", "second-refresh");
+
+        assertThat(again.getResult()).isEqualTo(RefreshRotation.Result.REUSED);
+        assertThat(again.getAccess()).isEqualTo("first-access");
+        assertThat(again.getRefresh()).isEqualTo("first-refresh");
+        // 교체 기록에는 토큰이 평문으로 남지 않음
+        String stored = redisTemplate.opsForValue().get("refresh_rotation:" + JWTUtil.hash("old-refresh"));
+        assertThat(stored).isNotNull().doesNotContain("first-access").doesNotContain("first-refresh");
+        assertThat(refreshTokenRepository.findByToken("second-refresh")).isNull();
+    }
+
+    @Test
+    void 유예_시간이_지난_재사용과_모르는_refresh_는_거절한다() throws InterruptedException {
+        ReflectionTestUtils.setField(jwtService, "reuseGraceMillis", 1L);
+        refreshTokenRepository.save(new RefreshToken(7L, "old-refresh", "ROLE_USER", DAY));
+        rotate("old-refresh", "first-access", "first-refresh");
+        Thread.sleep(20);
+
+        assertThat(rotate("old-refresh", "second-access", "second-refresh").getResult())
+                .isEqualTo(RefreshRotation.Result.REJECTED);
+        assertThat(rotate("unknown-refresh", "access", "refresh").getResult())
+                .isEqualTo(RefreshRotation.Result.REJECTED);
+        // 회원 id 를 모를 때 넘긴 키에는 아무것도 쓰지 않음
+        assertThat(redisTemplate.hasKey("refresh_token:")).isFalse();
+        assertThat(refreshTokenRepository.findById(7L).get().getToken()).isEqualTo("first-refresh");
+    }
+
+    private RefreshRotation rotate(String refresh, String newAccess, String newRefresh) {
+        return jwtService.rotate(refresh, System.currentTimeMillis() + DAY, newAccess, newRefresh, DAY);
+    }
+}
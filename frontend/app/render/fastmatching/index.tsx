@@ -24,7 +24,8 @@ export default function FastMatching() {
   const [loading, setLoading] = useState(false);
 
   const onConnect = () => {
-    subscribe(`/sub/${nickname}`, message => {
+    // 매칭 결과는 이 연결에만 전달됨
+    subscribe("/user/sub/matching", message => {
       const data = JSON.parse(message.body);
       if (data.message === "MATCHING_SUCCESS") {
         // console.log("매칭 완료");
@@ -44,6 +45,10 @@ export default function FastMatching() {
         window.location.href = `/room/${data.room.gameId}/ingame`;
       }
     });
+    send("/pub/matching", {
+      message: "WAIT_MATCHING",
+      sender: nickname,
+    });
   };
 
   const handleClickCheckButton = async () => {
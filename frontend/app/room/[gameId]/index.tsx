@@ -89,6 +89,15 @@ export default function Room() {
       // 인게임 이동
       alert("게임시작은 방장만 가능합니다.");
     }
+
+    // 오래 방치되어 서버에서 방이 정리된 경우
+    if (
+      socketMessage.message == "ROOM_EXPIRED" ||
+      socketMessage.message == "GAME_EXPIRED"
+    ) {
+      alert("오랫동안 진행되지 않아 방이 닫혔습니다.");
+      router.push("/");
+    }
     // });
 
     // 입장 시, 알림
@@ -112,8 +112,11 @@ export default function Chat() {
   };
 
   useEffect(() => {
-    if (chatMessage.message === "CHATTING") {
-      setMessages((prevMessages: any) => [...prevMessages, chatMessage]);
+    if (chatMessage.message === "CHATTING_HISTORY") {
+      setMessages(chatMessage.chats);
+    }
+    if (chatMessage.message === "CHATTING_BATCH") {
+      setMessages((prevMessages: any) => [...prevMessages, ...chatMessage.chats]);
     }
   }, [chatMessage]);
 
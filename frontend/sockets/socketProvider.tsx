@@ -32,11 +32,14 @@ const SocketProvider = ({ children }: { children: React.ReactNode }) => {
         // if (data.message === "RENDER_COMPLETE_ACCEPTED") {
         //   setRenderList(data.sender);
         // }
-        if (data.message === "CHATTING") {
-          setChatMessage(data);
-        } else {
-          setSocketMessage(data);
-        }
+        setSocketMessage(data);
+      });
+      subscribe(`/sub/${localGameId}/chat`, message => {
+        setChatMessage(JSON.parse(message.body));
+      });
+      // 최근 채팅 기록 (연결될 때마다 한 번)
+      subscribe(`/pub/chat/${localGameId}/history`, message => {
+        setChatMessage(JSON.parse(message.body));
       });
     }
     send("/pub/room", {